@@ -4,14 +4,32 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.backend.backend.config.AdminBoundaryProperties;
+import com.backend.backend.config.GeocodeCacheProperties;
 import com.backend.backend.config.KakaoApiProperties;
 import com.backend.backend.config.ParkingApiProperties;
+import com.backend.backend.config.ParkingLotIndexProperties;
+import com.backend.backend.config.ParkingNearbyProperties;
 import com.backend.backend.config.ParkingStopApiProperties;
+import com.backend.backend.config.ParkingStopAsyncProperties;
+import com.backend.backend.config.ParkingStopBatchProperties;
+import com.backend.backend.config.ParkingStopIndexProperties;
+import com.backend.backend.config.ParkingStopRouteProperties;
+import com.backend.backend.config.ParkingStopStreamProperties;
+import com.backend.backend.config.ParkingTileProperties;
+import com.backend.backend.config.UpstreamResilienceProperties;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
-@EnableConfigurationProperties({ParkingApiProperties.class, KakaoApiProperties.class, ParkingStopApiProperties.class})
+@EnableScheduling
+@EnableConfigurationProperties({ParkingApiProperties.class, KakaoApiProperties.class, ParkingStopApiProperties.class,
+		ParkingStopIndexProperties.class, GeocodeCacheProperties.class,
+		ParkingStopBatchProperties.class, ParkingStopRouteProperties.class,
+		ParkingStopAsyncProperties.class, UpstreamResilienceProperties.class,
+		ParkingStopStreamProperties.class, ParkingLotIndexProperties.class,
+		ParkingNearbyProperties.class, AdminBoundaryProperties.class, ParkingTileProperties.class})
 public class BackendApplication {
 
 	public static void main(String[] args) {
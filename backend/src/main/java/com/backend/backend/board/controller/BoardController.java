@@ -5,6 +5,7 @@ import com.backend.backend.board.entity.Category;
 import com.backend.backend.board.repository.BoardRepository;
 import com.backend.backend.board.repository.CategoryRepository;
 import com.backend.backend.board.repository.CommentRepository;
+import com.backend.backend.board.search.BoardSearchIndex;
 import com.backend.backend.user.AuthController;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +14,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -20,6 +25,8 @@ import java.util.Optional;
 @RequestMapping("/api/board")
 public class BoardController {
 
+    private static final int MAX_CURSOR_LIMIT = 50;
+
     @Autowired
     private BoardRepository boardRepository;
 
@@ -29,6 +36,9 @@ public class BoardController {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+
     @GetMapping("/list")
     public Page<Board> getBoardList(
             @RequestParam(name = "category", required = false) String category,
@@ -42,6 +52,68 @@ public class BoardController {
         return boardRepository.findAll(pageable);
     }
 
+    /** 커서 방식 목록. before(이전 응답의 마지막 글 id) 아래로 limit개를 최신순으로 주고, 전체 건수는 세지 않는다. */
+    @GetMapping("/list/cursor")
+    public Slice<Board> getBoardListByCursor(
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "before", required = false) Long before,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+
+        if (limit < 1 || limit > MAX_CURSOR_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be in [1, " + MAX_CURSOR_LIMIT + "]");
+        }
+        // 한 개 더 읽어서 다음 페이지가 있는지만 본다
+        Limit fetch = Limit.of(limit + 1);
+        List<Board> boards;
+        if (category != null && !category.equals("all")) {
+            Long categoryId = Long.parseLong(category);
+            boards = before != null
+                    ? boardRepository.findByCategory_IdAndIdLessThanOrderByIdDesc(categoryId, before, fetch)
+                    : boardRepository.findByCategory_IdOrderByIdDesc(categoryId, fetch);
+        } else {
+            boards = before != null
+                    ? boardRepository.findByIdLessThanOrderByIdDesc(before, fetch)
+                    : boardRepository.findByOrderByIdDesc(fetch);
+        }
+        boolean hasNext = boards.size() > limit;
+        if (hasNext) {
+            boards = boards.subList(0, limit);
+        }
+        return new SliceImpl<>(boards, Pageable.ofSize(limit), hasNext);
+    }
+
+    /** 제목·본문 검색(관련도 순). 색인이 아직 안 올라왔으면 제목 LIKE 검색으로 대신한다. */
+    @GetMapping("/search")
+    public Page<Board> searchBoards(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "page", defaultValue = "0") int page) {
+
+        Pageable pageable = PageRequest.of(Math.max(page, 0), 10);
+        if (query == null || query.trim().isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Long categoryId = category != null && !category.equals("all") ? Long.parseLong(category) : null;
+        if (!boardSearchIndex.isReady()) {
+            Pageable latest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id").descending());
+            return categoryId != null
+                    ? boardRepository.findByTitleContainingAndCategory_Id(query.trim(), categoryId, latest)
+                    : boardRepository.findByTitleContaining(query.trim(), latest);
+        }
+
+        BoardSearchIndex.Result result = boardSearchIndex.search(query, categoryId,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        // findAllById는 순서를 보장하지 않으므로 순위대로 다시 늘어놓는다
+        Map<Long, Integer> rank = new HashMap<>();
+        List<Long> ids = result.getBoardIds();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        List<Board> boards = boardRepository.findAllById(ids);
+        boards.sort(Comparator.comparing(board -> rank.get(board.getId())));
+        return new PageImpl<>(boards, pageable, result.getTotal());
+    }
+
     @GetMapping("/detail/{id}")
     public Board getBoardDetail(@PathVariable(name = "id") Long id) {
         Optional<Board> board = boardRepository.findById(id);
@@ -59,7 +131,9 @@ public class BoardController {
         if (board.getCategory() != null) {
             board.setCategory(resolveCategory(board.getCategory()));
         }
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        boardSearchIndex.put(saved);
+        return saved;
     }
 
     @PutMapping("/update/{id}")
@@ -84,7 +158,9 @@ public class BoardController {
             if (boardDetails.getWriter() != null && !boardDetails.getWriter().trim().isEmpty()) {
                 board.setWriter(boardDetails.getWriter());
             }
-            return boardRepository.save(board);
+            Board saved = boardRepository.save(board);
+            boardSearchIndex.put(saved);
+            return saved;
         }).orElse(null);
     }
 
@@ -102,6 +178,7 @@ public class BoardController {
 
         commentRepository.deleteByBoard_Id(id);
         boardRepository.deleteById(id);
+        boardSearchIndex.remove(id);
         return "SUCCESS: Deleted ID " + id;
     }
 
@@ -3,6 +3,7 @@ package com.backend.backend.board.controller;
 import com.backend.backend.board.entity.Category;
 import com.backend.backend.board.repository.BoardRepository;
 import com.backend.backend.board.repository.CategoryRepository;
+import com.backend.backend.board.search.BoardSearchIndex;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,8 @@ public class CategoryController {
     private CategoryRepository categoryRepository;
     @Autowired
     private BoardRepository boardRepository;
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
 
     @GetMapping
     public List<Category> list() {
@@ -52,7 +55,10 @@ public class CategoryController {
         for (var board : boards) {
             board.setCategory(null);
         }
-        boardRepository.saveAll(boards);
+        // 카테고리 필터 검색이 지워진 카테고리로 이 글들을 찾지 않도록 색인의 카테고리도 갱신한다.
+        for (var saved : boardRepository.saveAll(boards)) {
+            boardSearchIndex.put(saved);
+        }
         categoryRepository.deleteById(id);
     }
 
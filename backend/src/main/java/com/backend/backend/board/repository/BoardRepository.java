@@ -1,6 +1,7 @@
 package com.backend.backend.board.repository;
 
 import com.backend.backend.board.entity.Board;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,4 +14,11 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     Page<Board> findByCategory_Id(Long categoryId, Pageable pageable);
     List<Board> findByCategory_Id(Long categoryId);
     Page<Board> findByTitleContaining(String title, Pageable pageable);
+    Page<Board> findByTitleContainingAndCategory_Id(String title, Long categoryId, Pageable pageable);
+
+    // 커서(키셋) 목록: id 인덱스를 따라 before 아래에서 limit개만 읽는다(count 쿼리·OFFSET 없음)
+    List<Board> findByOrderByIdDesc(Limit limit);
+    List<Board> findByIdLessThanOrderByIdDesc(Long before, Limit limit);
+    List<Board> findByCategory_IdOrderByIdDesc(Long categoryId, Limit limit);
+    List<Board> findByCategory_IdAndIdLessThanOrderByIdDesc(Long categoryId, Long before, Limit limit);
 }
\ No newline at end of file
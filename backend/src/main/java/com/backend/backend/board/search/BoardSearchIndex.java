@@ -0,0 +1,444 @@
+package com.backend.backend.board.search;
+
+import com.backend.backend.board.entity.Board;
+import com.backend.backend.board.repository.BoardRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+// 게시글 제목·본문 전문 검색용 메모리 역색인.
+// 글자 단위 바이그램(한국어는 띄어쓰기·조사 때문에 단어 단위로 자르기 어렵다)과, 한 글자 검색어용 유니그램을 색인한다.
+// 게시글마다 슬롯 번호를 새로 붙이고(수정하면 새 슬롯) 색인어별로 슬롯 오름차순 배열을 두므로, 추가는 배열 끝에 붙이기다.
+// 지우거나 수정한 글의 이전 슬롯은 목록에서 바로 빼지 않고 죽은 슬롯(boardIds 0)으로 두어 검색에서 건너뛴다.
+// 죽은 슬롯이 산 슬롯보다 많아지면 산 슬롯을 순서대로 다시 번호 매겨 슬롯 배열과 모든 목록을 한 번에 압축한다.
+// 검색은 검색어의 모든 색인어를 가진 글(AND)을 가장 드문 색인어부터 교집합으로 좁힌 뒤 BM25로 점수를 매긴다.
+// 제목에 나온 색인어는 TITLE_WEIGHT배로 센다. 비용은 전체 글 수가 아니라 가장 드문 색인어의 글 수에 비례한다.
+@Component
+public class BoardSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final int INITIAL_SLOTS = 1024;
+    // 이만큼 죽은 슬롯이 쌓이기 전에는 압축하지 않는다(글이 적을 때 잦은 압축을 막는다)
+    private static final int COMPACT_MIN_DEAD = 1024;
+    private static final long UNIGRAM = 1L << 32;
+
+    private final BoardRepository boardRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 색인어 -> 그 색인어가 나온 슬롯(오름차순, 죽은 슬롯 포함)과 가중 빈도
+    private final Map<Long, Postings> postings = new HashMap<>();
+    // 게시글 id -> 현재 슬롯
+    private final Map<Long, Integer> slots = new HashMap<>();
+    // 슬롯별 게시글 id(지워진 슬롯은 0), 카테고리 id(없으면 0), 가중 길이, 색인어 목록(삭제 때 쓴다)
+    private long[] boardIds = new long[INITIAL_SLOTS];
+    private long[] categoryIds = new long[INITIAL_SLOTS];
+    private int[] lengths = new int[INITIAL_SLOTS];
+    private long[][] termsBySlot = new long[INITIAL_SLOTS][];
+    private int nextSlot;
+    private long totalLength;
+    private volatile boolean ready;
+
+    public BoardSearchIndex(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    // 기동 데이터(CommandLineRunner)까지 들어간 뒤 한 번 전체를 올린다. 적재 중의 글쓰기는 잠금에서 기다린다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            int page = 0;
+            Page<Board> boards;
+            do {
+                boards = boardRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+                for (Board board : boards) {
+                    putLocked(board);
+                }
+            } while (boards.hasNext());
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("[BoardSearch] indexed " + slots.size() + " posts (" + postings.size() + " terms) in "
+                + (System.currentTimeMillis() - started) + " ms");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 새 글과 수정된 글 모두 이걸로 반영한다(이전 내용은 지운다).
+    public void put(Board board) {
+        if (board == null || board.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            putLocked(board);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long boardId) {
+        if (boardId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수 순(같으면 게시글 id가 큰 = 최신 글 먼저)으로 offset부터 limit개의 게시글 id와, 조건에 맞는 전체 글 수.
+    // categoryId가 null이면 전체 카테고리. 색인어가 하나도 없는 검색어는 빈 결과다.
+    public Result search(String query, Long categoryId, int offset, int limit) {
+        long[] queryTerms = distinctTerms(query);
+        if (queryTerms.length == 0 || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[queryTerms.length];
+            for (int i = 0; i < queryTerms.length; i++) {
+                lists[i] = postings.get(queryTerms[i]);
+                if (lists[i] == null) {
+                    return new Result(List.of(), 0);
+                }
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.live, b.live));
+
+            int docs = slots.size();
+            double averageLength = docs == 0 ? 1 : Math.max(1, (double) totalLength / docs);
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (docs - lists[i].live + 0.5) / (lists[i].live + 0.5));
+            }
+
+            // 상위 offset + limit개만 남기는 최소 힙(점수, 같으면 게시글 id가 작은 = 오래된 글이 먼저 밀려난다).
+            // 수정된 글은 새 슬롯을 받으므로 슬롯 순서는 작성 순서가 아니다.
+            Postings rarest = lists[0];
+            int keep = (int) Math.min((long) offset + limit, rarest.live);
+            PriorityQueue<double[]> top = new PriorityQueue<>(keep + 1, (a, b) -> a[0] != b[0]
+                    ? Double.compare(a[0], b[0])
+                    : Long.compare(boardIds[(int) a[1]], boardIds[(int) b[1]]));
+            int[] cursors = new int[lists.length];
+            int total = 0;
+            for (int i = 0; i < rarest.size; i++) {
+                int slot = rarest.slots[i];
+                if (boardIds[slot] == 0 || categoryId != null && categoryIds[slot] != categoryId) {
+                    continue;
+                }
+                double score = score(idf[0], rarest.weights[i], lengths[slot], averageLength);
+                boolean all = true;
+                for (int t = 1; t < lists.length && all; t++) {
+                    int found = lists[t].seek(slot, cursors[t]);
+                    cursors[t] = found < 0 ? -found - 1 : found;
+                    if (found < 0) {
+                        all = false;
+                    } else {
+                        score += score(idf[t], lists[t].weights[found], lengths[slot], averageLength);
+                    }
+                }
+                if (!all) {
+                    continue;
+                }
+                total++;
+                top.add(new double[]{score, slot});
+                if (top.size() > keep) {
+                    top.poll();
+                }
+            }
+
+            List<Long> ids = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ids.add(boardIds[(int) top.poll()[1]]);
+            }
+            Collections.reverse(ids);
+            return new Result(offset < ids.size() ? ids.subList(offset, ids.size()) : List.of(), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 지금까지 나눠 준 슬롯 수(죽은 슬롯 포함). 압축 뒤에는 산 글 수로 돌아간다.
+    int slotCount() {
+        lock.readLock().lock();
+        try {
+            return nextSlot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double score(double idf, int weight, int length, double averageLength) {
+        return idf * weight * (K1 + 1) / (weight + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private void putLocked(Board board) {
+        removeLocked(board.getId());
+        Map<Long, int[]> weights = new HashMap<>();
+        int length = countTerms(board.getTitle(), TITLE_WEIGHT, weights)
+                + countTerms(board.getContent(), 1, weights);
+        int slot = nextSlot++;
+        ensureCapacity(slot);
+        long[] terms = new long[weights.size()];
+        int n = 0;
+        for (Map.Entry<Long, int[]> entry : weights.entrySet()) {
+            terms[n++] = entry.getKey();
+            postings.computeIfAbsent(entry.getKey(), k -> new Postings()).append(slot, entry.getValue()[0]);
+        }
+        boardIds[slot] = board.getId();
+        categoryIds[slot] = board.getCategory() != null && board.getCategory().getId() != null
+                ? board.getCategory().getId() : 0;
+        lengths[slot] = length;
+        termsBySlot[slot] = terms;
+        slots.put(board.getId(), slot);
+        totalLength += length;
+    }
+
+    private void removeLocked(Long boardId) {
+        Integer slot = slots.remove(boardId);
+        if (slot == null) {
+            return;
+        }
+        // 목록에서는 빼지 않고(검색이 boardIds 0을 보고 건너뛴다) 산 글 수만 줄인다.
+        for (long term : termsBySlot[slot]) {
+            Postings list = postings.get(term);
+            if (list != null && --list.live == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= lengths[slot];
+        boardIds[slot] = 0;
+        termsBySlot[slot] = null;
+        compactIfSparse();
+    }
+
+    // 죽은 슬롯이 산 슬롯보다 많으면 산 슬롯을 앞에서부터 다시 번호 매긴다.
+    // 새 번호는 옛 번호와 같은 순서라 목록의 오름차순이 그대로 유지된다. 비용은 슬롯 수 + 목록 길이 합이고,
+    // 직전 압축 이후 산 글 수만큼 지워져야 다시 일어나므로 삭제 한 번당 상수로 나눠진다.
+    private void compactIfSparse() {
+        int live = slots.size();
+        int dead = nextSlot - live;
+        if (dead < COMPACT_MIN_DEAD || dead <= live) {
+            return;
+        }
+        int[] moved = new int[nextSlot];
+        int capacity = INITIAL_SLOTS;
+        while (capacity < live) {
+            capacity *= 2;
+        }
+        long[] newBoardIds = new long[capacity];
+        long[] newCategoryIds = new long[capacity];
+        int[] newLengths = new int[capacity];
+        long[][] newTermsBySlot = new long[capacity][];
+        int next = 0;
+        for (int slot = 0; slot < nextSlot; slot++) {
+            if (boardIds[slot] == 0) {
+                moved[slot] = -1;
+                continue;
+            }
+            moved[slot] = next;
+            newBoardIds[next] = boardIds[slot];
+            newCategoryIds[next] = categoryIds[slot];
+            newLengths[next] = lengths[slot];
+            newTermsBySlot[next] = termsBySlot[slot];
+            next++;
+        }
+        for (Postings list : postings.values()) {
+            list.compact(moved);
+        }
+        for (Map.Entry<Long, Integer> entry : slots.entrySet()) {
+            entry.setValue(moved[entry.getValue()]);
+        }
+        boardIds = newBoardIds;
+        categoryIds = newCategoryIds;
+        lengths = newLengths;
+        termsBySlot = newTermsBySlot;
+        nextSlot = next;
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < boardIds.length) {
+            return;
+        }
+        int capacity = boardIds.length * 2;
+        boardIds = Arrays.copyOf(boardIds, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        termsBySlot = Arrays.copyOf(termsBySlot, capacity);
+    }
+
+    // 텍스트의 색인어마다 weight를 더하고, 더한 총량(가중 길이)을 돌려준다.
+    private static int countTerms(String text, int weight, Map<Long, int[]> weights) {
+        int[] length = new int[1];
+        forEachTerm(text, term -> {
+            weights.computeIfAbsent(term, k -> new int[1])[0] += weight;
+            length[0] += weight;
+        });
+        return length[0];
+    }
+
+    // 검색어의 색인어: 두 글자 이상인 토큰은 바이그램만, 한 글자 토큰은 유니그램.
+    private static long[] distinctTerms(String query) {
+        List<Long> terms = new ArrayList<>();
+        forEachToken(query, (text, from, to) -> {
+            if (to - from == 1) {
+                addDistinct(terms, UNIGRAM | text.charAt(from));
+            }
+            for (int i = from; i + 1 < to; i++) {
+                addDistinct(terms, bigram(text.charAt(i), text.charAt(i + 1)));
+            }
+        });
+        return terms.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void addDistinct(List<Long> terms, long term) {
+        if (!terms.contains(term)) {
+            terms.add(term);
+        }
+    }
+
+    // 문서의 색인어: 토큰 안의 모든 바이그램과 모든 글자(유니그램).
+    private static void forEachTerm(String text, LongConsumer action) {
+        forEachToken(text, (normalized, from, to) -> {
+            for (int i = from; i < to; i++) {
+                action.accept(UNIGRAM | normalized.charAt(i));
+                if (i + 1 < to) {
+                    action.accept(bigram(normalized.charAt(i), normalized.charAt(i + 1)));
+                }
+            }
+        });
+    }
+
+    private static long bigram(char first, char second) {
+        return ((long) first << 16) | second;
+    }
+
+    // 글자·숫자가 이어진 구간을 토큰으로 본다(소문자로 바꾼 문자열 위의 [from, to)).
+    private static void forEachToken(String text, TokenHandler handler) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = text.toLowerCase();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean word = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                handler.token(normalized, start, i);
+                start = -1;
+            }
+        }
+    }
+
+    private interface TokenHandler {
+        void token(String text, int from, int to);
+    }
+
+    // 한 색인어의 슬롯 목록(오름차순)과 슬롯별 가중 빈도. size는 죽은 슬롯을 포함한 길이, live는 산 글 수(문서 빈도).
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+        private int live;
+
+        private void append(int slot, int weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size] = weight;
+            size++;
+            live++;
+        }
+
+        // 죽은 슬롯(moved -1)을 빼고 나머지를 새 번호로 바꾼다. 많이 줄었으면 배열도 줄인다.
+        private void compact(int[] moved) {
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                int slot = moved[slots[i]];
+                if (slot >= 0) {
+                    slots[n] = slot;
+                    weights[n] = weights[i];
+                    n++;
+                }
+            }
+            size = n;
+            if (slots.length > 4 && n < slots.length / 4) {
+                slots = Arrays.copyOf(slots, Math.max(4, n * 2));
+                weights = Arrays.copyOf(weights, Math.max(4, n * 2));
+            }
+        }
+
+        // from 이후에서 slot의 위치(없으면 -(들어갈 위치) - 1). 교집합을 도는 동안 from은 앞으로만 간다.
+        // 간격을 두 배씩 넓혀 범위를 잡은 뒤 이진 탐색한다(긴 목록을 짧은 목록 길이에 가까운 비용으로 건너뛴다).
+        private int seek(int slot, int from) {
+            int step = 1;
+            int high = from;
+            while (high < size && slots[high] < slot) {
+                from = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            return Arrays.binarySearch(slots, from, Math.min(high + 1, size), slot);
+        }
+    }
+
+    // 한 페이지의 게시글 id(순위 순)와 조건에 맞는 전체 글 수
+    public static final class Result {
+        private final List<Long> boardIds;
+        private final int total;
+
+        private Result(List<Long> boardIds, int total) {
+            this.boardIds = boardIds;
+            this.total = total;
+        }
+
+        public List<Long> getBoardIds() {
+            return boardIds;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.backend.backend.common.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+// Writer for the compact binary wire format, straight onto a response stream.
+// Integers are LEB128 varints (signed ones zigzag-encoded). Coordinates are fixed-point 1e-7 degrees,
+// each written as the difference from the previous value of the same axis, so nearby points cost 2-4 bytes.
+// Strings go through a table built while writing: the first occurrence is sent inline, and every repeat is
+// sent as its table index. A new string only carries what differs from the previous new string of the same
+// column (addresses and ids of neighbouring lots share long prefixes).
+//   string: varint 0 = null, n >= 2 = table entry n - 2,
+//           1 = new string: varint shared prefix (chars), varint suffix byte length, suffix UTF-8
+public final class CompactWriter {
+    public static final double COORDINATE_SCALE = 1e7;
+    public static final int MAX_COLUMNS = 8;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[8192];
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final String[] previousByColumn = new String[MAX_COLUMNS];
+    private int position;
+    private long previousLat;
+    private long previousLon;
+
+    public CompactWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    public CompactWriter writeByte(int value) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public CompactWriter writeVarint(long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            writeByte((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        return writeByte((int) value);
+    }
+
+    public CompactWriter writeSignedVarint(long value) throws IOException {
+        return writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    public CompactWriter writeString(String value) throws IOException {
+        return writeString(0, value);
+    }
+
+    // column (0..MAX_COLUMNS-1) groups strings of one field for prefix sharing.
+    public CompactWriter writeString(int column, String value) throws IOException {
+        if (value == null) {
+            return writeVarint(0);
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            return writeVarint(index + 2L);
+        }
+        strings.put(value, strings.size());
+        int shared = sharedPrefix(previousByColumn[column], value);
+        previousByColumn[column] = value;
+        writeVarint(1);
+        writeVarint(shared);
+        writeVarint(utf8Length(value, shared));
+        // UTF-8 by hand so the string is never copied into a byte[] first
+        for (int i = shared; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                writeByte(ch);
+            } else if (ch < 0x800) {
+                writeByte(0xc0 | (ch >> 6));
+                writeByte(0x80 | (ch & 0x3f));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                writeByte(0xf0 | (codePoint >> 18));
+                writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+                writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+                writeByte(0x80 | (codePoint & 0x3f));
+            } else {
+                // a lone surrogate is not valid UTF-8; send U+FFFD instead
+                if (Character.isSurrogate(ch)) {
+                    ch = '\uFFFD';
+                }
+                writeByte(0xe0 | (ch >> 12));
+                writeByte(0x80 | ((ch >> 6) & 0x3f));
+                writeByte(0x80 | (ch & 0x3f));
+            }
+        }
+        return this;
+    }
+
+    // Common prefix in chars, never splitting a surrogate pair.
+    private static int sharedPrefix(String previous, String value) {
+        if (previous == null) {
+            return 0;
+        }
+        int limit = Math.min(previous.length(), value.length());
+        int shared = 0;
+        while (shared < limit && previous.charAt(shared) == value.charAt(shared)) {
+            shared++;
+        }
+        if (shared > 0 && shared < value.length() && Character.isHighSurrogate(value.charAt(shared - 1))) {
+            shared--;
+        }
+        return shared;
+    }
+
+    private static int utf8Length(String value, int from) {
+        int length = 0;
+        for (int i = from; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                length += 1;
+            } else if (ch < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    // One point as (lat, lon) deltas from the previous point written by this writer.
+    public CompactWriter writeCoordinate(double latitude, double longitude) throws IOException {
+        long lat = Math.round(latitude * COORDINATE_SCALE);
+        long lon = Math.round(longitude * COORDINATE_SCALE);
+        writeSignedVarint(lat - previousLat);
+        writeSignedVarint(lon - previousLon);
+        previousLat = lat;
+        previousLon = lon;
+        return this;
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
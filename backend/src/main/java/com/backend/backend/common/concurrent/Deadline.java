@@ -0,0 +1,29 @@
+package com.backend.backend.common.concurrent;
+
+import java.time.Duration;
+
+// One time budget shared by every stage of a request.
+public final class Deadline {
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline afterMillis(long millis) {
+        return new Deadline(System.nanoTime() + Duration.ofMillis(millis).toNanos());
+    }
+
+    public long remainingMillis() {
+        return Math.max(0L, Duration.ofNanos(deadlineNanos - System.nanoTime()).toMillis());
+    }
+
+    // Remaining budget, never below 1 ms so it can be passed to APIs that reject zero.
+    public Duration remaining() {
+        return Duration.ofMillis(Math.max(1L, remainingMillis()));
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+}
@@ -0,0 +1,276 @@
+package com.backend.backend.common.geo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+// Point -> administrative region (si/do + si/gun/gu) over boundary polygons, without any remote call.
+// A regular lat/lon grid sits over the polygons. Cells that no boundary edge crosses lie wholly inside one
+// region (or none), so their answer is precomputed and a lookup is one array read. Cells on a boundary keep the
+// few regions whose bounding box touches them and run an even-odd ray cast on those only.
+// Immutable after build; shared without locking.
+public class AdminBoundaryIndex {
+    private static final int NONE = -1;
+
+    private final List<Region> regions;
+    private final double minLat;
+    private final double minLon;
+    private final double cellDegrees;
+    private final int rows;
+    private final int cols;
+    // Precomputed region per interior cell; NONE when outside every region or when the cell is on a boundary.
+    private final int[] interior;
+    // Candidate regions for boundary cells (null for interior cells).
+    private final int[][] candidates;
+    private final int boundaryCells;
+
+    private AdminBoundaryIndex(List<Region> regions, double minLat, double minLon, double cellDegrees,
+                               int rows, int cols, int[] interior, int[][] candidates, int boundaryCells) {
+        this.regions = regions;
+        this.minLat = minLat;
+        this.minLon = minLon;
+        this.cellDegrees = cellDegrees;
+        this.rows = rows;
+        this.cols = cols;
+        this.interior = interior;
+        this.candidates = candidates;
+        this.boundaryCells = boundaryCells;
+    }
+
+    public static AdminBoundaryIndex build(List<Region> regions, double cellDegrees) {
+        if (!(cellDegrees > 0)) {
+            throw new IllegalArgumentException("cellDegrees must be positive: " + cellDegrees);
+        }
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (Region region : regions) {
+            minLat = Math.min(minLat, region.minLat);
+            maxLat = Math.max(maxLat, region.maxLat);
+            minLon = Math.min(minLon, region.minLon);
+            maxLon = Math.max(maxLon, region.maxLon);
+        }
+        if (regions.isEmpty()) {
+            return new AdminBoundaryIndex(regions, 0, 0, cellDegrees, 0, 0, new int[0], new int[0][], 0);
+        }
+        int rows = (int) Math.floor((maxLat - minLat) / cellDegrees) + 1;
+        int cols = (int) Math.floor((maxLon - minLon) / cellDegrees) + 1;
+
+        // Pass 1: mark every cell that a boundary edge passes through.
+        boolean[] boundary = new boolean[rows * cols];
+        for (Region region : regions) {
+            for (double[] ring : region.rings) {
+                for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+                    markEdge(boundary, rows, cols, minLat, minLon, cellDegrees,
+                            ring[j + 1], ring[j], ring[i + 1], ring[i]);
+                }
+            }
+        }
+
+        // Pass 2: regions whose bounding box touches each cell, filled from each region's cell range.
+        int[] counts = new int[rows * cols];
+        for (Region region : regions) {
+            forEachCell(region, rows, cols, minLat, minLon, cellDegrees, cell -> counts[cell]++);
+        }
+        int[][] overlapping = new int[rows * cols][];
+        for (int cell = 0; cell < counts.length; cell++) {
+            overlapping[cell] = new int[counts[cell]];
+            counts[cell] = 0;
+        }
+        for (int r = 0; r < regions.size(); r++) {
+            int region = r;
+            forEachCell(regions.get(r), rows, cols, minLat, minLon, cellDegrees,
+                    cell -> overlapping[cell][counts[cell]++] = region);
+        }
+
+        // Pass 3: interior cells get their answer from the cell centre; boundary cells keep their candidates.
+        int[] interior = new int[rows * cols];
+        int[][] candidates = new int[rows * cols][];
+        int boundaryCells = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cell = row * cols + col;
+                if (boundary[cell]) {
+                    interior[cell] = NONE;
+                    candidates[cell] = overlapping[cell];
+                    boundaryCells++;
+                } else {
+                    interior[cell] = locate(regions, overlapping[cell],
+                            minLat + (row + 0.5) * cellDegrees, minLon + (col + 0.5) * cellDegrees);
+                }
+            }
+        }
+        return new AdminBoundaryIndex(regions, minLat, minLon, cellDegrees, rows, cols, interior, candidates, boundaryCells);
+    }
+
+    // Region containing the point, or null outside every boundary.
+    public Region find(double latitude, double longitude) {
+        int row = (int) Math.floor((latitude - minLat) / cellDegrees);
+        int col = (int) Math.floor((longitude - minLon) / cellDegrees);
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return null;
+        }
+        int cell = row * cols + col;
+        int[] cellCandidates = candidates[cell];
+        if (cellCandidates == null) {
+            return interior[cell] == NONE ? null : regions.get(interior[cell]);
+        }
+        for (int r : cellCandidates) {
+            if (regions.get(r).contains(latitude, longitude)) {
+                return regions.get(r);
+            }
+        }
+        return null;
+    }
+
+    public int regionCount() {
+        return regions.size();
+    }
+
+    public int cellCount() {
+        return rows * cols;
+    }
+
+    public int boundaryCellCount() {
+        return boundaryCells;
+    }
+
+    private static int locate(List<Region> regions, int[] found, double latitude, double longitude) {
+        for (int r : found) {
+            if (regions.get(r).contains(latitude, longitude)) {
+                return r;
+            }
+        }
+        return NONE;
+    }
+
+    private static void forEachCell(Region region, int rows, int cols, double minLat, double minLon, double cellDegrees,
+                                    IntConsumer action) {
+        int rowFrom = clamp((int) Math.floor((region.minLat - minLat) / cellDegrees), rows);
+        int rowTo = clamp((int) Math.floor((region.maxLat - minLat) / cellDegrees), rows);
+        int colFrom = clamp((int) Math.floor((region.minLon - minLon) / cellDegrees), cols);
+        int colTo = clamp((int) Math.floor((region.maxLon - minLon) / cellDegrees), cols);
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                action.accept(row * cols + col);
+            }
+        }
+    }
+
+    // Marks the cells an edge (lat1,lon1)-(lat2,lon2) passes through: every cell in the edge's bounding box
+    // range that the segment actually intersects.
+    private static void markEdge(boolean[] boundary, int rows, int cols, double minLat, double minLon, double cellDegrees,
+                                 double lat1, double lon1, double lat2, double lon2) {
+        int rowFrom = clamp((int) Math.floor((Math.min(lat1, lat2) - minLat) / cellDegrees), rows);
+        int rowTo = clamp((int) Math.floor((Math.max(lat1, lat2) - minLat) / cellDegrees), rows);
+        int colFrom = clamp((int) Math.floor((Math.min(lon1, lon2) - minLon) / cellDegrees), cols);
+        int colTo = clamp((int) Math.floor((Math.max(lon1, lon2) - minLon) / cellDegrees), cols);
+        for (int row = rowFrom; row <= rowTo; row++) {
+            double south = minLat + row * cellDegrees;
+            for (int col = colFrom; col <= colTo; col++) {
+                double west = minLon + col * cellDegrees;
+                if (segmentHitsBox(lat1, lon1, lat2, lon2, south, west, south + cellDegrees, west + cellDegrees)) {
+                    boundary[row * cols + col] = true;
+                }
+            }
+        }
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    // Segment vs axis-aligned box (Liang-Barsky clipping), boundaries inclusive.
+    private static boolean segmentHitsBox(double lat1, double lon1, double lat2, double lon2,
+                                          double south, double west, double north, double east) {
+        double t0 = 0;
+        double t1 = 1;
+        double dLon = lon2 - lon1;
+        double dLat = lat2 - lat1;
+        double[] p = {-dLon, dLon, -dLat, dLat};
+        double[] q = {lon1 - west, east - lon1, lat1 - south, north - lat1};
+        for (int i = 0; i < 4; i++) {
+            if (p[i] == 0) {
+                if (q[i] < 0) {
+                    return false;
+                }
+            } else {
+                double t = q[i] / p[i];
+                if (p[i] < 0) {
+                    t0 = Math.max(t0, t);
+                } else {
+                    t1 = Math.min(t1, t);
+                }
+                if (t0 > t1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // One administrative region: names plus its rings (outer boundaries and holes alike) as interleaved lon,lat.
+    public static final class Region {
+        private final String region1;
+        private final String region2;
+        private final double[][] rings;
+        private final double minLat;
+        private final double maxLat;
+        private final double minLon;
+        private final double maxLon;
+
+        public Region(String region1, String region2, List<double[]> rings) {
+            this.region1 = region1;
+            this.region2 = region2;
+            this.rings = rings.toArray(new double[0][]);
+            double loLat = Double.POSITIVE_INFINITY;
+            double hiLat = Double.NEGATIVE_INFINITY;
+            double loLon = Double.POSITIVE_INFINITY;
+            double hiLon = Double.NEGATIVE_INFINITY;
+            for (double[] ring : this.rings) {
+                for (int i = 0; i < ring.length; i += 2) {
+                    loLon = Math.min(loLon, ring[i]);
+                    hiLon = Math.max(hiLon, ring[i]);
+                    loLat = Math.min(loLat, ring[i + 1]);
+                    hiLat = Math.max(hiLat, ring[i + 1]);
+                }
+            }
+            this.minLat = loLat;
+            this.maxLat = hiLat;
+            this.minLon = loLon;
+            this.maxLon = hiLon;
+        }
+
+        // Even-odd ray casting over all rings, so holes (and enclaves cut out of a region) are handled.
+        public boolean contains(double latitude, double longitude) {
+            if (latitude < minLat || latitude > maxLat || longitude < minLon || longitude > maxLon) {
+                return false;
+            }
+            boolean inside = false;
+            for (double[] ring : rings) {
+                for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+                    double latI = ring[i + 1];
+                    double latJ = ring[j + 1];
+                    if ((latI > latitude) != (latJ > latitude)
+                            && longitude < (ring[j] - ring[i]) * (latitude - latI) / (latJ - latI) + ring[i]) {
+                        inside = !inside;
+                    }
+                }
+            }
+            return inside;
+        }
+
+        public String getRegion1() {
+            return region1;
+        }
+
+        public String getRegion2() {
+            return region2;
+        }
+
+        public int vertexCount() {
+            return Arrays.stream(rings).mapToInt(ring -> ring.length / 2).sum();
+        }
+    }
+}
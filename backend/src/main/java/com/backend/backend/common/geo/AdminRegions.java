@@ -0,0 +1,137 @@
+package com.backend.backend.common.geo;
+
+import com.backend.backend.config.AdminBoundaryProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// Offline region lookup shared by the services that used to ask Kakao coord2regioncode.
+// Loads the boundary GeoJSON once at startup; without the file every lookup answers "not available"
+// and callers keep using their remote path.
+@Component
+public class AdminRegions {
+    private final AdminBoundaryProperties properties;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile AdminBoundaryIndex index;
+    private volatile String status = "NOT_LOADED";
+    private volatile long loadMs;
+
+    public AdminRegions(AdminBoundaryProperties properties, ResourceLoader resourceLoader) {
+        this.properties = properties;
+        this.resourceLoader = resourceLoader;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!properties.isEnabled() || !StringUtils.hasText(properties.getPath())) {
+            status = "DISABLED";
+            return;
+        }
+        Resource resource = resourceLoader.getResource(properties.getPath());
+        if (!resource.exists()) {
+            status = "MISSING";
+            System.out.println("[AdminRegion] no boundary file at " + properties.getPath() + "; using remote region lookup");
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try (InputStream in = resource.getInputStream()) {
+            List<AdminBoundaryIndex.Region> regions = parseFeatures(objectMapper.readTree(in));
+            index = AdminBoundaryIndex.build(regions, properties.getCellDegrees());
+            loadMs = System.currentTimeMillis() - started;
+            status = "LOADED";
+            System.out.println("[AdminRegion] loaded " + regions.size() + " regions (" + index.boundaryCellCount() + "/"
+                    + index.cellCount() + " boundary cells) in " + loadMs + " ms");
+        } catch (Exception e) {
+            status = "FAILED";
+            System.out.println("[AdminRegion error] " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return index != null;
+    }
+
+    // Region containing the point, or null outside every boundary. Only meaningful when isAvailable().
+    public AdminBoundaryIndex.Region find(double latitude, double longitude) {
+        AdminBoundaryIndex current = index;
+        return current != null ? current.find(latitude, longitude) : null;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        AdminBoundaryIndex current = index;
+        stats.put("status", status);
+        stats.put("regions", current != null ? current.regionCount() : 0);
+        stats.put("cells", current != null ? current.cellCount() : 0);
+        stats.put("boundaryCells", current != null ? current.boundaryCellCount() : 0);
+        stats.put("loadMs", loadMs);
+        return stats;
+    }
+
+    private List<AdminBoundaryIndex.Region> parseFeatures(JsonNode root) {
+        List<AdminBoundaryIndex.Region> regions = new ArrayList<>();
+        for (JsonNode feature : root.path("features")) {
+            JsonNode props = feature.path("properties");
+            String region1 = text(props, properties.getRegion1Keys());
+            String region2 = text(props, properties.getRegion2Keys());
+            if (region1 == null && region2 == null) {
+                continue;
+            }
+            List<double[]> rings = new ArrayList<>();
+            JsonNode geometry = feature.path("geometry");
+            String type = geometry.path("type").asText();
+            if ("Polygon".equals(type)) {
+                addRings(rings, geometry.path("coordinates"));
+            } else if ("MultiPolygon".equals(type)) {
+                for (JsonNode polygon : geometry.path("coordinates")) {
+                    addRings(rings, polygon);
+                }
+            }
+            if (!rings.isEmpty()) {
+                regions.add(new AdminBoundaryIndex.Region(region1, region2, rings));
+            }
+        }
+        return regions;
+    }
+
+    // GeoJSON positions are [lon, lat]; anything outside WGS84 ranges means a projected file (e.g. UTM-K).
+    private static void addRings(List<double[]> rings, JsonNode polygon) {
+        for (JsonNode ring : polygon) {
+            double[] coordinates = new double[ring.size() * 2];
+            int n = 0;
+            for (JsonNode position : ring) {
+                double lon = position.path(0).asDouble(Double.NaN);
+                double lat = position.path(1).asDouble(Double.NaN);
+                if (!(Math.abs(lon) <= 180 && Math.abs(lat) <= 90)) {
+                    throw new IllegalStateException("boundary coordinates must be WGS84 lon/lat: [" + lon + ", " + lat + "]");
+                }
+                coordinates[n++] = lon;
+                coordinates[n++] = lat;
+            }
+            if (n >= 6) {
+                rings.add(coordinates);
+            }
+        }
+    }
+
+    private static String text(JsonNode node, List<String> keys) {
+        for (String key : keys) {
+            String value = node.path(key).asText(null);
+            if (StringUtils.hasText(value)) {
+                return value.trim();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.backend.backend.common.geo;
+
+// Distances from one fixed query point to many candidates, in two stages:
+// a cheap lower bound that rejects candidates without any trig, then exact haversine for the survivors,
+// computed in batches over primitive coordinate arrays with the query-side terms hoisted out of the loop.
+// Exact distances are bit-identical to GeoDistance.haversineMeters, so callers can mix the two.
+public final class DistanceEngine {
+    public static final double METERS_PER_DEG_LAT = Math.toRadians(1) * GeoDistance.EARTH_RADIUS_METERS;
+    // Within this latitude band the planar bound below stays under the true distance (see lowerBoundMeters).
+    private static final double PLANAR_BAND_DEG = 0.5;
+    // Covers cos(lat) drift across the band and the planar/spherical gap (~0.7% at 38N).
+    private static final double PLANAR_SLACK = 0.99;
+
+    private final double latitude;
+    private final double longitude;
+    private final double cosLatitude;
+    private final double metersPerDegLon;
+
+    private DistanceEngine(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.cosLatitude = Math.cos(Math.toRadians(latitude));
+        this.metersPerDegLon = METERS_PER_DEG_LAT * cosLatitude;
+    }
+
+    public static DistanceEngine from(double latitude, double longitude) {
+        return new DistanceEngine(latitude, longitude);
+    }
+
+    // A distance that is never larger than the exact one. Near the query it is the local equirectangular
+    // distance with a small slack; further north or south it falls back to the latitude gap alone,
+    // which bounds any great circle.
+    public double lowerBoundMeters(double lat, double lon) {
+        double dLat = lat - latitude;
+        if (Math.abs(dLat) > PLANAR_BAND_DEG) {
+            return Math.abs(dLat) * METERS_PER_DEG_LAT;
+        }
+        double dy = dLat * METERS_PER_DEG_LAT;
+        double dx = (lon - longitude) * metersPerDegLon;
+        return Math.sqrt(dx * dx + dy * dy) * PLANAR_SLACK;
+    }
+
+    // Lower bound for every point of a lat/lon box: the bound at the box point nearest the query.
+    // If the box reaches outside the planar band only the latitude gap is used, which holds for all its points.
+    public double lowerBoundMeters(double minLat, double minLon, double maxLat, double maxLon) {
+        double lat = Math.max(minLat, Math.min(maxLat, latitude));
+        double lon = Math.max(minLon, Math.min(maxLon, longitude));
+        if (Math.max(Math.abs(minLat - latitude), Math.abs(maxLat - latitude)) > PLANAR_BAND_DEG) {
+            return Math.abs(lat - latitude) * METERS_PER_DEG_LAT;
+        }
+        return lowerBoundMeters(lat, lon);
+    }
+
+    public double exactMeters(double lat, double lon) {
+        double sinLat = Math.sin(Math.toRadians(lat - latitude) / 2);
+        double sinLon = Math.sin(Math.toRadians(lon - longitude) / 2);
+        double a = sinLat * sinLat + cosLatitude * Math.cos(Math.toRadians(lat)) * sinLon * sinLon;
+        return GeoDistance.EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    // Exact distances for rows[0..count) of the coordinate arrays, written to out[0..count).
+    public void exactMeters(double[] lats, double[] lons, int[] rows, int count, double[] out) {
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            out[i] = exactMeters(lats[row], lons[row]);
+        }
+    }
+
+    // Stage one over rows [from, to): keeps rows whose lower bound is within maxMeters.
+    // Writes survivors to rowsOut and returns how many there are.
+    public int prefilter(double[] lats, double[] lons, int from, int to, double maxMeters, int[] rowsOut) {
+        int count = 0;
+        for (int row = from; row < to; row++) {
+            if (lowerBoundMeters(lats[row], lons[row]) <= maxMeters) {
+                rowsOut[count++] = row;
+            }
+        }
+        return count;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getMetersPerDegLon() {
+        return metersPerDegLon;
+    }
+}
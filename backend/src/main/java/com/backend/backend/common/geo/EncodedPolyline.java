@@ -0,0 +1,59 @@
+package com.backend.backend.common.geo;
+
+import java.util.Arrays;
+
+// Decoder for the encoded polyline algorithm format (precision 5 by default).
+public final class EncodedPolyline {
+
+    private EncodedPolyline() {
+    }
+
+    // Returns interleaved [lat0, lon0, lat1, lon1, ...].
+    public static double[] decode(String encoded, int precision) {
+        double factor = Math.pow(10, precision);
+        double[] coords = new double[Math.max(2, encoded.length())];
+        int count = 0;
+        int index = 0;
+        long lat = 0;
+        long lon = 0;
+
+        while (index < encoded.length()) {
+            long[] latResult = readValue(encoded, index);
+            lat += latResult[0];
+            index = (int) latResult[1];
+            if (index >= encoded.length()) {
+                throw new IllegalArgumentException("encoded polyline ends in the middle of a coordinate");
+            }
+            long[] lonResult = readValue(encoded, index);
+            lon += lonResult[0];
+            index = (int) lonResult[1];
+
+            if (count + 2 > coords.length) {
+                coords = Arrays.copyOf(coords, coords.length * 2);
+            }
+            coords[count++] = lat / factor;
+            coords[count++] = lon / factor;
+        }
+        return Arrays.copyOf(coords, count);
+    }
+
+    // Reads one zigzag varint chunk sequence; returns {value, nextIndex}.
+    private static long[] readValue(String encoded, int index) {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (index >= encoded.length()) {
+                throw new IllegalArgumentException("malformed encoded polyline");
+            }
+            b = encoded.charAt(index++) - 63;
+            if (b < 0 || b > 63) {
+                throw new IllegalArgumentException("malformed encoded polyline");
+            }
+            result |= (long) (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        long value = (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+        return new long[]{value, index};
+    }
+}
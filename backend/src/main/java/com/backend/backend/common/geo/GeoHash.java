@@ -0,0 +1,85 @@
+package com.backend.backend.common.geo;
+
+import java.util.LinkedHashSet;
+
+// Minimal geohash encoder used to snap coordinates onto grid cells.
+public final class GeoHash {
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("geohash precision must be between 1 and 12: " + precision);
+        }
+        double minLat = -90.0, maxLat = 90.0;
+        double minLon = -180.0, maxLon = 180.0;
+        char[] hash = new char[precision];
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        int length = 0;
+
+        while (length < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash[length++] = BASE32[ch];
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return new String(hash);
+    }
+
+    // Cell height in degrees for the given precision.
+    public static double cellHeightDegrees(int precision) {
+        int latBits = (precision * 5) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    // Cell width in degrees for the given precision.
+    public static double cellWidthDegrees(int precision) {
+        int lonBits = (precision * 5 + 1) / 2;
+        return 360.0 / (1L << lonBits);
+    }
+
+    // The cell containing the point plus its 8 neighbours (duplicates removed near the poles/antimeridian).
+    public static String[] cellAndNeighbours(double latitude, double longitude, int precision) {
+        double dLat = cellHeightDegrees(precision);
+        double dLon = cellWidthDegrees(precision);
+        LinkedHashSet<String> cells = new LinkedHashSet<>(9);
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                double lat = Math.max(-90.0, Math.min(90.0, latitude + i * dLat));
+                double lon = longitude + j * dLon;
+                if (lon >= 180.0) {
+                    lon -= 360.0;
+                } else if (lon < -180.0) {
+                    lon += 360.0;
+                }
+                cells.add(encode(lat, lon, precision));
+            }
+        }
+        return cells.toArray(new String[0]);
+    }
+}
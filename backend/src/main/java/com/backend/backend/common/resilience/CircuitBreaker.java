@@ -0,0 +1,132 @@
+package com.backend.backend.common.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Consecutive-failure circuit breaker. OPEN rejects immediately; after openMillis one trial call is let through
+// (HALF_OPEN) and its outcome closes or re-opens the circuit.
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new CircuitOpenException(name);
+        }
+        try {
+            T value = call.get();
+            onSuccess();
+            return value;
+        } catch (RuntimeException | Error e) {
+            onFailure();
+            throw e;
+        }
+    }
+
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+        if (!tryAcquire()) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new CircuitOpenException(name));
+        }
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((value, error) -> {
+            if (error != null) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+        });
+    }
+
+    // True while calls are flowing normally; false while open or probing.
+    public boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("consecutiveFailures", consecutiveFailures.get());
+        stats.put("successes", successes.get());
+        stats.put("failures", failures.get());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+
+    private boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt < openMillis) {
+            return false;
+        }
+        // Open period elapsed (or already half-open): only one trial call at a time.
+        if (trialInFlight.compareAndSet(false, true)) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        successes.incrementAndGet();
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            state = State.CLOSED;
+            trialInFlight.set(false);
+            System.out.println("[CircuitBreaker] " + name + " closed");
+        }
+    }
+
+    private void onFailure() {
+        failures.incrementAndGet();
+        int failuresInRow = consecutiveFailures.incrementAndGet();
+        if (state == State.HALF_OPEN || failuresInRow >= failureThreshold) {
+            if (state != State.OPEN) {
+                System.out.println("[CircuitBreaker] " + name + " opened after " + failuresInRow + " consecutive failures");
+            }
+            openedAt = System.currentTimeMillis();
+            state = State.OPEN;
+            trialInFlight.set(false);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.backend.backend.common.resilience;
+
+// Thrown without touching the network while an upstream's circuit breaker is open.
+public class CircuitOpenException extends IllegalStateException {
+    public CircuitOpenException(String upstream) {
+        super("Circuit breaker open for " + upstream + ".");
+    }
+}
@@ -0,0 +1,133 @@
+package com.backend.backend.common.resilience;
+
+import com.backend.backend.common.cache.TtlLruCache;
+import com.backend.backend.common.concurrent.SingleFlight;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+// Remembers the last good answer per key. While the upstream is degraded (breaker not closed) the last good
+// answer is served immediately and a refresh runs in the background; when a live call fails it is served instead
+// of the error. Callers get the staleness through Result.
+public class StaleWhileRevalidate<K, V> {
+    private final TtlLruCache<K, Result<V>> lastGood;
+    private final BooleanSupplier degraded;
+    private final Executor revalidateExecutor;
+    private final SingleFlight<K, V> revalidations = new SingleFlight<>();
+
+    private final AtomicLong freshServed = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+
+    public StaleWhileRevalidate(int maxEntries, long staleTtlMillis, BooleanSupplier degraded, Executor revalidateExecutor) {
+        this.lastGood = new TtlLruCache<>(maxEntries, staleTtlMillis, 0L);
+        this.degraded = degraded;
+        this.revalidateExecutor = revalidateExecutor;
+    }
+
+    public Result<V> get(K key, Supplier<V> loader) {
+        Result<V> last = lastGood.peek(key);
+        if (last != null && degraded.getAsBoolean()) {
+            revalidateInBackground(key, loader);
+            return served(last);
+        }
+        try {
+            V value = loader.get();
+            remember(key, value);
+            freshServed.incrementAndGet();
+            return new Result<>(value, false, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            if (last != null) {
+                return served(last);
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Result<V>> getAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        Result<V> last = lastGood.peek(key);
+        if (last != null && degraded.getAsBoolean()) {
+            revalidateInBackground(key, () -> loader.get().join());
+            return CompletableFuture.completedFuture(served(last));
+        }
+        CompletableFuture<V> live;
+        try {
+            live = loader.get();
+        } catch (RuntimeException e) {
+            live = CompletableFuture.failedFuture(e);
+        }
+        return live.handle((value, error) -> {
+            if (error == null) {
+                remember(key, value);
+                freshServed.incrementAndGet();
+                return new Result<>(value, false, System.currentTimeMillis());
+            }
+            if (last != null) {
+                return served(last);
+            }
+            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+        });
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", lastGood.size());
+        stats.put("freshServed", freshServed.get());
+        stats.put("staleServed", staleServed.get());
+        return stats;
+    }
+
+    private void remember(K key, V value) {
+        if (value != null) {
+            lastGood.put(key, new Result<>(value, true, System.currentTimeMillis()));
+        }
+    }
+
+    private Result<V> served(Result<V> last) {
+        staleServed.incrementAndGet();
+        return last;
+    }
+
+    // At most one background refresh per key; while the breaker is still open it is rejected without I/O.
+    private void revalidateInBackground(K key, Supplier<V> loader) {
+        if (revalidations.isInFlight(key)) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                remember(key, revalidations.execute(key, loader));
+            } catch (RuntimeException ignored) {
+                // keep serving the last good answer
+            }
+        }, revalidateExecutor);
+    }
+
+    // Value plus whether it came from the last-good store, and when it was fetched.
+    public static final class Result<V> {
+        private final V value;
+        private final boolean stale;
+        private final long fetchedAt;
+
+        private Result(V value, boolean stale, long fetchedAt) {
+            this.value = value;
+            this.stale = stale;
+            this.fetchedAt = fetchedAt;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public boolean isStale() {
+            return stale;
+        }
+
+        public long getFetchedAt() {
+            return fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.backend.backend.common.resilience;
+
+import com.backend.backend.config.UpstreamResilienceProperties;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// One breaker per upstream host, shared by every service that talks to it.
+@Component
+public class UpstreamCircuitBreakers {
+    public static final String KAKAO = "kakao";
+    public static final String DATA_GO_KR = "data.go.kr";
+    public static final String ODCLOUD = "odcloud";
+
+    private final UpstreamResilienceProperties properties;
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public UpstreamCircuitBreakers(UpstreamResilienceProperties properties) {
+        this.properties = properties;
+    }
+
+    public CircuitBreaker get(String upstream) {
+        return breakers.computeIfAbsent(upstream,
+                name -> new CircuitBreaker(name, properties.getFailureThreshold(), properties.getOpenMs()));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        breakers.forEach((name, breaker) -> stats.put(name, breaker.stats()));
+        return stats;
+    }
+}
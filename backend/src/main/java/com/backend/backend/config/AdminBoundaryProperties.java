@@ -0,0 +1,57 @@
+package com.backend.backend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "admin.boundary")
+public class AdminBoundaryProperties {
+    // Off until a boundary file is provided (none ships with the repo; see application.properties).
+    private boolean enabled = false;
+    // WGS84 GeoJSON FeatureCollection of si/gun/gu (or si/do) polygons; classpath: and file: locations both work.
+    private String path = "classpath:geo/admin-boundaries.geojson";
+    private double cellDegrees = 0.02;
+    // Feature property names tried in order for region_1depth_name / region_2depth_name.
+    private List<String> region1Keys = new ArrayList<>(List.of("CTP_KOR_NM", "SIDO_NM", "sidonm", "region1"));
+    private List<String> region2Keys = new ArrayList<>(List.of("SIG_KOR_NM", "SGG_NM", "sggnm", "region2"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public double getCellDegrees() {
+        return cellDegrees;
+    }
+
+    public void setCellDegrees(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    public List<String> getRegion1Keys() {
+        return region1Keys;
+    }
+
+    public void setRegion1Keys(List<String> region1Keys) {
+        this.region1Keys = region1Keys;
+    }
+
+    public List<String> getRegion2Keys() {
+        return region2Keys;
+    }
+
+    public void setRegion2Keys(List<String> region2Keys) {
+        this.region2Keys = region2Keys;
+    }
+}
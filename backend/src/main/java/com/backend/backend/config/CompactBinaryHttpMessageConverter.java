@@ -0,0 +1,164 @@
+package com.backend.backend.config;
+
+import com.backend.backend.common.codec.CompactWriter;
+import com.backend.backend.pas.dto.ParkingStopCheckResponse;
+import com.backend.backend.useless.dto.NearbyParkingResponseDto;
+import com.backend.backend.useless.dto.ParkingCandidateDto;
+import com.backend.backend.useless.dto.ParkingClusterDto;
+import com.backend.backend.useless.dto.ParkingTileResponseDto;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+// Compact binary encoding of the bulk parking/zone responses, chosen by content negotiation
+// (Accept: application/x-parking-compact). It is registered after the JSON converter, so JSON stays the default.
+// Values are streamed from the DTOs straight into the response (see CompactWriter for varints, coordinate deltas
+// and the string table).
+//   header:  'P' 'C' version kind
+// String columns: 0 id, 1 name, 2 address (nextCursor uses column 0).
+//   kind 1 (nearby lots):      varint n, n x [flags(1 coordinate, 2 distance, 4 stale), id, name, address,
+//                              coordinate?, varint distance in decimeters?], nextCursor
+//   kind 2 (map tile):         varint z, x, y, varint n, n x [coordinate, varint count, (id, name) when count == 1]
+//   kind 3 (stop-check batch): varint n, n x [flags(1 prohibited, 2 stale, 4 unknown), roadAddress]
+public class CompactBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "x-parking-compact");
+    private static final int VERSION = 1;
+    private static final int KIND_NEARBY = 1;
+    private static final int KIND_TILE = 2;
+    private static final int KIND_STOP_BATCH = 3;
+    // string columns for CompactWriter prefix sharing
+    private static final int COLUMN_ID = 0;
+    private static final int COLUMN_NAME = 1;
+    private static final int COLUMN_ADDRESS = 2;
+
+    public CompactBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    // True when the Accept header asks for the compact encoding at least as strongly as for JSON.
+    // Controllers that set ETags use this to keep each encoding's tag distinct.
+    public static boolean isRequested(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isEmpty()) {
+            return false;
+        }
+        double compact = 0;
+        double json = 0;
+        for (MediaType mediaType : MediaType.parseMediaTypes(acceptHeader)) {
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                continue;
+            }
+            if (mediaType.equalsTypeAndSubtype(MEDIA_TYPE)) {
+                compact = Math.max(compact, mediaType.getQualityValue());
+            } else if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, mediaType.getQualityValue());
+            }
+        }
+        return compact > 0 && compact >= json;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return NearbyParkingResponseDto.class == clazz || ParkingTileResponseDto.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (isStopBatch(type) || supports(clazz)) && canWrite(mediaType);
+    }
+
+    // Spring asks this with the runtime class (e.g. ArrayList) before the generic canWrite narrows it to the batch type.
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) || List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    private static boolean isStopBatch(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == ParkingStopCheckResponse.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CompactWriter writer = new CompactWriter(outputMessage.getBody());
+        writer.writeByte('P').writeByte('C').writeByte(VERSION);
+        if (value instanceof NearbyParkingResponseDto nearby) {
+            writeNearby(writer.writeByte(KIND_NEARBY), nearby);
+        } else if (value instanceof ParkingTileResponseDto tile) {
+            writeTile(writer.writeByte(KIND_TILE), tile);
+        } else {
+            writeStopBatch(writer.writeByte(KIND_STOP_BATCH), (List<ParkingStopCheckResponse>) value);
+        }
+        writer.flush();
+    }
+
+    private static void writeNearby(CompactWriter writer, NearbyParkingResponseDto nearby) throws IOException {
+        List<ParkingCandidateDto> items = nearby.getItems() != null ? nearby.getItems() : List.of();
+        writer.writeVarint(items.size());
+        for (ParkingCandidateDto item : items) {
+            boolean hasCoordinate = item.getLatitude() != null && item.getLongitude() != null;
+            boolean hasDistance = item.getDistanceMeters() != null;
+            writer.writeByte((hasCoordinate ? 1 : 0) | (hasDistance ? 2 : 0) | (item.isStale() ? 4 : 0));
+            writer.writeString(COLUMN_ID, item.getParkingId());
+            writer.writeString(COLUMN_NAME, item.getParkingName());
+            writer.writeString(COLUMN_ADDRESS, item.getAddress());
+            if (hasCoordinate) {
+                writer.writeCoordinate(item.getLatitude(), item.getLongitude());
+            }
+            if (hasDistance) {
+                writer.writeVarint(Math.max(0, Math.round(item.getDistanceMeters() * 10)));
+            }
+        }
+        writer.writeString(nearby.getNextCursor());
+    }
+
+    private static void writeTile(CompactWriter writer, ParkingTileResponseDto tile) throws IOException {
+        writer.writeVarint(tile.getZ()).writeVarint(tile.getX()).writeVarint(tile.getY());
+        List<ParkingClusterDto> clusters = tile.getClusters() != null ? tile.getClusters() : List.of();
+        writer.writeVarint(clusters.size());
+        for (ParkingClusterDto cluster : clusters) {
+            writer.writeCoordinate(cluster.getLatitude(), cluster.getLongitude());
+            writer.writeVarint(cluster.getCount());
+            if (cluster.getCount() == 1) {
+                writer.writeString(COLUMN_ID, cluster.getParkingId());
+                writer.writeString(COLUMN_NAME, cluster.getParkingName());
+            }
+        }
+    }
+
+    private static void writeStopBatch(CompactWriter writer, List<ParkingStopCheckResponse> responses) throws IOException {
+        writer.writeVarint(responses.size());
+        for (ParkingStopCheckResponse response : responses) {
+            writer.writeByte((response.isProhibited() ? 1 : 0) | (response.isStale() ? 2 : 0)
+                    | (response.getError() != null ? 4 : 0));
+            writer.writeString(COLUMN_ADDRESS, response.getRoadAddress());
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("compact encoding is response-only", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("compact encoding is response-only", inputMessage);
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "kakao.geocode.cache")
+public class GeocodeCacheProperties {
+    private boolean enabled = true;
+    private int geohashPrecision = 8;
+    private int maxEntries = 20000;
+    private long ttlMs = 3600000L;
+    private long negativeTtlMs = 300000L;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getGeohashPrecision() {
+        return geohashPrecision;
+    }
+
+    public void setGeohashPrecision(int geohashPrecision) {
+        this.geohashPrecision = geohashPrecision;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    public long getNegativeTtlMs() {
+        return negativeTtlMs;
+    }
+
+    public void setNegativeTtlMs(long negativeTtlMs) {
+        this.negativeTtlMs = negativeTtlMs;
+    }
+}
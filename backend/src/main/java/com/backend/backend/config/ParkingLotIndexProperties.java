@@ -0,0 +1,139 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.lot.index")
+public class ParkingLotIndexProperties {
+    private boolean enabled = true;
+    private int perPage = 1000;
+    private int maxPages = 200;
+    private long refreshIntervalMs = 3600000L;
+    private double maxRadiusMeters = 0;
+    private String snapshotPath = "data/parking-lot-index.snapshot";
+    private double compactRatio = 0.1;
+    // A refresh that would delete more than this share of the current lots is refused (previous index kept);
+    // an upstream glitch looks exactly like a mass deletion. Raise to 1 to accept a genuine large cleanup.
+    private double maxDeleteRatio = 0.2;
+    // Service area (WGS84 degrees). Rows outside it, or with non-finite coordinates, are skipped at load
+    // (0/0 placeholders, swapped lat/lon).
+    private double minLatitude = 33.0;
+    private double maxLatitude = 39.0;
+    private double minLongitude = 124.0;
+    private double maxLongitude = 132.0;
+    // Threads for searches that span several region shards; 0 means one per available processor.
+    private int fanOutParallelism = 0;
+    // Cell size of the nearest-lot lookup grid; 0 disables it and single-lot lookups walk the tree.
+    private double nearestGridCellDegrees = 0.01;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPerPage() {
+        return perPage;
+    }
+
+    public void setPerPage(int perPage) {
+        this.perPage = perPage;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public void setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public void setRefreshIntervalMs(long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public double getMaxRadiusMeters() {
+        return maxRadiusMeters;
+    }
+
+    public void setMaxRadiusMeters(double maxRadiusMeters) {
+        this.maxRadiusMeters = maxRadiusMeters;
+    }
+
+    public String getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public void setSnapshotPath(String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    public double getCompactRatio() {
+        return compactRatio;
+    }
+
+    public void setCompactRatio(double compactRatio) {
+        this.compactRatio = compactRatio;
+    }
+
+    public double getMaxDeleteRatio() {
+        return maxDeleteRatio;
+    }
+
+    public void setMaxDeleteRatio(double maxDeleteRatio) {
+        this.maxDeleteRatio = maxDeleteRatio;
+    }
+
+    public int getFanOutParallelism() {
+        return fanOutParallelism;
+    }
+
+    public void setFanOutParallelism(int fanOutParallelism) {
+        this.fanOutParallelism = fanOutParallelism;
+    }
+
+    public double getNearestGridCellDegrees() {
+        return nearestGridCellDegrees;
+    }
+
+    public void setNearestGridCellDegrees(double nearestGridCellDegrees) {
+        this.nearestGridCellDegrees = nearestGridCellDegrees;
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public void setMinLatitude(double minLatitude) {
+        this.minLatitude = minLatitude;
+    }
+
+    public double getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public void setMaxLatitude(double maxLatitude) {
+        this.maxLatitude = maxLatitude;
+    }
+
+    public double getMinLongitude() {
+        return minLongitude;
+    }
+
+    public void setMinLongitude(double minLongitude) {
+        this.minLongitude = minLongitude;
+    }
+
+    public double getMaxLongitude() {
+        return maxLongitude;
+    }
+
+    public void setMaxLongitude(double maxLongitude) {
+        this.maxLongitude = maxLongitude;
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.nearby")
+public class ParkingNearbyProperties {
+    private double defaultRadiusMeters = 1000;
+    private double maxRadiusMeters = 10000;
+    private int defaultK = 20;
+    private int maxK = 100;
+
+    public double getDefaultRadiusMeters() {
+        return defaultRadiusMeters;
+    }
+
+    public void setDefaultRadiusMeters(double defaultRadiusMeters) {
+        this.defaultRadiusMeters = defaultRadiusMeters;
+    }
+
+    public double getMaxRadiusMeters() {
+        return maxRadiusMeters;
+    }
+
+    public void setMaxRadiusMeters(double maxRadiusMeters) {
+        this.maxRadiusMeters = maxRadiusMeters;
+    }
+
+    public int getDefaultK() {
+        return defaultK;
+    }
+
+    public void setDefaultK(int defaultK) {
+        this.defaultK = defaultK;
+    }
+
+    public int getMaxK() {
+        return maxK;
+    }
+
+    public void setMaxK(int maxK) {
+        this.maxK = maxK;
+    }
+}
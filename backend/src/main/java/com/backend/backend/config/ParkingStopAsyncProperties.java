@@ -0,0 +1,70 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.stop.async")
+public class ParkingStopAsyncProperties {
+    private long deadlineMs = 3000L;
+    private long connectTimeoutMs = 1000L;
+    private long readTimeoutMs = 2500L;
+    private int regionGeohashPrecision = 6;
+    private long regionCacheTtlMs = 600000L;
+    private int regionCacheMaxEntries = 2000;
+    private int regionRowsPerPage = 1000;
+
+    public long getDeadlineMs() {
+        return deadlineMs;
+    }
+
+    public void setDeadlineMs(long deadlineMs) {
+        this.deadlineMs = deadlineMs;
+    }
+
+    public long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public void setConnectTimeoutMs(long connectTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    public long getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+
+    public void setReadTimeoutMs(long readTimeoutMs) {
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    public int getRegionGeohashPrecision() {
+        return regionGeohashPrecision;
+    }
+
+    public void setRegionGeohashPrecision(int regionGeohashPrecision) {
+        this.regionGeohashPrecision = regionGeohashPrecision;
+    }
+
+    public long getRegionCacheTtlMs() {
+        return regionCacheTtlMs;
+    }
+
+    public void setRegionCacheTtlMs(long regionCacheTtlMs) {
+        this.regionCacheTtlMs = regionCacheTtlMs;
+    }
+
+    public int getRegionCacheMaxEntries() {
+        return regionCacheMaxEntries;
+    }
+
+    public void setRegionCacheMaxEntries(int regionCacheMaxEntries) {
+        this.regionCacheMaxEntries = regionCacheMaxEntries;
+    }
+
+    public int getRegionRowsPerPage() {
+        return regionRowsPerPage;
+    }
+
+    public void setRegionRowsPerPage(int regionRowsPerPage) {
+        this.regionRowsPerPage = regionRowsPerPage;
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.stop.batch")
+public class ParkingStopBatchProperties {
+    private int maxPoints = 200;
+    private int parallelism = 8;
+    private int dedupeGeohashPrecision = 8;
+
+    public int getMaxPoints() {
+        return maxPoints;
+    }
+
+    public void setMaxPoints(int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getDedupeGeohashPrecision() {
+        return dedupeGeohashPrecision;
+    }
+
+    public void setDedupeGeohashPrecision(int dedupeGeohashPrecision) {
+        this.dedupeGeohashPrecision = dedupeGeohashPrecision;
+    }
+}
@@ -0,0 +1,126 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.stop.index")
+public class ParkingStopIndexProperties {
+    private boolean enabled = true;
+    private int pageSize = 1000;
+    private int maxPages = 500;
+    private long refreshIntervalMs = 21600000L;
+    private double radiusMeters = 35.0;
+    private int geohashPrecision = 7;
+    private int ingestParallelism = 4;
+    private int ingestMaxAttempts = 3;
+    private long ingestRetryBackoffMs = 500L;
+    // Service area (WGS84 degrees), as for parking.lot.index. Rows whose start point is non-finite or outside it
+    // are skipped; an end point outside it is dropped and the row indexed as a single point.
+    private double minLatitude = 33.0;
+    private double maxLatitude = 39.0;
+    private double minLongitude = 124.0;
+    private double maxLongitude = 132.0;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public void setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public void setRefreshIntervalMs(long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public double getRadiusMeters() {
+        return radiusMeters;
+    }
+
+    public void setRadiusMeters(double radiusMeters) {
+        this.radiusMeters = radiusMeters;
+    }
+
+    public int getGeohashPrecision() {
+        return geohashPrecision;
+    }
+
+    public void setGeohashPrecision(int geohashPrecision) {
+        this.geohashPrecision = geohashPrecision;
+    }
+
+    public int getIngestParallelism() {
+        return ingestParallelism;
+    }
+
+    public void setIngestParallelism(int ingestParallelism) {
+        this.ingestParallelism = ingestParallelism;
+    }
+
+    public int getIngestMaxAttempts() {
+        return ingestMaxAttempts;
+    }
+
+    public void setIngestMaxAttempts(int ingestMaxAttempts) {
+        this.ingestMaxAttempts = ingestMaxAttempts;
+    }
+
+    public long getIngestRetryBackoffMs() {
+        return ingestRetryBackoffMs;
+    }
+
+    public void setIngestRetryBackoffMs(long ingestRetryBackoffMs) {
+        this.ingestRetryBackoffMs = ingestRetryBackoffMs;
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public void setMinLatitude(double minLatitude) {
+        this.minLatitude = minLatitude;
+    }
+
+    public double getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public void setMaxLatitude(double maxLatitude) {
+        this.maxLatitude = maxLatitude;
+    }
+
+    public double getMinLongitude() {
+        return minLongitude;
+    }
+
+    public void setMinLongitude(double minLongitude) {
+        this.minLongitude = minLongitude;
+    }
+
+    public double getMaxLongitude() {
+        return maxLongitude;
+    }
+
+    public void setMaxLongitude(double maxLongitude) {
+        this.maxLongitude = maxLongitude;
+    }
+}
@@ -0,0 +1,72 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.stop.route")
+public class ParkingStopRouteProperties {
+    private double sampleIntervalMeters = 20.0;
+    private double defaultLookaheadMeters = 2000.0;
+    private double maxLookaheadMeters = 10000.0;
+    private int maxVertices = 20000;
+    private int geohashPrecision = 8;
+    // Without the zone index every new cell is a blocking upstream lookup; the walk stops (incomplete=true)
+    // when it runs out of this time budget or lookup count.
+    private long remoteDeadlineMs = 3000L;
+    private int maxRemoteLookups = 20;
+
+    public double getSampleIntervalMeters() {
+        return sampleIntervalMeters;
+    }
+
+    public void setSampleIntervalMeters(double sampleIntervalMeters) {
+        this.sampleIntervalMeters = sampleIntervalMeters;
+    }
+
+    public double getDefaultLookaheadMeters() {
+        return defaultLookaheadMeters;
+    }
+
+    public void setDefaultLookaheadMeters(double defaultLookaheadMeters) {
+        this.defaultLookaheadMeters = defaultLookaheadMeters;
+    }
+
+    public double getMaxLookaheadMeters() {
+        return maxLookaheadMeters;
+    }
+
+    public void setMaxLookaheadMeters(double maxLookaheadMeters) {
+        this.maxLookaheadMeters = maxLookaheadMeters;
+    }
+
+    public int getMaxVertices() {
+        return maxVertices;
+    }
+
+    public void setMaxVertices(int maxVertices) {
+        this.maxVertices = maxVertices;
+    }
+
+    public int getGeohashPrecision() {
+        return geohashPrecision;
+    }
+
+    public void setGeohashPrecision(int geohashPrecision) {
+        this.geohashPrecision = geohashPrecision;
+    }
+
+    public long getRemoteDeadlineMs() {
+        return remoteDeadlineMs;
+    }
+
+    public void setRemoteDeadlineMs(long remoteDeadlineMs) {
+        this.remoteDeadlineMs = remoteDeadlineMs;
+    }
+
+    public int getMaxRemoteLookups() {
+        return maxRemoteLookups;
+    }
+
+    public void setMaxRemoteLookups(int maxRemoteLookups) {
+        this.maxRemoteLookups = maxRemoteLookups;
+    }
+}
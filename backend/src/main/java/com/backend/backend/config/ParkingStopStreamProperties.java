@@ -0,0 +1,43 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.stop.stream")
+public class ParkingStopStreamProperties {
+    private long dwellMs = 180000;
+    private int geohashPrecision = 8;
+    private long sweepIntervalMs = 1000;
+    private long idleTimeoutMs = 120000;
+
+    public long getDwellMs() {
+        return dwellMs;
+    }
+
+    public void setDwellMs(long dwellMs) {
+        this.dwellMs = dwellMs;
+    }
+
+    public int getGeohashPrecision() {
+        return geohashPrecision;
+    }
+
+    public void setGeohashPrecision(int geohashPrecision) {
+        this.geohashPrecision = geohashPrecision;
+    }
+
+    public long getSweepIntervalMs() {
+        return sweepIntervalMs;
+    }
+
+    public void setSweepIntervalMs(long sweepIntervalMs) {
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    public long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    public void setIdleTimeoutMs(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+}
@@ -0,0 +1,36 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "parking.tiles")
+public class ParkingTileProperties {
+    private boolean enabled = true;
+    // Deepest zoom with precomputed clusters; deeper tiles list individual lots.
+    private int maxZoom = 16;
+    // Cluster grid per tile side (8 = 32px cells on 256px tiles); must be a power of two.
+    private int cellsPerTile = 8;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxZoom() {
+        return maxZoom;
+    }
+
+    public void setMaxZoom(int maxZoom) {
+        this.maxZoom = maxZoom;
+    }
+
+    public int getCellsPerTile() {
+        return cellsPerTile;
+    }
+
+    public void setCellsPerTile(int cellsPerTile) {
+        this.cellsPerTile = cellsPerTile;
+    }
+}
@@ -0,0 +1,61 @@
+package com.backend.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "upstream.resilience")
+public class UpstreamResilienceProperties {
+    private int failureThreshold = 5;
+    private long openMs = 30000L;
+    private long connectTimeoutMs = 1000L;
+    private long readTimeoutMs = 5000L;
+    private long staleTtlMs = 86400000L;
+    private int staleMaxEntries = 20000;
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public long getOpenMs() {
+        return openMs;
+    }
+
+    public void setOpenMs(long openMs) {
+        this.openMs = openMs;
+    }
+
+    public long getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    public void setConnectTimeoutMs(long connectTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    public long getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+
+    public void setReadTimeoutMs(long readTimeoutMs) {
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    public long getStaleTtlMs() {
+        return staleTtlMs;
+    }
+
+    public void setStaleTtlMs(long staleTtlMs) {
+        this.staleTtlMs = staleTtlMs;
+    }
+
+    public int getStaleMaxEntries() {
+        return staleMaxEntries;
+    }
+
+    public void setStaleMaxEntries(int staleMaxEntries) {
+        this.staleMaxEntries = staleMaxEntries;
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.backend.config;
+
+import com.backend.backend.pas.stream.ParkingStopStreamHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+    private final ParkingStopStreamHandler parkingStopStreamHandler;
+
+    public WebSocketConfig(ParkingStopStreamHandler parkingStopStreamHandler) {
+        this.parkingStopStreamHandler = parkingStopStreamHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(parkingStopStreamHandler, "/ws/pas/location")
+                .setAllowedOriginPatterns("*");
+    }
+}
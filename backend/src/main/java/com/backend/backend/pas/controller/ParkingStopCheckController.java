@@ -3,28 +3,90 @@ package com.backend.backend.pas.controller;
 import com.backend.backend.pas.dto.ParkingStopCheckRequest;
 import com.backend.backend.pas.dto.ParkingStopCheckResponse;
 import com.backend.backend.pas.dto.ParkingStopCheckByAddressRequest;
+import com.backend.backend.pas.dto.RouteCheckRequest;
+import com.backend.backend.pas.dto.RouteCheckResponse;
+import com.backend.backend.common.resilience.CircuitOpenException;
+import com.backend.backend.config.ParkingStopBatchProperties;
 import com.backend.backend.pas.service.ParkingStopCheckService;
+import com.backend.backend.pas.service.RouteCorridorCheckService;
+import com.backend.backend.pas.stream.ParkingStopStreamHandler;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/pas")
 public class ParkingStopCheckController {
     private final ParkingStopCheckService parkingStopCheckService;
+    private final RouteCorridorCheckService routeCorridorCheckService;
+    private final ParkingStopBatchProperties parkingStopBatchProperties;
+    private final ParkingStopStreamHandler parkingStopStreamHandler;
 
-    public ParkingStopCheckController(ParkingStopCheckService parkingStopCheckService) {
+    public ParkingStopCheckController(ParkingStopCheckService parkingStopCheckService,
+                                      RouteCorridorCheckService routeCorridorCheckService,
+                                      ParkingStopBatchProperties parkingStopBatchProperties,
+                                      ParkingStopStreamHandler parkingStopStreamHandler) {
         this.parkingStopCheckService = parkingStopCheckService;
+        this.routeCorridorCheckService = routeCorridorCheckService;
+        this.parkingStopBatchProperties = parkingStopBatchProperties;
+        this.parkingStopStreamHandler = parkingStopStreamHandler;
     }
 
     // Receives x/y coordinates and returns prohibited boolean + road address.
+    // Async: the servlet thread is released while the upstream calls are in flight.
     @PostMapping("/parking-stop-check")
-    public ResponseEntity<ParkingStopCheckResponse> checkParkingStop(@RequestBody ParkingStopCheckRequest request) {
+    public CompletableFuture<ResponseEntity<ParkingStopCheckResponse>> checkParkingStop(@RequestBody ParkingStopCheckRequest request) {
         System.out.println("[PAS] /parking-stop-check called");
-        ParkingStopCheckResponse response = parkingStopCheckService.checkProhibited(request.getX(), request.getY());
-        return ResponseEntity.ok(response);
+        return parkingStopCheckService.checkProhibitedAsync(request.getX(), request.getY())
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return ResponseEntity.ok(response);
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "parking-stop check timed out");
+                    }
+                    if (cause instanceof CircuitOpenException) {
+                        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, cause.getMessage());
+                    }
+                    throw cause instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(cause);
+                });
+    }
+
+    // Receives an array of x/y coordinates and returns one response per coordinate, in the same order.
+    @PostMapping("/parking-stop-check/batch")
+    public ResponseEntity<List<ParkingStopCheckResponse>> checkParkingStopBatch(@RequestBody List<ParkingStopCheckRequest> requests) {
+        System.out.println("[PAS] /parking-stop-check/batch called (" + (requests == null ? 0 : requests.size()) + " points)");
+        if (requests == null || requests.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        if (requests.size() > parkingStopBatchProperties.getMaxPoints()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "too many points (max " + parkingStopBatchProperties.getMaxPoints() + ")");
+        }
+        return ResponseEntity.ok(parkingStopCheckService.checkProhibitedBatch(requests));
+    }
+
+    // Receives a route (encoded polyline or Kakao vertexes) and returns the no-parking stretches within the lookahead.
+    @PostMapping("/route-check")
+    public ResponseEntity<RouteCheckResponse> checkRoute(@RequestBody RouteCheckRequest request) {
+        System.out.println("[PAS] /route-check called");
+        try {
+            return ResponseEntity.ok(routeCorridorCheckService.checkRoute(request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     // Test endpoint: checks by address fields without geocoding.
@@ -38,4 +100,12 @@ public class ParkingStopCheckController {
         );
         return ResponseEntity.ok(response);
     }
+
+    // Cache hit/miss/eviction counters for the upstream lookups.
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>(parkingStopCheckService.getStats());
+        stats.put("locationStream", parkingStopStreamHandler.getStats());
+        return ResponseEntity.ok(stats);
+    }
 }
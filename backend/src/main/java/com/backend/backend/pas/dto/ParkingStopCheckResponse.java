@@ -3,6 +3,10 @@ package com.backend.backend.pas.dto;
 public class ParkingStopCheckResponse {
     private boolean prohibited;
     private String roadAddress;
+    // True when this is the last good answer, served because the upstream APIs are failing.
+    private boolean stale;
+    // Set when the point could not be checked (upstream failure); prohibited is then unknown, not "allowed".
+    private String error;
 
     public ParkingStopCheckResponse() {
     }
@@ -12,6 +16,12 @@ public class ParkingStopCheckResponse {
         this.roadAddress = roadAddress;
     }
 
+    public static ParkingStopCheckResponse unknown(String error) {
+        ParkingStopCheckResponse response = new ParkingStopCheckResponse(false, null);
+        response.setError(error);
+        return response;
+    }
+
     public boolean isProhibited() {
         return prohibited;
     }
@@ -27,4 +37,20 @@ public class ParkingStopCheckResponse {
     public void setRoadAddress(String roadAddress) {
         this.roadAddress = roadAddress;
     }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void setStale(boolean stale) {
+        this.stale = stale;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
 }
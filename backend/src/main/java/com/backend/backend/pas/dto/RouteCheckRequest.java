@@ -0,0 +1,35 @@
+package com.backend.backend.pas.dto;
+
+import java.util.List;
+
+public class RouteCheckRequest {
+    // Encoded polyline (lat/lon, precision 5). Used when vertexes is empty.
+    private String polyline;
+    // Kakao Mobility style flat vertex list: [x0, y0, x1, y1, ...].
+    private List<Double> vertexes;
+    private Double lookaheadMeters;
+
+    public String getPolyline() {
+        return polyline;
+    }
+
+    public void setPolyline(String polyline) {
+        this.polyline = polyline;
+    }
+
+    public List<Double> getVertexes() {
+        return vertexes;
+    }
+
+    public void setVertexes(List<Double> vertexes) {
+        this.vertexes = vertexes;
+    }
+
+    public Double getLookaheadMeters() {
+        return lookaheadMeters;
+    }
+
+    public void setLookaheadMeters(Double lookaheadMeters) {
+        this.lookaheadMeters = lookaheadMeters;
+    }
+}
@@ -0,0 +1,63 @@
+package com.backend.backend.pas.dto;
+
+import java.util.List;
+
+public class RouteCheckResponse {
+    private List<RouteProhibitedSegment> segments;
+    private double checkedDistanceMeters;
+    private int lastCheckedIndex;
+    private boolean reachedLookahead;
+    // True when the walk stopped early (remote lookup budget spent or an upstream failed) before the lookahead or
+    // the route end: nothing past checkedDistanceMeters has been checked, so it must not be read as clear.
+    private boolean incomplete;
+
+    public RouteCheckResponse() {
+    }
+
+    public RouteCheckResponse(List<RouteProhibitedSegment> segments, double checkedDistanceMeters, int lastCheckedIndex, boolean reachedLookahead) {
+        this.segments = segments;
+        this.checkedDistanceMeters = checkedDistanceMeters;
+        this.lastCheckedIndex = lastCheckedIndex;
+        this.reachedLookahead = reachedLookahead;
+    }
+
+    public List<RouteProhibitedSegment> getSegments() {
+        return segments;
+    }
+
+    public void setSegments(List<RouteProhibitedSegment> segments) {
+        this.segments = segments;
+    }
+
+    public double getCheckedDistanceMeters() {
+        return checkedDistanceMeters;
+    }
+
+    public void setCheckedDistanceMeters(double checkedDistanceMeters) {
+        this.checkedDistanceMeters = checkedDistanceMeters;
+    }
+
+    public int getLastCheckedIndex() {
+        return lastCheckedIndex;
+    }
+
+    public void setLastCheckedIndex(int lastCheckedIndex) {
+        this.lastCheckedIndex = lastCheckedIndex;
+    }
+
+    public boolean isReachedLookahead() {
+        return reachedLookahead;
+    }
+
+    public void setReachedLookahead(boolean reachedLookahead) {
+        this.reachedLookahead = reachedLookahead;
+    }
+
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
+    public void setIncomplete(boolean incomplete) {
+        this.incomplete = incomplete;
+    }
+}
@@ -0,0 +1,60 @@
+package com.backend.backend.pas.dto;
+
+public class RouteProhibitedSegment {
+    private int startIndex;
+    private int endIndex;
+    private double startDistanceMeters;
+    private double endDistanceMeters;
+    private String roadAddress;
+
+    public RouteProhibitedSegment() {
+    }
+
+    public RouteProhibitedSegment(int startIndex, int endIndex, double startDistanceMeters, double endDistanceMeters, String roadAddress) {
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.startDistanceMeters = startDistanceMeters;
+        this.endDistanceMeters = endDistanceMeters;
+        this.roadAddress = roadAddress;
+    }
+
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    public void setStartIndex(int startIndex) {
+        this.startIndex = startIndex;
+    }
+
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    public void setEndIndex(int endIndex) {
+        this.endIndex = endIndex;
+    }
+
+    public double getStartDistanceMeters() {
+        return startDistanceMeters;
+    }
+
+    public void setStartDistanceMeters(double startDistanceMeters) {
+        this.startDistanceMeters = startDistanceMeters;
+    }
+
+    public double getEndDistanceMeters() {
+        return endDistanceMeters;
+    }
+
+    public void setEndDistanceMeters(double endDistanceMeters) {
+        this.endDistanceMeters = endDistanceMeters;
+    }
+
+    public String getRoadAddress() {
+        return roadAddress;
+    }
+
+    public void setRoadAddress(String roadAddress) {
+        this.roadAddress = roadAddress;
+    }
+}
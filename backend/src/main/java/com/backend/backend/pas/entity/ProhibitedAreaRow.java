@@ -0,0 +1,57 @@
+package com.backend.backend.pas.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Persistable;
+
+// Normalized row of the no-parking dataset as stored locally by the ingestion job.
+// Ids are assigned by the job (page order), so inserts can be JDBC-batched.
+@Entity
+@Table(name = "prohibited_area", indexes = @Index(name = "idx_prohibited_area_region", columnList = "ctprvnNm,signguNm"))
+public class ProhibitedAreaRow implements Persistable<Long> {
+    @Id
+    private Long id;
+    private String ctprvnNm;
+    private String signguNm;
+    private String rdnmadr;
+    private String lnmadr;
+    private Double latitude;
+    private Double longitude;
+    private Double endLatitude;
+    private Double endLongitude;
+    private LocalDateTime ingestedAt = LocalDateTime.now();
+
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @Override
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getCtprvnNm() { return ctprvnNm; }
+    public void setCtprvnNm(String ctprvnNm) { this.ctprvnNm = ctprvnNm; }
+    public String getSignguNm() { return signguNm; }
+    public void setSignguNm(String signguNm) { this.signguNm = signguNm; }
+    public String getRdnmadr() { return rdnmadr; }
+    public void setRdnmadr(String rdnmadr) { this.rdnmadr = rdnmadr; }
+    public String getLnmadr() { return lnmadr; }
+    public void setLnmadr(String lnmadr) { this.lnmadr = lnmadr; }
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    public Double getEndLatitude() { return endLatitude; }
+    public void setEndLatitude(Double endLatitude) { this.endLatitude = endLatitude; }
+    public Double getEndLongitude() { return endLongitude; }
+    public void setEndLongitude(Double endLongitude) { this.endLongitude = endLongitude; }
+    public LocalDateTime getIngestedAt() { return ingestedAt; }
+    public void setIngestedAt(LocalDateTime ingestedAt) { this.ingestedAt = ingestedAt; }
+}
@@ -0,0 +1,140 @@
+package com.backend.backend.pas.index;
+
+import com.backend.backend.common.geo.GeoDistance;
+
+// A no-parking area as a closed polygon: the start->end segment buffered by a fixed width (a "stadium"),
+// or a circle around the start point when the row has no usable end point.
+// Vertices are kept in degrees; over a few hundred meters the planar error is far below GPS noise.
+public class AreaPolygon {
+    // Vertices per half circle. The polygon is circumscribed so it never falls inside the true buffer.
+    private static final int CAP_STEPS = 8;
+
+    private final ProhibitedArea area;
+    private final double[] lats;
+    private final double[] lons;
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+    // Segment axis in a local metric frame centred on the start point, for distance ranking.
+    private final double originLat;
+    private final double originLon;
+    private final double metersPerDegLat;
+    private final double metersPerDegLon;
+    private final double axisX;
+    private final double axisY;
+
+    private AreaPolygon(ProhibitedArea area, double[] lats, double[] lons,
+                        double originLat, double originLon, double axisX, double axisY) {
+        this.area = area;
+        this.lats = lats;
+        this.lons = lons;
+        this.originLat = originLat;
+        this.originLon = originLon;
+        this.metersPerDegLat = Math.toRadians(1) * GeoDistance.EARTH_RADIUS_METERS;
+        this.metersPerDegLon = metersPerDegLat * Math.cos(Math.toRadians(originLat));
+        this.axisX = axisX;
+        this.axisY = axisY;
+
+        double loLat = Double.POSITIVE_INFINITY;
+        double hiLat = Double.NEGATIVE_INFINITY;
+        double loLon = Double.POSITIVE_INFINITY;
+        double hiLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < lats.length; i++) {
+            loLat = Math.min(loLat, lats[i]);
+            hiLat = Math.max(hiLat, lats[i]);
+            loLon = Math.min(loLon, lons[i]);
+            hiLon = Math.max(hiLon, lons[i]);
+        }
+        this.minLat = loLat;
+        this.maxLat = hiLat;
+        this.minLon = loLon;
+        this.maxLon = hiLon;
+    }
+
+    // Circle of bufferMeters around a single point.
+    public static AreaPolygon around(ProhibitedArea area, double latitude, double longitude, double bufferMeters) {
+        return buffer(area, latitude, longitude, latitude, longitude, bufferMeters);
+    }
+
+    // Segment start->end buffered by bufferMeters on every side, with round caps.
+    public static AreaPolygon buffer(ProhibitedArea area, double startLat, double startLon,
+                                     double endLat, double endLon, double bufferMeters) {
+        double metersPerDegLat = Math.toRadians(1) * GeoDistance.EARTH_RADIUS_METERS;
+        double metersPerDegLon = metersPerDegLat * Math.cos(Math.toRadians(startLat));
+        double bx = (endLon - startLon) * metersPerDegLon;
+        double by = (endLat - startLat) * metersPerDegLat;
+        double length = Math.hypot(bx, by);
+
+        double stepAngle = Math.PI / CAP_STEPS;
+        double r = bufferMeters / Math.cos(stepAngle / 2);
+        // Normal angle of the axis; a zero-length axis degenerates into two half circles, i.e. a circle.
+        double normal = length > 0 ? Math.atan2(bx, -by) : Math.PI / 2;
+
+        double[] lats = new double[2 * (CAP_STEPS + 1)];
+        double[] lons = new double[lats.length];
+        int n = 0;
+        // Cap around the end point, then around the start point, walking clockwise.
+        for (int cap = 0; cap < 2; cap++) {
+            double cx = cap == 0 ? bx : 0;
+            double cy = cap == 0 ? by : 0;
+            double from = normal - cap * Math.PI;
+            for (int i = 0; i <= CAP_STEPS; i++) {
+                double angle = from - i * stepAngle;
+                lons[n] = startLon + (cx + r * Math.cos(angle)) / metersPerDegLon;
+                lats[n] = startLat + (cy + r * Math.sin(angle)) / metersPerDegLat;
+                n++;
+            }
+        }
+        return new AreaPolygon(area, lats, lons, startLat, startLon, bx, by);
+    }
+
+    // Cheap reject: most candidates in a cell fail here before any polygon math.
+    public boolean boundsContain(double latitude, double longitude) {
+        return latitude >= minLat && latitude <= maxLat && longitude >= minLon && longitude <= maxLon;
+    }
+
+    // Exact point-in-polygon test (even-odd ray casting), after the bounding-box check.
+    public boolean contains(double latitude, double longitude) {
+        if (!boundsContain(latitude, longitude)) {
+            return false;
+        }
+        boolean inside = false;
+        for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+            if ((lats[i] > latitude) != (lats[j] > latitude)
+                    && longitude < (lons[j] - lons[i]) * (latitude - lats[i]) / (lats[j] - lats[i]) + lons[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    // Distance in meters from the point to the segment axis (or the centre for a circle).
+    public double distanceToAxisMeters(double latitude, double longitude) {
+        double px = (longitude - originLon) * metersPerDegLon;
+        double py = (latitude - originLat) * metersPerDegLat;
+        double lengthSquared = axisX * axisX + axisY * axisY;
+        double t = lengthSquared > 0 ? Math.max(0, Math.min(1, (px * axisX + py * axisY) / lengthSquared)) : 0;
+        return Math.hypot(px - t * axisX, py - t * axisY);
+    }
+
+    public ProhibitedArea getArea() {
+        return area;
+    }
+
+    public double getMinLat() {
+        return minLat;
+    }
+
+    public double getMaxLat() {
+        return maxLat;
+    }
+
+    public double getMinLon() {
+        return minLon;
+    }
+
+    public double getMaxLon() {
+        return maxLon;
+    }
+}
@@ -0,0 +1,57 @@
+package com.backend.backend.pas.index;
+
+// One normalized row of the no-parking (prkstop prhibt area) dataset.
+public class ProhibitedArea {
+    private final String ctprvnNm;
+    private final String signguNm;
+    private final String rdnmadr;
+    private final double latitude;
+    private final double longitude;
+    private final double endLatitude;
+    private final double endLongitude;
+
+    public ProhibitedArea(String ctprvnNm, String signguNm, String rdnmadr,
+                          double latitude, double longitude,
+                          double endLatitude, double endLongitude) {
+        this.ctprvnNm = ctprvnNm;
+        this.signguNm = signguNm;
+        this.rdnmadr = rdnmadr;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.endLatitude = endLatitude;
+        this.endLongitude = endLongitude;
+    }
+
+    public String getCtprvnNm() {
+        return ctprvnNm;
+    }
+
+    public String getSignguNm() {
+        return signguNm;
+    }
+
+    public String getRdnmadr() {
+        return rdnmadr;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    // NaN when the row only has a single point.
+    public double getEndLatitude() {
+        return endLatitude;
+    }
+
+    public double getEndLongitude() {
+        return endLongitude;
+    }
+
+    public boolean hasEndPoint() {
+        return !Double.isNaN(endLatitude) && !Double.isNaN(endLongitude);
+    }
+}
@@ -0,0 +1,133 @@
+package com.backend.backend.pas.index;
+
+import com.backend.backend.common.geo.GeoHash;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Immutable geohash grid over no-parking area polygons. Built off-thread and swapped in as a whole.
+// Each polygon is registered in every cell its bounding box overlaps, so a lookup only reads the point's own cell.
+public class ProhibitedAreaIndex {
+    // Guard against rows whose end point is far off (bad data): those fall back to two circles.
+    private static final int MAX_CELLS_PER_POLYGON = 64;
+
+    private final Map<String, AreaPolygon[]> cells;
+    private final int precision;
+    private final int size;
+    private final int polygonCount;
+    private final long builtAtMillis;
+
+    private ProhibitedAreaIndex(Map<String, AreaPolygon[]> cells, int precision, int size, int polygonCount) {
+        this.cells = cells;
+        this.precision = precision;
+        this.size = size;
+        this.polygonCount = polygonCount;
+        this.builtAtMillis = System.currentTimeMillis();
+    }
+
+    // Rows with an end point become a buffered segment; single-point rows become a circle of bufferMeters.
+    public static ProhibitedAreaIndex build(List<ProhibitedArea> areas, int precision, double bufferMeters) {
+        Map<String, List<AreaPolygon>> buckets = new HashMap<>();
+        int polygonCount = 0;
+        for (ProhibitedArea area : areas) {
+            if (area.hasEndPoint()) {
+                AreaPolygon segment = AreaPolygon.buffer(area, area.getLatitude(), area.getLongitude(),
+                        area.getEndLatitude(), area.getEndLongitude(), bufferMeters);
+                if (register(buckets, segment, precision, true)) {
+                    polygonCount++;
+                    continue;
+                }
+                register(buckets, AreaPolygon.around(area, area.getEndLatitude(), area.getEndLongitude(), bufferMeters),
+                        precision, false);
+                polygonCount++;
+            }
+            register(buckets, AreaPolygon.around(area, area.getLatitude(), area.getLongitude(), bufferMeters),
+                    precision, false);
+            polygonCount++;
+        }
+
+        Map<String, AreaPolygon[]> cells = new HashMap<>(buckets.size() * 2);
+        for (Map.Entry<String, List<AreaPolygon>> entry : buckets.entrySet()) {
+            cells.put(entry.getKey(), entry.getValue().toArray(new AreaPolygon[0]));
+        }
+        return new ProhibitedAreaIndex(cells, precision, areas.size(), polygonCount);
+    }
+
+    // Adds the polygon to every cell under its bounding box. With bounded=true, refuses (returns false)
+    // when that would take more than MAX_CELLS_PER_POLYGON cells.
+    private static boolean register(Map<String, List<AreaPolygon>> buckets, AreaPolygon polygon,
+                                    int precision, boolean bounded) {
+        double cellHeight = GeoHash.cellHeightDegrees(precision);
+        double cellWidth = GeoHash.cellWidthDegrees(precision);
+        if (bounded) {
+            long rows = (long) Math.ceil((polygon.getMaxLat() - polygon.getMinLat()) / cellHeight) + 1;
+            long cols = (long) Math.ceil((polygon.getMaxLon() - polygon.getMinLon()) / cellWidth) + 1;
+            if (rows * cols > MAX_CELLS_PER_POLYGON) {
+                return false;
+            }
+        }
+
+        Set<String> covered = new HashSet<>();
+        for (double lat = polygon.getMinLat(); ; lat += cellHeight) {
+            double rowLat = Math.min(lat, polygon.getMaxLat());
+            for (double lon = polygon.getMinLon(); ; lon += cellWidth) {
+                double colLon = Math.min(lon, polygon.getMaxLon());
+                covered.add(GeoHash.encode(rowLat, colLon, precision));
+                if (colLon >= polygon.getMaxLon()) {
+                    break;
+                }
+            }
+            if (rowLat >= polygon.getMaxLat()) {
+                break;
+            }
+        }
+        for (String cell : covered) {
+            buckets.computeIfAbsent(cell, k -> new ArrayList<>()).add(polygon);
+        }
+        return true;
+    }
+
+    // Area whose polygon contains the point, or null. When several overlap, the one with the closest axis wins.
+    public ProhibitedArea findContaining(double latitude, double longitude) {
+        AreaPolygon[] candidates = cells.get(GeoHash.encode(latitude, longitude, precision));
+        if (candidates == null) {
+            return null;
+        }
+        ProhibitedArea best = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (AreaPolygon polygon : candidates) {
+            if (!polygon.contains(latitude, longitude)) {
+                continue;
+            }
+            double distance = polygon.distanceToAxisMeters(latitude, longitude);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = polygon.getArea();
+            }
+        }
+        return best;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int polygonCount() {
+        return polygonCount;
+    }
+
+    public int cellCount() {
+        return cells.size();
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public long getBuiltAtMillis() {
+        return builtAtMillis;
+    }
+}
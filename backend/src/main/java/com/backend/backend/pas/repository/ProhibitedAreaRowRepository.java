@@ -0,0 +1,7 @@
+package com.backend.backend.pas.repository;
+
+import com.backend.backend.pas.entity.ProhibitedAreaRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProhibitedAreaRowRepository extends JpaRepository<ProhibitedAreaRow, Long> {
+}
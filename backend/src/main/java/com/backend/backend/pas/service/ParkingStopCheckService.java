@@ -1,16 +1,49 @@
 package com.backend.backend.pas.service;
 
+import com.backend.backend.common.cache.TtlLruCache;
+import com.backend.backend.common.concurrent.Deadline;
+import com.backend.backend.common.concurrent.SingleFlight;
+import com.backend.backend.common.geo.AdminBoundaryIndex;
+import com.backend.backend.common.geo.AdminRegions;
+import com.backend.backend.common.geo.GeoHash;
+import com.backend.backend.common.resilience.CircuitBreaker;
+import com.backend.backend.common.resilience.StaleWhileRevalidate;
+import com.backend.backend.common.resilience.UpstreamCircuitBreakers;
+import com.backend.backend.config.GeocodeCacheProperties;
 import com.backend.backend.config.KakaoApiProperties;
 import com.backend.backend.config.ParkingStopApiProperties;
+import com.backend.backend.config.ParkingStopAsyncProperties;
+import com.backend.backend.config.ParkingStopBatchProperties;
+import com.backend.backend.config.UpstreamResilienceProperties;
+import com.backend.backend.pas.dto.ParkingStopCheckRequest;
 import com.backend.backend.pas.dto.ParkingStopCheckResponse;
+import com.backend.backend.pas.index.ProhibitedArea;
+import com.backend.backend.pas.index.ProhibitedAreaIndex;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import jakarta.annotation.PreDestroy;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
@@ -21,18 +54,188 @@ import org.springframework.web.util.UriUtils;
 public class ParkingStopCheckService {
     private final KakaoApiProperties kakaoApiProperties;
     private final ParkingStopApiProperties parkingStopApiProperties;
+    private final GeocodeCacheProperties geocodeCacheProperties;
+    private final ParkingStopBatchProperties parkingStopBatchProperties;
+    private final ParkingStopAsyncProperties parkingStopAsyncProperties;
+    private final ProhibitedAreaIndexService prohibitedAreaIndexService;
+    private final AdminRegions adminRegions;
     private final RestTemplate restTemplate;
+    // Non-blocking client for the async pipeline; the request thread is released while it waits.
+    private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    // Reverse-geocode results keyed by geohash cell; null entries are cached "no address" answers.
+    private final TtlLruCache<String, KakaoAddressInfo> geocodeCache;
+    // Concurrent identical upstream lookups (same geocode cell / same region+road) share one call.
+    private final SingleFlight<String, KakaoAddressInfo> geocodeFlight = new SingleFlight<>();
+    private final SingleFlight<String, Boolean> parkingStopFlight = new SingleFlight<>();
+    // Async pipeline: coarse cell -> {region1, region2}, and region -> all of its prohibited road addresses.
+    private final TtlLruCache<String, String[]> regionCache;
+    private final TtlLruCache<String, RegionRoads> regionRoadsCache;
+    private final SingleFlight<String, String[]> regionFlight = new SingleFlight<>();
+    private final SingleFlight<String, RegionRoads> regionRoadsFlight = new SingleFlight<>();
+    // Bounded pool for the unique remote lookups of a batch request (also runs background revalidation).
+    private final ExecutorService batchExecutor;
+    // Per-upstream breakers shared with the other services, and the last good remote answer per geocode cell.
+    private final CircuitBreaker kakaoBreaker;
+    private final CircuitBreaker dataGoKrBreaker;
+    private final StaleWhileRevalidate<String, ParkingStopCheckResponse> remoteResponses;
 
-    public ParkingStopCheckService(KakaoApiProperties kakaoApiProperties, ParkingStopApiProperties parkingStopApiProperties) {
+    public ParkingStopCheckService(KakaoApiProperties kakaoApiProperties,
+                                   ParkingStopApiProperties parkingStopApiProperties,
+                                   GeocodeCacheProperties geocodeCacheProperties,
+                                   ParkingStopBatchProperties parkingStopBatchProperties,
+                                   ParkingStopAsyncProperties parkingStopAsyncProperties,
+                                   UpstreamResilienceProperties upstreamResilienceProperties,
+                                   UpstreamCircuitBreakers upstreamCircuitBreakers,
+                                   ProhibitedAreaIndexService prohibitedAreaIndexService,
+                                   AdminRegions adminRegions) {
         this.kakaoApiProperties = kakaoApiProperties;
         this.parkingStopApiProperties = parkingStopApiProperties;
-        this.restTemplate = new RestTemplate();
+        this.geocodeCacheProperties = geocodeCacheProperties;
+        this.parkingStopBatchProperties = parkingStopBatchProperties;
+        this.parkingStopAsyncProperties = parkingStopAsyncProperties;
+        this.prohibitedAreaIndexService = prohibitedAreaIndexService;
+        this.adminRegions = adminRegions;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) parkingStopAsyncProperties.getConnectTimeoutMs());
+        requestFactory.setReadTimeout((int) parkingStopAsyncProperties.getReadTimeoutMs());
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(parkingStopAsyncProperties.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
         this.objectMapper = new ObjectMapper();
+        this.geocodeCache = new TtlLruCache<>(
+                geocodeCacheProperties.getMaxEntries(),
+                geocodeCacheProperties.getTtlMs(),
+                geocodeCacheProperties.getNegativeTtlMs()
+        );
+        this.regionCache = new TtlLruCache<>(
+                parkingStopAsyncProperties.getRegionCacheMaxEntries(),
+                geocodeCacheProperties.getTtlMs(),
+                geocodeCacheProperties.getNegativeTtlMs()
+        );
+        this.regionRoadsCache = new TtlLruCache<>(
+                parkingStopAsyncProperties.getRegionCacheMaxEntries(),
+                parkingStopAsyncProperties.getRegionCacheTtlMs(),
+                0L
+        );
+        this.batchExecutor = Executors.newFixedThreadPool(Math.max(1, parkingStopBatchProperties.getParallelism()));
+        this.kakaoBreaker = upstreamCircuitBreakers.get(UpstreamCircuitBreakers.KAKAO);
+        this.dataGoKrBreaker = upstreamCircuitBreakers.get(UpstreamCircuitBreakers.DATA_GO_KR);
+        this.remoteResponses = new StaleWhileRevalidate<>(
+                upstreamResilienceProperties.getStaleMaxEntries(),
+                upstreamResilienceProperties.getStaleTtlMs(),
+                () -> !kakaoBreaker.isClosed() || !dataGoKrBreaker.isClosed(),
+                batchExecutor
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdownNow();
     }
 
-    // Main entry: converts x/y to road address, then queries parking-stop API and returns boolean.
+    // Main entry: answers from the in-memory index when it is loaded, otherwise falls back to the remote path.
     public ParkingStopCheckResponse checkProhibited(double x, double y) {
+        ProhibitedAreaIndex index = prohibitedAreaIndexService.currentIndex();
+        if (index != null) {
+            ProhibitedArea area = index.findContaining(y, x);
+            return new ParkingStopCheckResponse(area != null, area != null ? area.getRdnmadr() : null);
+        }
+        return checkProhibitedRemote(x, y);
+    }
+
+    // Async entry: same answer as checkProhibited, but the remote path never blocks the calling thread.
+    // The region-level prohibition prefetch starts while the road-level geocode is still in flight, and both
+    // share one deadline. When the deadline is spent or an upstream fails, the last good answer for the cell is
+    // served (stale=true); without one the future completes exceptionally (TimeoutException / CircuitOpenException).
+    public CompletableFuture<ParkingStopCheckResponse> checkProhibitedAsync(double x, double y) {
+        if (prohibitedAreaIndexService.currentIndex() != null) {
+            return CompletableFuture.completedFuture(checkProhibited(x, y));
+        }
+
+        String cell = GeoHash.encode(y, x, geocodeCacheProperties.getGeohashPrecision());
+        return remoteResponses.getAsync(cell, () -> checkProhibitedRemoteAsync(x, y))
+                .thenApply(this::toResponse);
+    }
+
+    private CompletableFuture<ParkingStopCheckResponse> checkProhibitedRemoteAsync(double x, double y) {
+        Deadline deadline = Deadline.afterMillis(parkingStopAsyncProperties.getDeadlineMs());
+        CompletableFuture<RegionRoads> regionRoads = resolveRegionAsync(x, y, deadline)
+                .thenCompose(region -> region == null
+                        ? CompletableFuture.<RegionRoads>completedFuture(null)
+                        : fetchRegionRoadsAsync(region[0], region[1], deadline))
+                .exceptionally(e -> null);
+
+        return resolveAddressInfoAsync(x, y, deadline)
+                .thenCompose(info -> {
+                    if (info == null || !StringUtils.hasText(info.roadAddressName)) {
+                        return CompletableFuture.completedFuture(new ParkingStopCheckResponse(false, null));
+                    }
+                    // Use the region prefetch only if it is already there and complete; never wait for it.
+                    RegionRoads roads = regionRoads.getNow(null);
+                    String roadName = resolveRoadName(info);
+                    if (roads != null && roads.covers(info)) {
+                        return CompletableFuture.completedFuture(
+                                new ParkingStopCheckResponse(roads.contains(roadName), info.roadAddressName));
+                    }
+                    return queryParkingStopApiAsync(info, roadName, deadline)
+                            .thenApply(prohibited -> new ParkingStopCheckResponse(prohibited, info.roadAddressName));
+                })
+                .orTimeout(parkingStopAsyncProperties.getDeadlineMs(), TimeUnit.MILLISECONDS);
+    }
+
+    // Batch entry: with the zone index loaded only identical coordinates share a lookup, so every point gets the
+    // same answer as the single-point endpoint. On the remote path points in the same geohash cell share one lookup
+    // (the remote answer is per cell anyway) and unique lookups run on the bounded pool.
+    // Responses are returned in request order. A failed lookup marks its points unknown (error set) instead of
+    // failing the batch.
+    public List<ParkingStopCheckResponse> checkProhibitedBatch(List<ParkingStopCheckRequest> points) {
+        boolean indexed = prohibitedAreaIndexService.currentIndex() != null;
+        int precision = parkingStopBatchProperties.getDedupeGeohashPrecision();
+        String[] cellOfPoint = new String[points.size()];
+        Map<String, ParkingStopCheckRequest> uniquePoints = new LinkedHashMap<>();
+        for (int i = 0; i < points.size(); i++) {
+            ParkingStopCheckRequest point = points.get(i);
+            cellOfPoint[i] = indexed
+                    ? point.getX() + "," + point.getY()
+                    : GeoHash.encode(point.getY(), point.getX(), precision);
+            uniquePoints.putIfAbsent(cellOfPoint[i], point);
+        }
+
+        Map<String, ParkingStopCheckResponse> resultByCell = new HashMap<>();
+        if (indexed) {
+            // Index lookups are cheap; the pool would only add hand-off overhead.
+            uniquePoints.forEach((cell, point) -> resultByCell.put(cell, checkProhibited(point.getX(), point.getY())));
+        } else {
+            Map<String, CompletableFuture<ParkingStopCheckResponse>> futures = new LinkedHashMap<>();
+            uniquePoints.forEach((cell, point) -> futures.put(cell, CompletableFuture
+                    .supplyAsync(() -> checkProhibited(point.getX(), point.getY()), batchExecutor)
+                    .exceptionally(e -> {
+                        System.out.println("[PAS batch error] " + e.getClass().getSimpleName() + ": " + e.getMessage());
+                        return ParkingStopCheckResponse.unknown("LOOKUP_FAILED");
+                    })));
+            futures.forEach((cell, future) -> resultByCell.put(cell, future.join()));
+        }
+
+        List<ParkingStopCheckResponse> responses = new ArrayList<>(points.size());
+        for (String cell : cellOfPoint) {
+            responses.add(resultByCell.get(cell));
+        }
+        return responses;
+    }
+
+    // Remote path, guarded by the breakers: while an upstream is failing the last good answer for the cell
+    // is served with stale=true, and only cells never answered before surface the error.
+    public ParkingStopCheckResponse checkProhibitedRemote(double x, double y) {
+        String cell = GeoHash.encode(y, x, geocodeCacheProperties.getGeohashPrecision());
+        return toResponse(remoteResponses.get(cell, () -> checkProhibitedLive(x, y)));
+    }
+
+    // Converts x/y to road address, then queries parking-stop API and returns boolean.
+    private ParkingStopCheckResponse checkProhibitedLive(double x, double y) {
         KakaoAddressInfo addressInfo = resolveAddressInfo(x, y);
         if (addressInfo == null || !StringUtils.hasText(addressInfo.roadAddressName)) {
             return new ParkingStopCheckResponse(false, null);
@@ -55,18 +258,135 @@ public class ParkingStopCheckService {
         return new ParkingStopCheckResponse(prohibited, info.roadAddressName);
     }
 
-    // Kakao coord2address: x/y -> road_address/address + region info for better matching.
+    // Zone index/ingestion state plus counters for the caches in front of the upstream APIs.
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("zoneIndex", prohibitedAreaIndexService.getStats());
+        stats.put("geocodeCache", geocodeCache.stats());
+        stats.put("geocodeSingleFlight", geocodeFlight.stats());
+        stats.put("parkingStopSingleFlight", parkingStopFlight.stats());
+        stats.put("adminRegions", adminRegions.getStats());
+        stats.put("regionCache", regionCache.stats());
+        stats.put("regionRoadsCache", regionRoadsCache.stats());
+        stats.put("regionRoadsSingleFlight", regionRoadsFlight.stats());
+        stats.put("lastGoodResponses", remoteResponses.stats());
+        stats.put("circuitBreakers", Map.of(kakaoBreaker.getName(), kakaoBreaker.stats(), dataGoKrBreaker.getName(), dataGoKrBreaker.stats()));
+        return stats;
+    }
+
+    private ParkingStopCheckResponse toResponse(StaleWhileRevalidate.Result<ParkingStopCheckResponse> result) {
+        ParkingStopCheckResponse source = result.getValue();
+        ParkingStopCheckResponse response = new ParkingStopCheckResponse(source.isProhibited(), source.getRoadAddress());
+        response.setStale(result.isStale());
+        return response;
+    }
+
+    // Snaps x/y to a geohash cell and serves coord2address from the cache; a stationary car hits the same cell.
+    // Misses for the same cell are coalesced, so a traffic jam produces one Kakao call per cell.
     private KakaoAddressInfo resolveAddressInfo(double x, double y) {
+        String cell = GeoHash.encode(y, x, geocodeCacheProperties.getGeohashPrecision());
+        if (!geocodeCacheProperties.isEnabled()) {
+            return geocodeFlight.execute(cell, () -> kakaoBreaker.execute(() -> fetchAddressInfo(x, y)));
+        }
+        return geocodeCache.get(cell, key -> geocodeFlight.execute(key, () -> kakaoBreaker.execute(() -> fetchAddressInfo(x, y))));
+    }
+
+    private CompletableFuture<KakaoAddressInfo> resolveAddressInfoAsync(double x, double y, Deadline deadline) {
+        String cell = GeoHash.encode(y, x, geocodeCacheProperties.getGeohashPrecision());
+        if (!geocodeCacheProperties.isEnabled()) {
+            return geocodeFlight.executeAsync(cell, () -> fetchAddressInfoAsync(x, y, deadline));
+        }
+        return geocodeCache.getAsync(cell, key -> geocodeFlight.executeAsync(key, () -> fetchAddressInfoAsync(x, y, deadline)));
+    }
+
+    private CompletableFuture<KakaoAddressInfo> fetchAddressInfoAsync(double x, double y, Deadline deadline) {
         if (!StringUtils.hasText(kakaoApiProperties.getRestKey())) {
-            throw new IllegalStateException("kakao.api.rest-key is required.");
+            return CompletableFuture.failedFuture(new IllegalStateException("kakao.api.rest-key is required."));
+        }
+        return sendAsync(kakaoUri(kakaoApiProperties.getCoord2AddressBaseUrl(), x, y), true, deadline)
+                .thenApply(body -> {
+                    try {
+                        return parseAddressInfo(body);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Failed to parse Kakao coord2address data.", e);
+                    }
+                });
+    }
+
+    // Region for the region-level prefetch: in-process from the boundary index when it is loaded,
+    // otherwise Kakao coord2regioncode cached per coarse cell.
+    private CompletableFuture<String[]> resolveRegionAsync(double x, double y, Deadline deadline) {
+        if (adminRegions.isAvailable()) {
+            AdminBoundaryIndex.Region region = adminRegions.find(y, x);
+            return CompletableFuture.completedFuture(region != null && region.getRegion1() != null
+                    ? new String[]{region.getRegion1(), region.getRegion2()}
+                    : null);
+        }
+        if (!StringUtils.hasText(kakaoApiProperties.getRestKey())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String cell = GeoHash.encode(y, x, parkingStopAsyncProperties.getRegionGeohashPrecision());
+        return regionCache.getAsync(cell, key -> regionFlight.executeAsync(key, () ->
+                sendAsync(kakaoUri(kakaoApiProperties.getBaseUrl(), x, y), true, deadline).thenApply(this::parseRegion)));
+    }
+
+    // data.go.kr rows for a whole region (no road filter). Complete only if every row fit into one page.
+    private CompletableFuture<RegionRoads> fetchRegionRoadsAsync(String region1, String region2, Deadline deadline) {
+        if (!StringUtils.hasText(parkingStopApiProperties.getServiceKey())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String key = region1 + "|" + region2;
+        URI uri = parkingStopUri(region1, region2, null, parkingStopAsyncProperties.getRegionRowsPerPage());
+        return regionRoadsCache.getAsync(key, k -> regionRoadsFlight.executeAsync(k, () ->
+                sendAsync(uri, false, deadline).thenApply(body -> parseRegionRoads(region1, region2, body))));
+    }
+
+    private CompletableFuture<Boolean> queryParkingStopApiAsync(KakaoAddressInfo addressInfo, String rdnmParam, Deadline deadline) {
+        if (!StringUtils.hasText(parkingStopApiProperties.getServiceKey())) {
+            return CompletableFuture.failedFuture(new IllegalStateException("parking.stop.api.service-key is required."));
+        }
+        String key = addressInfo.region1 + "|" + addressInfo.region2 + "|" + rdnmParam;
+        URI uri = parkingStopUri(addressInfo.region1, addressInfo.region2, rdnmParam, parkingStopApiProperties.getNumOfRows());
+        return parkingStopFlight.executeAsync(key, () -> sendAsync(uri, false, deadline).thenApply(this::parseHasItems));
+    }
+
+    // GET with the remaining deadline as request timeout, through the upstream's breaker;
+    // non-2xx answers complete exceptionally.
+    private CompletableFuture<String> sendAsync(URI uri, boolean kakaoAuth, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(new TimeoutException("deadline exceeded before " + uri.getHost()));
         }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(deadline.remaining()).GET();
+        if (kakaoAuth) {
+            builder.header("Authorization", "KakaoAK " + kakaoApiProperties.getRestKey());
+        }
+        CircuitBreaker breaker = kakaoAuth ? kakaoBreaker : dataGoKrBreaker;
+        return breaker.executeAsync(() -> httpClient
+                .sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(response -> {
+                    if (response.statusCode() / 100 != 2) {
+                        throw new IllegalStateException("HTTP " + response.statusCode() + " from " + uri.getHost());
+                    }
+                    return response.body();
+                }));
+    }
 
-        URI uri = UriComponentsBuilder
-                .fromHttpUrl(kakaoApiProperties.getCoord2AddressBaseUrl())
+    private URI kakaoUri(String baseUrl, double x, double y) {
+        return UriComponentsBuilder
+                .fromHttpUrl(baseUrl)
                 .queryParam("x", x)
                 .queryParam("y", y)
                 .build(true)
                 .toUri();
+    }
+
+    // Kakao coord2address: x/y -> road_address/address + region info for better matching.
+    private KakaoAddressInfo fetchAddressInfo(double x, double y) {
+        if (!StringUtils.hasText(kakaoApiProperties.getRestKey())) {
+            throw new IllegalStateException("kakao.api.rest-key is required.");
+        }
+
+        URI uri = kakaoUri(kakaoApiProperties.getCoord2AddressBaseUrl(), x, y);
 
         try {
             HttpHeaders headers = new HttpHeaders();
@@ -82,54 +402,80 @@ public class ParkingStopCheckService {
             // Debug: log raw Kakao response
             System.out.println("[Kakao coord2address raw] " + response.getBody());
 
-            JsonNode root = objectMapper.readTree(response.getBody());
-            JsonNode documents = root.path("documents");
-            if (!documents.isArray() || documents.size() == 0) {
-                return null;
-            }
+            return parseAddressInfo(response.getBody());
 
-            JsonNode first = documents.get(0);
-            JsonNode roadAddress = first.path("road_address");
-            String roadAddressName = roadAddress.path("address_name").asText(null);
-            String roadName = roadAddress.path("road_name").asText(null);
-            String region1 = roadAddress.path("region_1depth_name").asText(null);
-            String region2 = roadAddress.path("region_2depth_name").asText(null);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to fetch Kakao coord2address data.", e);
+        }
+    }
 
-            // Fallback when road_address is missing: use address.address_name
-            JsonNode address = first.path("address");
-            String addressName = address.path("address_name").asText(null);
-            String addrRegion1 = address.path("region_1depth_name").asText(null);
-            String addrRegion2 = address.path("region_2depth_name").asText(null);
+    private KakaoAddressInfo parseAddressInfo(String body) throws Exception {
+        JsonNode root = objectMapper.readTree(body);
+        JsonNode documents = root.path("documents");
+        if (!documents.isArray() || documents.size() == 0) {
+            return null;
+        }
 
-            KakaoAddressInfo info = new KakaoAddressInfo();
-            info.roadAddressName = StringUtils.hasText(roadAddressName) ? roadAddressName.trim() : (StringUtils.hasText(addressName) ? addressName.trim() : null);
-            info.roadName = StringUtils.hasText(roadName) ? roadName.trim() : null;
-            info.region1 = StringUtils.hasText(region1) ? region1.trim() : (StringUtils.hasText(addrRegion1) ? addrRegion1.trim() : null);
-            info.region2 = StringUtils.hasText(region2) ? region2.trim() : (StringUtils.hasText(addrRegion2) ? addrRegion2.trim() : null);
+        JsonNode first = documents.get(0);
+        JsonNode roadAddress = first.path("road_address");
+        String roadAddressName = roadAddress.path("address_name").asText(null);
+        String roadName = roadAddress.path("road_name").asText(null);
+        String region1 = roadAddress.path("region_1depth_name").asText(null);
+        String region2 = roadAddress.path("region_2depth_name").asText(null);
 
-            return info;
+        // Fallback when road_address is missing: use address.address_name
+        JsonNode address = first.path("address");
+        String addressName = address.path("address_name").asText(null);
+        String addrRegion1 = address.path("region_1depth_name").asText(null);
+        String addrRegion2 = address.path("region_2depth_name").asText(null);
 
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to fetch Kakao coord2address data.", e);
-        }
+        KakaoAddressInfo info = new KakaoAddressInfo();
+        info.roadAddressName = StringUtils.hasText(roadAddressName) ? roadAddressName.trim() : (StringUtils.hasText(addressName) ? addressName.trim() : null);
+        info.roadName = StringUtils.hasText(roadName) ? roadName.trim() : null;
+        info.region1 = StringUtils.hasText(region1) ? region1.trim() : (StringUtils.hasText(addrRegion1) ? addrRegion1.trim() : null);
+        info.region2 = StringUtils.hasText(region2) ? region2.trim() : (StringUtils.hasText(addrRegion2) ? addrRegion2.trim() : null);
+
+        return info;
     }
 
-    // data.go.kr: query by region + road name (if available) and decide if any item exists.
+    // Identical region + road queries in flight at the same time share one data.go.kr call.
     private boolean queryParkingStopApi(KakaoAddressInfo addressInfo) {
+        String rdnmParam = resolveRoadName(addressInfo);
+        String key = addressInfo.region1 + "|" + addressInfo.region2 + "|" + rdnmParam;
+        return parkingStopFlight.execute(key, () -> dataGoKrBreaker.execute(() -> fetchParkingStopApi(addressInfo, rdnmParam)));
+    }
+
+    // data.go.kr: query by region + road name (if available) and decide if any item exists.
+    // Failures are thrown so the breaker sees them; callers decide whether to serve a stale answer.
+    private boolean fetchParkingStopApi(KakaoAddressInfo addressInfo, String rdnmParam) {
         if (!StringUtils.hasText(parkingStopApiProperties.getServiceKey())) {
             throw new IllegalStateException("parking.stop.api.service-key is required.");
         }
 
-        String rdnmParam = resolveRoadName(addressInfo);
+        URI uri = parkingStopUri(addressInfo.region1, addressInfo.region2, rdnmParam, parkingStopApiProperties.getNumOfRows());
+        System.out.println("[ParkingStop url] " + uri);
+
+        try {
+            String body = restTemplate.getForObject(uri, String.class);
+            // Debug: log raw parking-stop API response
+            System.out.println("[ParkingStop raw] " + body);
+            return parseHasItems(body);
+        } catch (Exception e) {
+            System.out.println("[ParkingStop error] " + e.getClass().getSimpleName() + ": " + e.getMessage());
+            throw new IllegalStateException("Failed to fetch parking-stop data.", e);
+        }
+    }
+
+    private URI parkingStopUri(String region1, String region2, String rdnmParam, int numOfRows) {
         String encodedRoad = StringUtils.hasText(rdnmParam) ? UriUtils.encode(rdnmParam, StandardCharsets.UTF_8) : null;
-        String encodedRegion1 = StringUtils.hasText(addressInfo.region1) ? UriUtils.encode(addressInfo.region1, StandardCharsets.UTF_8) : null;
-        String encodedRegion2 = StringUtils.hasText(addressInfo.region2) ? UriUtils.encode(addressInfo.region2, StandardCharsets.UTF_8) : null;
+        String encodedRegion1 = StringUtils.hasText(region1) ? UriUtils.encode(region1, StandardCharsets.UTF_8) : null;
+        String encodedRegion2 = StringUtils.hasText(region2) ? UriUtils.encode(region2, StandardCharsets.UTF_8) : null;
 
         UriComponentsBuilder builder = UriComponentsBuilder
                 .fromHttpUrl(parkingStopApiProperties.getBaseUrl())
                 .queryParam("serviceKey", parkingStopApiProperties.getServiceKey())
                 .queryParam("pageNo", parkingStopApiProperties.getPageNo())
-                .queryParam("numOfRows", parkingStopApiProperties.getNumOfRows())
+                .queryParam("numOfRows", numOfRows)
                 .queryParam("type", "JSON");
 
         if (StringUtils.hasText(encodedRegion1)) {
@@ -141,14 +487,11 @@ public class ParkingStopCheckService {
         if (StringUtils.hasText(encodedRoad)) {
             builder.queryParam("rdnmadr", encodedRoad);
         }
+        return builder.build(true).toUri();
+    }
 
-        URI uri = builder.build(true).toUri();
-        System.out.println("[ParkingStop url] " + uri);
-
+    private boolean parseHasItems(String body) {
         try {
-            String body = restTemplate.getForObject(uri, String.class);
-            // Debug: log raw parking-stop API response
-            System.out.println("[ParkingStop raw] " + body);
             JsonNode root = objectMapper.readTree(body);
             JsonNode items = root.path("response").path("body").path("items");
 
@@ -161,8 +504,87 @@ public class ParkingStopCheckService {
             // Some APIs return a single object instead of array.
             return items.size() > 0 || items.fieldNames().hasNext();
         } catch (Exception e) {
-            System.out.println("[ParkingStop error] " + e.getClass().getSimpleName() + ": " + e.getMessage());
-            // If API fails, return false as requested.
+            throw new IllegalStateException("Failed to parse parking-stop data.", e);
+        }
+    }
+
+    // coord2regioncode: prefer the legal-dong (B) document; returns {region1, region2} or null.
+    private String[] parseRegion(String body) {
+        try {
+            JsonNode documents = objectMapper.readTree(body).path("documents");
+            if (!documents.isArray() || documents.size() == 0) {
+                return null;
+            }
+            JsonNode chosen = documents.get(0);
+            for (JsonNode document : documents) {
+                if ("B".equals(document.path("region_type").asText())) {
+                    chosen = document;
+                    break;
+                }
+            }
+            String region1 = chosen.path("region_1depth_name").asText(null);
+            String region2 = chosen.path("region_2depth_name").asText(null);
+            if (!StringUtils.hasText(region1)) {
+                return null;
+            }
+            return new String[]{region1.trim(), StringUtils.hasText(region2) ? region2.trim() : null};
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse Kakao coord2regioncode data.", e);
+        }
+    }
+
+    private RegionRoads parseRegionRoads(String region1, String region2, String body) {
+        try {
+            JsonNode responseBody = objectMapper.readTree(body).path("response").path("body");
+            JsonNode items = responseBody.path("items");
+            if (items.has("item")) {
+                items = items.get("item");
+            }
+            List<String> roadAddresses = new ArrayList<>();
+            if (items.isArray()) {
+                for (JsonNode item : items) {
+                    String rdnmadr = item.path("rdnmadr").asText(null);
+                    if (StringUtils.hasText(rdnmadr)) {
+                        roadAddresses.add(rdnmadr.trim());
+                    }
+                }
+            }
+            int totalCount = responseBody.path("totalCount").asInt(items.size());
+            return new RegionRoads(region1, region2, roadAddresses, totalCount <= items.size());
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse parking-stop data.", e);
+        }
+    }
+
+    // Prohibited road addresses of one region. Only a complete list may answer "not prohibited".
+    private static class RegionRoads {
+        private final String region1;
+        private final String region2;
+        private final List<String> roadAddresses;
+        private final boolean complete;
+
+        private RegionRoads(String region1, String region2, List<String> roadAddresses, boolean complete) {
+            this.region1 = region1;
+            this.region2 = region2;
+            this.roadAddresses = roadAddresses;
+            this.complete = complete;
+        }
+
+        private boolean covers(KakaoAddressInfo info) {
+            return complete
+                    && Objects.equals(region1, info.region1)
+                    && Objects.equals(region2, info.region2);
+        }
+
+        private boolean contains(String roadName) {
+            if (!StringUtils.hasText(roadName)) {
+                return false;
+            }
+            for (String roadAddress : roadAddresses) {
+                if (roadAddress.contains(roadName)) {
+                    return true;
+                }
+            }
             return false;
         }
     }
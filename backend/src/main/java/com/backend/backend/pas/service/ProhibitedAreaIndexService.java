@@ -0,0 +1,139 @@
+package com.backend.backend.pas.service;
+
+import com.backend.backend.config.ParkingStopIndexProperties;
+import com.backend.backend.pas.entity.ProhibitedAreaRow;
+import com.backend.backend.pas.index.ProhibitedArea;
+import com.backend.backend.pas.index.ProhibitedAreaIndex;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// Keeps an in-memory spatial index of the no-parking dataset, built from the local store the ingestion job fills.
+@Service
+public class ProhibitedAreaIndexService {
+    private final ParkingStopIndexProperties indexProperties;
+    private final ProhibitedAreaIngestionJob ingestionJob;
+    private final ProhibitedAreaStore store;
+
+    private volatile ProhibitedAreaIndex index;
+    // Rows the last rebuild could not index as given (see rebuild)
+    private volatile int rowsWithoutCoordinates;
+    private volatile int outOfAreaRows;
+    private volatile int outOfAreaEndPoints;
+
+    public ProhibitedAreaIndexService(ParkingStopIndexProperties indexProperties,
+                                      ProhibitedAreaIngestionJob ingestionJob,
+                                      ProhibitedAreaStore store) {
+        this.indexProperties = indexProperties;
+        this.ingestionJob = ingestionJob;
+        this.store = store;
+    }
+
+    // Returns the loaded index, or null while it is not available (callers fall back to the remote API).
+    public ProhibitedAreaIndex currentIndex() {
+        if (!indexProperties.isEnabled()) {
+            return null;
+        }
+        ProhibitedAreaIndex current = index;
+        return current != null && current.size() > 0 ? current : null;
+    }
+
+    // Runs once right after startup, then on a fixed delay. The first run serves the previously stored rows
+    // before ingesting; a failed ingestion keeps serving the previous index.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${parking.stop.index.refresh-interval-ms:21600000}")
+    public void refresh() {
+        if (!indexProperties.isEnabled()) {
+            return;
+        }
+        if (index == null) {
+            try {
+                rebuild(store.findAll(), "store");
+            } catch (Exception e) {
+                System.out.println("[ParkingStop index error] loading store: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+        try {
+            rebuild(ingestionJob.ingest(), "ingest");
+        } catch (Exception e) {
+            System.out.println("[ParkingStop index error] " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        ProhibitedAreaIndex current = index;
+        stats.put("loaded", current != null);
+        stats.put("areas", current != null ? current.size() : 0);
+        stats.put("polygons", current != null ? current.polygonCount() : 0);
+        stats.put("cells", current != null ? current.cellCount() : 0);
+        stats.put("builtAt", current != null ? current.getBuiltAtMillis() : null);
+        stats.put("rowsWithoutCoordinates", rowsWithoutCoordinates);
+        stats.put("outOfAreaRows", outOfAreaRows);
+        stats.put("outOfAreaEndPoints", outOfAreaEndPoints);
+        stats.put("ingestion", ingestionJob.stats());
+        return stats;
+    }
+
+    // Rows without a start coordinate, or with one that is non-finite or outside the service area (0/0 placeholders,
+    // swapped lat/lon), cannot be indexed and are skipped. A bad end point alone only loses the segment: the row is
+    // indexed as a circle around its start, instead of a polygon stretched across the country.
+    private void rebuild(List<ProhibitedAreaRow> rows, String source) {
+        long started = System.currentTimeMillis();
+        List<ProhibitedArea> areas = new ArrayList<>(rows.size());
+        int withoutCoordinates = 0;
+        int outOfArea = 0;
+        int outOfAreaEnds = 0;
+        for (ProhibitedAreaRow row : rows) {
+            if (row.getLatitude() == null || row.getLongitude() == null) {
+                withoutCoordinates++;
+                continue;
+            }
+            if (!inServiceArea(row.getLatitude(), row.getLongitude())) {
+                outOfArea++;
+                continue;
+            }
+            boolean hasEnd = row.getEndLatitude() != null && row.getEndLongitude() != null;
+            boolean endInArea = hasEnd && inServiceArea(row.getEndLatitude(), row.getEndLongitude());
+            if (hasEnd && !endInArea) {
+                outOfAreaEnds++;
+            }
+            areas.add(toArea(row, endInArea));
+        }
+        rowsWithoutCoordinates = withoutCoordinates;
+        outOfAreaRows = outOfArea;
+        outOfAreaEndPoints = outOfAreaEnds;
+        if (outOfArea > 0 || outOfAreaEnds > 0) {
+            System.out.println("[ParkingStop index] skipped " + outOfArea + " rows and " + outOfAreaEnds
+                    + " end points outside the service area from " + source);
+        }
+        if (areas.isEmpty()) {
+            System.out.println("[ParkingStop index] no rows with coordinates from " + source + "; keeping previous index");
+            return;
+        }
+        index = ProhibitedAreaIndex.build(areas, indexProperties.getGeohashPrecision(), indexProperties.getRadiusMeters());
+        System.out.println("[ParkingStop index] loaded " + areas.size() + " areas from " + source + " into "
+                + index.cellCount() + " cells in " + (System.currentTimeMillis() - started) + " ms");
+    }
+
+    private ProhibitedArea toArea(ProhibitedAreaRow row, boolean withEndPoint) {
+        return new ProhibitedArea(
+                row.getCtprvnNm(),
+                row.getSignguNm(),
+                row.getRdnmadr() != null ? row.getRdnmadr() : row.getLnmadr(),
+                row.getLatitude(),
+                row.getLongitude(),
+                withEndPoint ? row.getEndLatitude() : Double.NaN,
+                withEndPoint ? row.getEndLongitude() : Double.NaN
+        );
+    }
+
+    // Finite and inside the configured service area (Korea by default)
+    private boolean inServiceArea(double latitude, double longitude) {
+        return Double.isFinite(latitude) && Double.isFinite(longitude)
+                && latitude >= indexProperties.getMinLatitude() && latitude <= indexProperties.getMaxLatitude()
+                && longitude >= indexProperties.getMinLongitude() && longitude <= indexProperties.getMaxLongitude();
+    }
+}
@@ -0,0 +1,263 @@
+package com.backend.backend.pas.service;
+
+import com.backend.backend.config.ParkingStopApiProperties;
+import com.backend.backend.config.ParkingStopIndexProperties;
+import com.backend.backend.pas.entity.ProhibitedAreaRow;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+// Pages through the whole no-parking dataset with bounded parallelism and retry, parsing each page as a stream.
+@Service
+public class ProhibitedAreaIngestionJob {
+    private final ParkingStopApiProperties parkingStopApiProperties;
+    private final ParkingStopIndexProperties indexProperties;
+    private final ProhibitedAreaStore store;
+    private final RestTemplate restTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong failedRuns = new AtomicLong();
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    public ProhibitedAreaIngestionJob(ParkingStopApiProperties parkingStopApiProperties,
+                                      ParkingStopIndexProperties indexProperties,
+                                      ProhibitedAreaStore store) {
+        this.parkingStopApiProperties = parkingStopApiProperties;
+        this.indexProperties = indexProperties;
+        this.store = store;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(5000);
+        requestFactory.setReadTimeout(60000);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    // Fetches every page and replaces the local store. Returns the stored rows, or throws if any page failed
+    // after its retries (a partial dataset would silently drop zones, so the old store is kept instead).
+    public List<ProhibitedAreaRow> ingest() {
+        if (!StringUtils.hasText(parkingStopApiProperties.getServiceKey())) {
+            throw new IllegalStateException("parking.stop.api.service-key is required.");
+        }
+        runs.incrementAndGet();
+        long started = System.currentTimeMillis();
+        AtomicInteger retries = new AtomicInteger();
+        int pageSize = indexProperties.getPageSize();
+
+        try {
+            PageResult first = fetchPageWithRetry(1, retries);
+            int totalPages = first.totalCount > 0
+                    ? (int) Math.min(indexProperties.getMaxPages(), (first.totalCount + pageSize - 1) / pageSize)
+                    : 1;
+
+            List<PageResult> pages = new ArrayList<>(totalPages);
+            pages.add(first);
+            if (totalPages > 1) {
+                ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, indexProperties.getIngestParallelism()));
+                try {
+                    List<CompletableFuture<PageResult>> futures = new ArrayList<>(totalPages - 1);
+                    for (int pageNo = 2; pageNo <= totalPages; pageNo++) {
+                        int page = pageNo;
+                        futures.add(CompletableFuture.supplyAsync(() -> fetchPageWithRetry(page, retries), executor));
+                    }
+                    for (CompletableFuture<PageResult> future : futures) {
+                        pages.add(future.join());
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            List<ProhibitedAreaRow> rows = new ArrayList<>();
+            int rawRows = 0;
+            long id = 1;
+            for (PageResult page : pages) {
+                rawRows += page.rawRows;
+                for (ProhibitedAreaRow row : page.rows) {
+                    row.setId(id++);
+                    rows.add(row);
+                }
+            }
+            long fetchedAt = System.currentTimeMillis();
+            store.replaceAll(rows);
+            long finished = System.currentTimeMillis();
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("status", "OK");
+            stats.put("finishedAt", finished);
+            stats.put("totalCount", first.totalCount);
+            stats.put("pages", pages.size());
+            stats.put("rawRows", rawRows);
+            stats.put("storedRows", rows.size());
+            stats.put("retries", retries.get());
+            stats.put("fetchMs", fetchedAt - started);
+            stats.put("storeMs", finished - fetchedAt);
+            stats.put("rowsPerSecond", rawRows * 1000.0 / Math.max(1, fetchedAt - started));
+            lastRun = stats;
+            System.out.println("[ParkingStop ingest] " + stats);
+            return rows;
+        } catch (RuntimeException e) {
+            failedRuns.incrementAndGet();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("status", "FAILED");
+            stats.put("finishedAt", System.currentTimeMillis());
+            stats.put("retries", retries.get());
+            stats.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+            lastRun = stats;
+            throw e;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("runs", runs.get());
+        stats.put("failedRuns", failedRuns.get());
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+
+    private PageResult fetchPageWithRetry(int pageNo, AtomicInteger retries) {
+        int maxAttempts = Math.max(1, indexProperties.getIngestMaxAttempts());
+        long backoff = indexProperties.getIngestRetryBackoffMs();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return fetchPage(pageNo);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException("Failed to ingest parking-stop page " + pageNo + " after " + attempt + " attempts.", e);
+                }
+                retries.incrementAndGet();
+                System.out.println("[ParkingStop ingest] page " + pageNo + " attempt " + attempt + " failed: " + e.getMessage());
+                try {
+                    Thread.sleep(backoff << (attempt - 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Ingestion interrupted.", interrupted);
+                }
+            }
+        }
+    }
+
+    private PageResult fetchPage(int pageNo) {
+        URI uri = UriComponentsBuilder
+                .fromHttpUrl(parkingStopApiProperties.getBaseUrl())
+                .queryParam("serviceKey", parkingStopApiProperties.getServiceKey())
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", indexProperties.getPageSize())
+                .queryParam("type", "JSON")
+                .build(true)
+                .toUri();
+
+        return restTemplate.execute(uri, HttpMethod.GET, null, response -> parsePage(response.getBody()));
+    }
+
+    // Streams response.body.{totalCount, items[]} (items may also be wrapped as items.item[]) without building a tree.
+    private PageResult parsePage(InputStream body) throws IOException {
+        PageResult result = new PageResult();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("parking-stop page is not a JSON object");
+            }
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("totalCount".equals(field)) {
+                    result.totalCount = value == JsonToken.VALUE_STRING ? Integer.parseInt(parser.getText().trim()) : parser.getIntValue();
+                } else if ("items".equals(field) || "item".equals(field)) {
+                    if (value == JsonToken.START_ARRAY) {
+                        readItems(parser, result);
+                    } else if (value == JsonToken.START_OBJECT && "item".equals(field)) {
+                        readItem(parser, result);
+                    }
+                    // items as object: keep walking, its "item" field is handled on the next iteration.
+                }
+            }
+        }
+        return result;
+    }
+
+    private void readItems(JsonParser parser, PageResult result) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            readItem(parser, result);
+        }
+    }
+
+    // Reads one flat item object; the parser is positioned on its START_OBJECT.
+    private void readItem(JsonParser parser, PageResult result) throws IOException {
+        result.rawRows++;
+        ProhibitedAreaRow row = new ProhibitedAreaRow();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            String text = token == JsonToken.VALUE_NULL ? null : parser.getText();
+            switch (field) {
+                case "ctprvnNm" -> row.setCtprvnNm(trimToNull(text));
+                case "signguNm" -> row.setSignguNm(trimToNull(text));
+                case "rdnmadr" -> row.setRdnmadr(trimToNull(text));
+                case "lnmadr" -> row.setLnmadr(trimToNull(text));
+                case "latitude", "startLatitude", "lat" -> {
+                    if (row.getLatitude() == null) {
+                        row.setLatitude(parseDouble(text));
+                    }
+                }
+                case "longitude", "startLongitude", "lot" -> {
+                    if (row.getLongitude() == null) {
+                        row.setLongitude(parseDouble(text));
+                    }
+                }
+                case "endLatitude", "endLat" -> row.setEndLatitude(parseDouble(text));
+                case "endLongitude", "endLot" -> row.setEndLongitude(parseDouble(text));
+                default -> {
+                    // not stored
+                }
+            }
+        }
+        result.rows.add(row);
+    }
+
+    private static String trimToNull(String text) {
+        return StringUtils.hasText(text) ? text.trim() : null;
+    }
+
+    private static Double parseDouble(String text) {
+        if (!StringUtils.hasText(text)) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class PageResult {
+        private int totalCount;
+        private int rawRows;
+        private final List<ProhibitedAreaRow> rows = new ArrayList<>();
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.backend.pas.service;
+
+import com.backend.backend.pas.entity.ProhibitedAreaRow;
+import com.backend.backend.pas.repository.ProhibitedAreaRowRepository;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Local copy of the no-parking dataset. Replaced as a whole by a successful ingestion run.
+@Service
+public class ProhibitedAreaStore {
+    private static final int SAVE_CHUNK = 1000;
+
+    private final ProhibitedAreaRowRepository repository;
+
+    public ProhibitedAreaStore(ProhibitedAreaRowRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public void replaceAll(List<ProhibitedAreaRow> rows) {
+        repository.deleteAllInBatch();
+        for (int from = 0; from < rows.size(); from += SAVE_CHUNK) {
+            repository.saveAll(rows.subList(from, Math.min(rows.size(), from + SAVE_CHUNK)));
+            repository.flush();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProhibitedAreaRow> findAll() {
+        return repository.findAll();
+    }
+
+    public long count() {
+        return repository.count();
+    }
+}
@@ -0,0 +1,188 @@
+package com.backend.backend.pas.service;
+
+import com.backend.backend.common.concurrent.Deadline;
+import com.backend.backend.common.geo.EncodedPolyline;
+import com.backend.backend.common.geo.GeoDistance;
+import com.backend.backend.common.geo.GeoHash;
+import com.backend.backend.config.ParkingStopRouteProperties;
+import com.backend.backend.pas.dto.ParkingStopCheckResponse;
+import com.backend.backend.pas.dto.RouteCheckRequest;
+import com.backend.backend.pas.dto.RouteCheckResponse;
+import com.backend.backend.pas.dto.RouteProhibitedSegment;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+
+// Walks a route polyline once and reports the stretches that run through no-parking areas.
+@Service
+public class RouteCorridorCheckService {
+    private final ParkingStopCheckService parkingStopCheckService;
+    private final ProhibitedAreaIndexService prohibitedAreaIndexService;
+    private final ParkingStopRouteProperties routeProperties;
+
+    public RouteCorridorCheckService(ParkingStopCheckService parkingStopCheckService,
+                                     ProhibitedAreaIndexService prohibitedAreaIndexService,
+                                     ParkingStopRouteProperties routeProperties) {
+        this.parkingStopCheckService = parkingStopCheckService;
+        this.prohibitedAreaIndexService = prohibitedAreaIndexService;
+        this.routeProperties = routeProperties;
+    }
+
+    // Samples every sampleIntervalMeters along the route and stops at the lookahead distance.
+    // Samples falling into an already checked geohash cell reuse that answer instead of looking it up again.
+    // If a cell cannot be checked (remote budget spent or upstream failure) the walk stops there and the response
+    // is marked incomplete, with checkedDistanceMeters/lastCheckedIndex at the last sample that was checked.
+    public RouteCheckResponse checkRoute(RouteCheckRequest request) {
+        double[] latLon = toLatLon(request);
+        int vertexCount = latLon.length / 2;
+        if (vertexCount == 0) {
+            throw new IllegalArgumentException("route has no vertices");
+        }
+        if (vertexCount > routeProperties.getMaxVertices()) {
+            throw new IllegalArgumentException("route has too many vertices (max " + routeProperties.getMaxVertices() + ")");
+        }
+
+        double lookahead = request.getLookaheadMeters() != null && request.getLookaheadMeters() > 0
+                ? Math.min(request.getLookaheadMeters(), routeProperties.getMaxLookaheadMeters())
+                : routeProperties.getDefaultLookaheadMeters();
+        double interval = Math.max(1.0, routeProperties.getSampleIntervalMeters());
+
+        Walk walk = new Walk(Deadline.afterMillis(routeProperties.getRemoteDeadlineMs()));
+        boolean stopped = !walk.visit(latLon[0], latLon[1], 0, 0, 0.0);
+
+        double travelled = 0.0;
+        int lastIndex = 0;
+        boolean reachedLookahead = false;
+        outer:
+        for (int i = 0; i + 1 < vertexCount && !stopped; i++) {
+            double lat1 = latLon[i * 2];
+            double lon1 = latLon[i * 2 + 1];
+            double lat2 = latLon[i * 2 + 2];
+            double lon2 = latLon[i * 2 + 3];
+            double segmentLength = GeoDistance.haversineMeters(lat1, lon1, lat2, lon2);
+            int steps = Math.max(1, (int) Math.ceil(segmentLength / interval));
+
+            for (int s = 1; s <= steps; s++) {
+                double t = (double) s / steps;
+                double distance = travelled + segmentLength * t;
+                if (distance > lookahead) {
+                    reachedLookahead = true;
+                    travelled = lookahead;
+                    break outer;
+                }
+                int low = s == steps ? i + 1 : i;
+                if (!walk.visit(lat1 + (lat2 - lat1) * t, lon1 + (lon2 - lon1) * t, low, i + 1, distance)) {
+                    stopped = true;
+                    break outer;
+                }
+            }
+            travelled += segmentLength;
+            lastIndex = i + 1;
+        }
+        walk.closeSegment();
+
+        if (stopped) {
+            RouteCheckResponse response = new RouteCheckResponse(walk.segments, walk.checkedDistance, walk.checkedIndex, false);
+            response.setIncomplete(true);
+            return response;
+        }
+        return new RouteCheckResponse(walk.segments, travelled, lastIndex, reachedLookahead);
+    }
+
+    // Accepts either a Kakao vertex list ([x, y, ...]) or an encoded polyline; returns interleaved lat/lon.
+    private double[] toLatLon(RouteCheckRequest request) {
+        List<Double> vertexes = request.getVertexes();
+        if (vertexes != null && !vertexes.isEmpty()) {
+            if (vertexes.size() % 2 != 0) {
+                throw new IllegalArgumentException("vertexes must hold x/y pairs");
+            }
+            double[] latLon = new double[vertexes.size()];
+            for (int i = 0; i < vertexes.size(); i += 2) {
+                Double x = vertexes.get(i);
+                Double y = vertexes.get(i + 1);
+                if (x == null || y == null) {
+                    throw new IllegalArgumentException("vertexes must not contain null");
+                }
+                latLon[i] = y;
+                latLon[i + 1] = x;
+            }
+            return latLon;
+        }
+        if (StringUtils.hasText(request.getPolyline())) {
+            return EncodedPolyline.decode(request.getPolyline().trim(), 5);
+        }
+        throw new IllegalArgumentException("polyline or vertexes is required");
+    }
+
+    // Per-request walk state: cell memo, the remote lookup budget, and the currently open prohibited stretch.
+    private class Walk {
+        private final Map<String, ParkingStopCheckResponse> checkedCells = new HashMap<>();
+        private final List<RouteProhibitedSegment> segments = new ArrayList<>();
+        private final Deadline deadline;
+        private int remoteLookups;
+        private RouteProhibitedSegment open;
+        private double checkedDistance;
+        private int checkedIndex;
+
+        private Walk(Deadline deadline) {
+            this.deadline = deadline;
+        }
+
+        // Returns false (and records nothing) when the sample could not be checked; the walk must stop there.
+        private boolean visit(double lat, double lon, int lowIndex, int highIndex, double distance) {
+            String cell = GeoHash.encode(lat, lon, routeProperties.getGeohashPrecision());
+            ParkingStopCheckResponse result = checkedCells.get(cell);
+            if (result == null) {
+                result = check(lon, lat);
+                if (result == null) {
+                    return false;
+                }
+                checkedCells.put(cell, result);
+            }
+            checkedDistance = distance;
+            checkedIndex = lowIndex;
+
+            if (!result.isProhibited()) {
+                closeSegment();
+                return true;
+            }
+            if (open != null && Objects.equals(open.getRoadAddress(), result.getRoadAddress())) {
+                open.setEndIndex(highIndex);
+                open.setEndDistanceMeters(distance);
+                return true;
+            }
+            closeSegment();
+            open = new RouteProhibitedSegment(lowIndex, highIndex, distance, distance, result.getRoadAddress());
+            return true;
+        }
+
+        private void closeSegment() {
+            if (open != null) {
+                segments.add(open);
+                open = null;
+            }
+        }
+
+        // Index lookups are local and unbounded. Without the index each lookup is a blocking upstream call, so they
+        // share the walk's deadline and lookup cap. null means unknown: over budget or the upstream failed.
+        private ParkingStopCheckResponse check(double x, double y) {
+            if (prohibitedAreaIndexService.currentIndex() == null) {
+                if (deadline.isExpired() || remoteLookups >= routeProperties.getMaxRemoteLookups()) {
+                    return null;
+                }
+                remoteLookups++;
+            }
+            try {
+                return parkingStopCheckService.checkProhibited(x, y);
+            } catch (IllegalStateException | RestClientException e) {
+                System.out.println("[PAS route error] " + e.getClass().getSimpleName() + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+}
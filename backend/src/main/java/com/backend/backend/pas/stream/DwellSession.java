@@ -0,0 +1,90 @@
+package com.backend.backend.pas.stream;
+
+import java.util.Objects;
+
+// Per-connection dwell state: OUTSIDE -> INSIDE (zone entered, timer running) -> WARNED (warning sent once).
+// Leaving the zone, or moving straight into a different one, restarts the cycle.
+class DwellSession {
+    enum State { OUTSIDE, INSIDE, WARNED }
+
+    enum Event { ENTER, EXIT }
+
+    private State state = State.OUTSIDE;
+    private String cell;
+    private long cellSeq;
+    private String zoneKey;
+    private long enteredAtMillis;
+    private volatile long lastSeenMillis;
+
+    DwellSession(long nowMillis) {
+        this.lastSeenMillis = nowMillis;
+    }
+
+    // Records a position. Returns the sequence number of the new cell, or -1 when the cell did not change
+    // (no zone check needed).
+    synchronized long moveTo(String newCell, long nowMillis) {
+        lastSeenMillis = nowMillis;
+        if (newCell.equals(cell)) {
+            return -1;
+        }
+        cell = newCell;
+        return ++cellSeq;
+    }
+
+    // Forgets the current cell after its zone check failed, so the next position in the same cell is checked again
+    // instead of being skipped as "no change". Ignored if the client has already moved on.
+    synchronized void forget(long seq) {
+        if (seq == cellSeq) {
+            cell = null;
+        }
+    }
+
+    // Applies the zone check for a cell. Results for a cell the client has already left are ignored,
+    // so out-of-order completions cannot flip the state back.
+    synchronized Event applyCheck(long seq, boolean prohibited, String newZoneKey, long nowMillis) {
+        if (seq != cellSeq) {
+            return null;
+        }
+        if (!prohibited) {
+            if (state == State.OUTSIDE) {
+                return null;
+            }
+            state = State.OUTSIDE;
+            zoneKey = null;
+            enteredAtMillis = 0;
+            return Event.EXIT;
+        }
+        if (state != State.OUTSIDE && Objects.equals(zoneKey, newZoneKey)) {
+            return null;
+        }
+        state = State.INSIDE;
+        zoneKey = newZoneKey;
+        enteredAtMillis = nowMillis;
+        return Event.ENTER;
+    }
+
+    // True exactly once per stay, when the dwell time has been reached.
+    synchronized boolean dueForWarning(long nowMillis, long dwellMillis) {
+        if (state != State.INSIDE || nowMillis - enteredAtMillis < dwellMillis) {
+            return false;
+        }
+        state = State.WARNED;
+        return true;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized String getZoneKey() {
+        return zoneKey;
+    }
+
+    synchronized long staySeconds(long nowMillis) {
+        return state == State.OUTSIDE ? 0 : (nowMillis - enteredAtMillis) / 1000;
+    }
+
+    long getLastSeenMillis() {
+        return lastSeenMillis;
+    }
+}
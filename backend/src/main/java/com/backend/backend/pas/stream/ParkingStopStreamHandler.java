@@ -0,0 +1,180 @@
+package com.backend.backend.pas.stream;
+
+import com.backend.backend.common.geo.GeoHash;
+import com.backend.backend.config.ParkingStopStreamProperties;
+import com.backend.backend.pas.service.ParkingStopCheckService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+// Location stream for no-parking dwell detection (/ws/pas/location).
+// The client pushes {"x": lon, "y": lat}; the zone check only runs when the position enters a new geohash cell,
+// and the dwell timer lives here instead of on the phone. Server events:
+//   {"type":"enter","roadAddress":...,"stale":...}, {"type":"exit"},
+//   {"type":"warning","roadAddress":...,"staySeconds":...}, {"type":"error","message":...}
+@Component
+public class ParkingStopStreamHandler extends TextWebSocketHandler {
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 64 * 1024;
+
+    private final ParkingStopCheckService parkingStopCheckService;
+    private final ParkingStopStreamProperties streamProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    public ParkingStopStreamHandler(ParkingStopCheckService parkingStopCheckService,
+                                    ParkingStopStreamProperties streamProperties) {
+        this.parkingStopCheckService = parkingStopCheckService;
+        this.streamProperties = streamProperties;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // Events are sent from check callbacks and the sweep concurrently; the decorator serialises them.
+        WebSocketSession socket = new ConcurrentWebSocketSessionDecorator(
+                session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES);
+        connections.put(session.getId(), new Connection(socket, new DwellSession(System.currentTimeMillis())));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        connections.remove(session.getId());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        double x;
+        double y;
+        try {
+            JsonNode position = objectMapper.readTree(message.getPayload());
+            x = position.path("x").asDouble(Double.NaN);
+            y = position.path("y").asDouble(Double.NaN);
+        } catch (IOException e) {
+            sendError(connection, "Invalid position message.");
+            return;
+        }
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            sendError(connection, "x and y are required.");
+            return;
+        }
+
+        String cell = GeoHash.encode(y, x, streamProperties.getGeohashPrecision());
+        long seq = connection.dwell.moveTo(cell, System.currentTimeMillis());
+        if (seq < 0) {
+            return;
+        }
+
+        parkingStopCheckService.checkProhibitedAsync(x, y).whenComplete((response, error) -> {
+            if (error != null) {
+                connection.dwell.forget(seq);
+                sendError(connection, "Parking stop check failed.");
+                return;
+            }
+            DwellSession.Event event = connection.dwell.applyCheck(
+                    seq, response.isProhibited(), response.getRoadAddress(), System.currentTimeMillis());
+            if (event == DwellSession.Event.ENTER) {
+                ObjectNode node = event("enter");
+                node.put("roadAddress", response.getRoadAddress());
+                node.put("stale", response.isStale());
+                send(connection, node);
+            } else if (event == DwellSession.Event.EXIT) {
+                send(connection, event("exit"));
+            }
+        });
+    }
+
+    // Fires dwell warnings and drops connections that stopped sending positions.
+    @Scheduled(fixedDelayString = "${parking.stop.stream.sweep-interval-ms:1000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (Connection connection : connections.values()) {
+            if (now - connection.dwell.getLastSeenMillis() > streamProperties.getIdleTimeoutMs()) {
+                close(connection);
+                continue;
+            }
+            if (connection.dwell.dueForWarning(now, streamProperties.getDwellMs())) {
+                ObjectNode node = event("warning");
+                node.put("roadAddress", connection.dwell.getZoneKey());
+                node.put("staySeconds", connection.dwell.staySeconds(now));
+                send(connection, node);
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        int inside = 0;
+        int warned = 0;
+        for (Connection connection : connections.values()) {
+            DwellSession.State state = connection.dwell.getState();
+            if (state == DwellSession.State.INSIDE) {
+                inside++;
+            } else if (state == DwellSession.State.WARNED) {
+                warned++;
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessions", connections.size());
+        stats.put("inside", inside);
+        stats.put("warned", warned);
+        return stats;
+    }
+
+    private ObjectNode event(String type) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("type", type);
+        return node;
+    }
+
+    private void sendError(Connection connection, String message) {
+        ObjectNode node = event("error");
+        node.put("message", message);
+        send(connection, node);
+    }
+
+    private void send(Connection connection, ObjectNode node) {
+        if (!connection.socket.isOpen()) {
+            return;
+        }
+        try {
+            connection.socket.sendMessage(new TextMessage(objectMapper.writeValueAsString(node)));
+        } catch (IOException | RuntimeException e) {
+            System.out.println("[ParkingStopStream] send failed: " + e.getMessage());
+            close(connection);
+        }
+    }
+
+    private void close(Connection connection) {
+        connections.remove(connection.socket.getId());
+        try {
+            connection.socket.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            System.out.println("[ParkingStopStream] close failed: " + e.getMessage());
+        }
+    }
+
+    private static final class Connection {
+        private final WebSocketSession socket;
+        private final DwellSession dwell;
+
+        private Connection(WebSocketSession socket, DwellSession dwell) {
+            this.socket = socket;
+            this.dwell = dwell;
+        }
+    }
+}
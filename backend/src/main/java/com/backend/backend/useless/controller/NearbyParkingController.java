@@ -0,0 +1,113 @@
+package com.backend.backend.useless.controller;
+
+import com.backend.backend.config.CompactBinaryHttpMessageConverter;
+import com.backend.backend.config.ParkingNearbyProperties;
+import com.backend.backend.useless.dto.NearbyParkingResponseDto;
+import com.backend.backend.useless.dto.ParkingClusterDto;
+import com.backend.backend.useless.dto.ParkingTileResponseDto;
+import com.backend.backend.useless.index.ParkingClusterTiles;
+import com.backend.backend.useless.service.NearbyParkingService;
+import com.backend.backend.useless.service.ParkingLotIndexService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/parking")
+public class NearbyParkingController {
+
+    private final NearbyParkingService nearbyParkingService;
+    private final ParkingLotIndexService parkingLotIndexService;
+    private final ParkingNearbyProperties parkingNearbyProperties;
+
+    public NearbyParkingController(NearbyParkingService nearbyParkingService,
+                                   ParkingLotIndexService parkingLotIndexService,
+                                   ParkingNearbyProperties parkingNearbyProperties) {
+        this.nearbyParkingService = nearbyParkingService;
+        this.parkingLotIndexService = parkingLotIndexService;
+        this.parkingNearbyProperties = parkingNearbyProperties;
+    }
+
+    // 좌표 주변 주차장을 가까운 순으로 반환한다. 다음 페이지는 응답의 nextCursor를 cursor로 넘긴다.
+    @GetMapping("/nearby")
+    public ResponseEntity<NearbyParkingResponseDto> nearby(@RequestParam double lat,
+                                                           @RequestParam double lon,
+                                                           @RequestParam(required = false) Double radius,
+                                                           @RequestParam(required = false) Integer k,
+                                                           @RequestParam(required = false) String cursor) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat/lon out of range");
+        }
+        double radiusMeters = radius != null ? radius : parkingNearbyProperties.getDefaultRadiusMeters();
+        if (radiusMeters <= 0 || radiusMeters > parkingNearbyProperties.getMaxRadiusMeters()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "radius must be in (0, " + parkingNearbyProperties.getMaxRadiusMeters() + "]");
+        }
+        int limit = k != null ? k : parkingNearbyProperties.getDefaultK();
+        if (limit <= 0 || limit > parkingNearbyProperties.getMaxK()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "k must be in [1, " + parkingNearbyProperties.getMaxK() + "]");
+        }
+
+        try {
+            return ResponseEntity.ok(nearbyParkingService.findNearby(lat, lon, radiusMeters, limit, cursor));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    // 지도 타일(웹 메르카토르 z/x/y) 하나의 주차장 클러스터. 응답마다 내용 기반 ETag를 붙이고 매번 재검증하게 해서,
+    // 바뀌지 않은 타일은 본문 없이 304로 답한다. 압축 바이너리로 요청하면 인코딩이 달라지므로 ETag도 따로 둔다.
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<ParkingTileResponseDto> tile(@PathVariable int z,
+                                                       @PathVariable int x,
+                                                       @PathVariable int y,
+                                                       WebRequest webRequest) {
+        if (!ParkingClusterTiles.isValidTile(z, x, y)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "tile out of range (z in [0, " + ParkingClusterTiles.MAX_TILE_ZOOM + "], x/y in [0, 2^z))");
+        }
+        ParkingClusterTiles tiles = parkingLotIndexService.currentTiles();
+        if (tiles == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "parking tiles are not loaded yet");
+        }
+        ParkingClusterTiles.Tile tile = tiles.tile(z, x, y);
+        boolean compact = CompactBinaryHttpMessageConverter.isRequested(webRequest.getHeader(HttpHeaders.ACCEPT));
+        String etag = compact ? tile.getEtag().replaceFirst("\"$", "-c\"") : tile.getEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<ParkingClusterDto> clusters = new ArrayList<>(tile.getClusters().size());
+        for (ParkingClusterTiles.Cluster cluster : tile.getClusters()) {
+            clusters.add(new ParkingClusterDto(cluster.getLatitude(), cluster.getLongitude(), cluster.getCount(),
+                    cluster.getLot() != null ? cluster.getLot().getId() : null,
+                    cluster.getLot() != null ? cluster.getLot().getName() : null));
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(compact ? CompactBinaryHttpMessageConverter.MEDIA_TYPE : MediaType.APPLICATION_JSON)
+                .body(new ParkingTileResponseDto(z, x, y, clusters));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(parkingLotIndexService.getStats());
+    }
+}
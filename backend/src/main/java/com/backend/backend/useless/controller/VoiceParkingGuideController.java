@@ -3,12 +3,14 @@ package com.backend.backend.useless.controller;
 import com.backend.backend.useless.dto.VoiceGuideRequestDto;
 import com.backend.backend.useless.dto.VoiceGuideResponseDto;
 import com.backend.backend.useless.service.VoiceParkingGuideService;
+import com.backend.backend.user.AuthController;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
 
 @RestController
 @RequestMapping("/api/voice-guide")
@@ -21,8 +23,9 @@ public class VoiceParkingGuideController {
     }
 
     @PostMapping("/parking")
-    public ResponseEntity<VoiceGuideResponseDto> guideToNearestParking(@RequestBody VoiceGuideRequestDto requestDto) {
-        VoiceGuideResponseDto responseDto = voiceParkingGuideService.guideToNearestParking(requestDto);
+    public ResponseEntity<VoiceGuideResponseDto> guideToNearestParking(@RequestBody VoiceGuideRequestDto requestDto,
+                                                                       @SessionAttribute(name = AuthController.SESSION_USER, required = false) String username) {
+        VoiceGuideResponseDto responseDto = voiceParkingGuideService.guide(requestDto, username);
         return ResponseEntity.ok(responseDto);
     }
 }
@@ -0,0 +1,33 @@
+package com.backend.backend.useless.dto;
+
+import java.util.List;
+
+public class NearbyParkingResponseDto {
+    private List<ParkingCandidateDto> items;
+    // 다음 페이지 요청에 그대로 넘기는 커서(마지막 페이지면 null)
+    private String nextCursor;
+
+    public NearbyParkingResponseDto() {
+    }
+
+    public NearbyParkingResponseDto(List<ParkingCandidateDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ParkingCandidateDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ParkingCandidateDto> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
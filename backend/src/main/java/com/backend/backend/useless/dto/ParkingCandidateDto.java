@@ -5,6 +5,11 @@ public class ParkingCandidateDto {
     private Double latitude;
     private Double longitude;
     private Double distanceMeters;
+    // 주변 주차장 검색에서 채워진다(단일 페이지 조회 경로에서는 null)
+    private String parkingId;
+    private String address;
+    // 외부 API 장애로 마지막 정상 응답을 기준으로 계산된 결과인지 여부
+    private boolean stale;
 
     public ParkingCandidateDto() {
     }
@@ -47,4 +52,28 @@ public class ParkingCandidateDto {
     public void setDistanceMeters(Double distanceMeters) {
         this.distanceMeters = distanceMeters;
     }
+
+    public String getParkingId() {
+        return parkingId;
+    }
+
+    public void setParkingId(String parkingId) {
+        this.parkingId = parkingId;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void setStale(boolean stale) {
+        this.stale = stale;
+    }
 }
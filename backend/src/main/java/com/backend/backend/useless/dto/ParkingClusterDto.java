@@ -0,0 +1,62 @@
+package com.backend.backend.useless.dto;
+
+public class ParkingClusterDto {
+    // 클러스터 중심(구성 주차장 좌표의 평균). count가 1이면 그 주차장의 좌표다.
+    private double latitude;
+    private double longitude;
+    private int count;
+    // count가 1일 때만 채워진다
+    private String parkingId;
+    private String parkingName;
+
+    public ParkingClusterDto() {
+    }
+
+    public ParkingClusterDto(double latitude, double longitude, int count, String parkingId, String parkingName) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.count = count;
+        this.parkingId = parkingId;
+        this.parkingName = parkingName;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public String getParkingId() {
+        return parkingId;
+    }
+
+    public void setParkingId(String parkingId) {
+        this.parkingId = parkingId;
+    }
+
+    public String getParkingName() {
+        return parkingName;
+    }
+
+    public void setParkingName(String parkingName) {
+        this.parkingName = parkingName;
+    }
+}
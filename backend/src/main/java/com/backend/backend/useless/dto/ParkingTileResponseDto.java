@@ -0,0 +1,52 @@
+package com.backend.backend.useless.dto;
+
+import java.util.List;
+
+public class ParkingTileResponseDto {
+    private int z;
+    private int x;
+    private int y;
+    private List<ParkingClusterDto> clusters;
+
+    public ParkingTileResponseDto() {
+    }
+
+    public ParkingTileResponseDto(int z, int x, int y, List<ParkingClusterDto> clusters) {
+        this.z = z;
+        this.x = x;
+        this.y = y;
+        this.clusters = clusters;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    public void setZ(int z) {
+        this.z = z;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public void setX(int x) {
+        this.x = x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public void setY(int y) {
+        this.y = y;
+    }
+
+    public List<ParkingClusterDto> getClusters() {
+        return clusters;
+    }
+
+    public void setClusters(List<ParkingClusterDto> clusters) {
+        this.clusters = clusters;
+    }
+}
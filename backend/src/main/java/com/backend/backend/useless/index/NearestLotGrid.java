@@ -0,0 +1,200 @@
+package com.backend.backend.useless.index;
+
+import com.backend.backend.common.geo.GeoDistance;
+import java.util.Arrays;
+import java.util.BitSet;
+
+// "가장 가까운 주차장 하나"를 위한 미리 계산한 격자(이산화한 보로노이 조회표).
+// 셀마다 셀 안의 어느 지점에서든 최근접이 될 수 있는 주차장 행만 담아 둔다.
+//   셀 중심 c에서 가장 가까운 주차장까지 d0, 셀 중심에서 모서리까지 h라 하면, 셀 안의 점 p의 최근접 l은
+//   d(p, l) <= d0 + h 이므로 d(c, l) <= d0 + 2h. 따라서 c에서 d0 + 2h 안의 주차장만 후보로 두면 된다(동점 포함).
+// 조회는 셀 번호 계산 + 후보 몇 개의 정확한 거리 비교다. 후보가 MAX_CANDIDATES를 넘는 밀집 셀과 격자 밖의 점은
+// 호출 측이 트리 탐색으로 넘어간다. 트리(base)와 함께 만들어지고 함께 버려진다.
+// 격자 범위는 서비스 영역 상자 안의 유한한 좌표로만 정하므로, 상자 밖의 주차장(잘못 적재된 0/0 등)이 격자를 키우지 않는다.
+// 그런 주차장도 셀 후보 계산(트리 탐색)에는 그대로 들어가고, 그 근처의 질의는 격자 밖이라 트리로 찾는다.
+public final class NearestLotGrid {
+    // 셀 수 상한(셀당 int 두세 개라 수십 MB). 넘으면 격자를 만들지 않는다.
+    public static final long MAX_CELLS = 4_000_000L;
+    private static final int MAX_CANDIDATES = 16;
+    private static final int FIRST_PASS_K = 4;
+    // 셀 반경(h) 계산의 여유: 모서리 기준 거리와 구면 오차를 덮는다.
+    private static final double RADIUS_SLACK = 1.01;
+    private static final double RADIUS_MARGIN_METERS = 1.0;
+
+    private final ParkingLotKdTree tree;
+    private final double minLat;
+    private final double minLon;
+    private final double cellDegrees;
+    private final int rows;
+    private final int cols;
+    // 셀 i의 후보는 candidates[cellStarts[i] .. cellStarts[i + 1])
+    private final int[] cellStarts;
+    private final int[] candidates;
+    private final BitSet overflow;
+    private final long buildMillis;
+
+    private NearestLotGrid(ParkingLotKdTree tree, double minLat, double minLon, double cellDegrees, int rows, int cols,
+                           int[] cellStarts, int[] candidates, BitSet overflow, long buildMillis) {
+        this.tree = tree;
+        this.minLat = minLat;
+        this.minLon = minLon;
+        this.cellDegrees = cellDegrees;
+        this.rows = rows;
+        this.cols = cols;
+        this.cellStarts = cellStarts;
+        this.candidates = candidates;
+        this.overflow = overflow;
+        this.buildMillis = buildMillis;
+    }
+
+    // 서비스 영역 상자(areaMin/Max) 안의 주차장 좌표 범위를 덮는 격자를 만든다.
+    // 상자 안에 주차장이 없거나 셀 수가 MAX_CELLS를 넘으면 null(격자 없이 트리로 찾는다).
+    public static NearestLotGrid build(ParkingLotKdTree tree, double cellDegrees, double areaMinLat, double areaMaxLat,
+                                       double areaMinLon, double areaMaxLon) {
+        ParkingLotColumns columns = tree.getColumns();
+        if (columns.size() == 0 || !(cellDegrees > 0)) {
+            return null;
+        }
+        long started = System.currentTimeMillis();
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (int row = 0; row < columns.size(); row++) {
+            double lat = columns.lats[row];
+            double lon = columns.lons[row];
+            // NaN은 비교가 모두 false라 여기서 함께 걸러진다.
+            if (!(lat >= areaMinLat && lat <= areaMaxLat && lon >= areaMinLon && lon <= areaMaxLon)) {
+                continue;
+            }
+            minLat = Math.min(minLat, lat);
+            maxLat = Math.max(maxLat, lat);
+            minLon = Math.min(minLon, lon);
+            maxLon = Math.max(maxLon, lon);
+        }
+        if (minLat > maxLat) {
+            return null;
+        }
+        double spanRows = Math.floor((maxLat - minLat) / cellDegrees) + 1;
+        double spanCols = Math.floor((maxLon - minLon) / cellDegrees) + 1;
+        if (!(spanRows * spanCols <= MAX_CELLS)) {
+            return null;
+        }
+        int rows = (int) spanRows;
+        int cols = (int) spanCols;
+
+        int[] cellStarts = new int[rows * cols + 1];
+        int[] candidates = new int[rows * cols * 2];
+        BitSet overflow = new BitSet();
+        int[] found = new int[MAX_CANDIDATES + 1];
+        double[] distances = new double[MAX_CANDIDATES + 1];
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            double south = minLat + row * cellDegrees;
+            double centerLat = south + cellDegrees / 2;
+            // 같은 행의 셀은 크기가 같으므로 모서리까지의 거리를 한 번만 잰다(적도 쪽 모서리가 더 멀다).
+            double halfDiagonal = Math.max(
+                    GeoDistance.haversineMeters(centerLat, 0, south, cellDegrees / 2),
+                    GeoDistance.haversineMeters(centerLat, 0, south + cellDegrees, cellDegrees / 2));
+            double reach = 2 * halfDiagonal * RADIUS_SLACK + RADIUS_MARGIN_METERS;
+            for (int col = 0; col < cols; col++) {
+                int cell = row * cols + col;
+                double centerLon = minLon + col * cellDegrees + cellDegrees / 2;
+                // 대부분의 셀은 후보가 몇 개뿐이라 작은 k로 먼저 찾고, k번째까지 모두 한계 안이면 크게 다시 찾는다.
+                int kept = collectCandidates(tree, centerLat, centerLon, FIRST_PASS_K, reach, found, distances);
+                if (kept == FIRST_PASS_K) {
+                    kept = collectCandidates(tree, centerLat, centerLon, MAX_CANDIDATES + 1, reach, found, distances);
+                }
+                if (kept > MAX_CANDIDATES) {
+                    overflow.set(cell);
+                    kept = 0;
+                }
+                if (count + kept > candidates.length) {
+                    candidates = Arrays.copyOf(candidates, Math.max(candidates.length * 2, count + kept));
+                }
+                System.arraycopy(found, 0, candidates, count, kept);
+                count += kept;
+                cellStarts[cell + 1] = count;
+            }
+        }
+        return new NearestLotGrid(tree, minLat, minLon, cellDegrees, rows, cols, cellStarts,
+                Arrays.copyOf(candidates, count), overflow, System.currentTimeMillis() - started);
+    }
+
+    // 셀 중심에서 가까운 k개 중 (최근접 거리 + reach) 안에 드는 행을 found 앞쪽에 모으고 그 수를 돌려준다.
+    // k개가 모두 남으면 k번째 너머에도 후보가 있을 수 있다는 뜻이다.
+    private static int collectCandidates(ParkingLotKdTree tree, double latitude, double longitude, int k, double reach,
+                                         int[] found, double[] distances) {
+        NearestSearch search = new NearestSearch(latitude, longitude, k, 0, Double.NEGATIVE_INFINITY, null);
+        tree.collect(search, null, null);
+        int n = search.candidateCount();
+        search.copyCandidates(found, distances);
+        double nearest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            nearest = Math.min(nearest, distances[i]);
+        }
+        double limit = nearest + reach;
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            if (distances[i] <= limit) {
+                found[kept++] = found[i];
+            }
+        }
+        return kept;
+    }
+
+    // 점이 속한 셀의 후보를 search에 넣는다. 격자 밖이거나 밀집 셀이거나, 후보 중 excluded(삭제·갱신)된 행이 있으면
+    // 후보만으로는 최근접을 보장할 수 없으므로 false(호출 측이 트리 전체로 찾는다).
+    boolean offerCandidates(NearestSearch search, BitSet excluded) {
+        // double로 범위를 먼저 본다: 먼 점이 int로 잘리거나 NaN이 0번 셀로 떨어지지 않게.
+        double row = Math.floor((search.latitude - minLat) / cellDegrees);
+        double col = Math.floor((search.longitude - minLon) / cellDegrees);
+        if (!(row >= 0 && row < rows && col >= 0 && col < cols)) {
+            return false;
+        }
+        int cell = (int) row * cols + (int) col;
+        if (overflow.get(cell)) {
+            return false;
+        }
+        int from = cellStarts[cell];
+        int to = cellStarts[cell + 1];
+        if (excluded != null) {
+            for (int i = from; i < to; i++) {
+                if (excluded.get(candidates[i])) {
+                    return false;
+                }
+            }
+        }
+        ParkingLotColumns columns = tree.getColumns();
+        for (int i = from; i < to; i++) {
+            int lot = candidates[i];
+            search.offer(columns, lot, search.distances.exactMeters(columns.lats[lot], columns.lons[lot]));
+        }
+        return true;
+    }
+
+    ParkingLotKdTree getTree() {
+        return tree;
+    }
+
+    public int cellCount() {
+        return rows * cols;
+    }
+
+    public int overflowCells() {
+        return overflow.cardinality();
+    }
+
+    public double averageCandidates() {
+        int filled = cellCount() - overflowCells();
+        return filled == 0 ? 0 : (double) candidates.length / filled;
+    }
+
+    public long approxHeapBytes() {
+        return 4L * cellStarts.length + 4L * candidates.length + overflow.size() / 8;
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+}
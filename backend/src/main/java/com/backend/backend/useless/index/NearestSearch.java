@@ -0,0 +1,163 @@
+package com.backend.backend.useless.index;
+
+import com.backend.backend.common.geo.DistanceEngine;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// k-최근접 탐색 상태: 지금까지 찾은 후보 k개를 먼 순서로 꺼낼 수 있는 최대 힙.
+// 후보는 (열 저장소, 행)으로 들고 있어서 KD-트리 본체와 변경분(delta) 열을 한 힙에서 합칠 수 있다.
+// 순서는 (거리, id)이고, after가 주어지면 그보다 뒤에 오는 후보만 받는다(커서 페이지네이션).
+final class NearestSearch {
+    // 선형 스캔에서 하한 검사와 정확 거리 계산을 묶어 처리하는 단위
+    private static final int SCAN_BATCH = 64;
+
+    final double latitude;
+    final double longitude;
+    final double metersPerDegLon;
+    final DistanceEngine distances;
+    private final int k;
+    private final double maxRadius;
+    private final double afterDistance;
+    private final String afterId;
+    private final PriorityQueue<Candidate> heap;
+    // 병렬 샤드 작업끼리 공유하는 k번째 거리 상한(Double 비트). 어느 샤드의 k번째 거리든 전체 k번째 거리 이상이므로
+    // 그중 가장 작은 값으로 다른 샤드도 가지치기할 수 있다. 단독 탐색이면 null.
+    private final AtomicLong sharedBound;
+
+    NearestSearch(double latitude, double longitude, int k, double maxRadius, double afterDistance, String afterId) {
+        this(latitude, longitude, k, maxRadius, afterDistance, afterId, null);
+    }
+
+    private NearestSearch(double latitude, double longitude, int k, double maxRadius, double afterDistance, String afterId,
+                          AtomicLong sharedBound) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distances = DistanceEngine.from(latitude, longitude);
+        this.metersPerDegLon = distances.getMetersPerDegLon();
+        this.k = k;
+        this.maxRadius = maxRadius > 0 ? maxRadius : Double.POSITIVE_INFINITY;
+        this.afterDistance = afterDistance;
+        this.afterId = afterId;
+        this.heap = new PriorityQueue<>(k + 1, (a, b) -> compare(b.source, b.row, b.distance, a.distance, a.source.id(a.row)));
+        this.sharedBound = sharedBound;
+    }
+
+    // 같은 질의 조건의 빈 탐색(병렬 샤드 작업마다 하나씩). 같은 shared를 받은 탐색끼리 bound를 나눈다.
+    NearestSearch fork(AtomicLong shared) {
+        return new NearestSearch(latitude, longitude, k, maxRadius, afterDistance, afterId, shared);
+    }
+
+    // initial은 병렬 작업을 나누기 전에 이미 찾은 후보로 정해진 상한(호출 측 search.bound())
+    static AtomicLong newSharedBound(double initial) {
+        return new AtomicLong(Double.doubleToLongBits(initial));
+    }
+
+    void offer(ParkingLotColumns source, int row, double distance) {
+        if (distance > maxRadius) {
+            return;
+        }
+        if (afterId != null && compare(source, row, distance, afterDistance, afterId) <= 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(new Candidate(source, row, distance));
+            publishBound();
+            return;
+        }
+        Candidate worst = heap.peek();
+        if (compare(source, row, distance, worst.distance, worst.source.id(worst.row)) < 0) {
+            heap.poll();
+            heap.add(new Candidate(source, row, distance));
+            publishBound();
+        }
+    }
+
+    private void publishBound() {
+        if (sharedBound == null || heap.size() < k) {
+            return;
+        }
+        double mine = heap.peek().distance;
+        long current = sharedBound.get();
+        while (mine < Double.longBitsToDouble(current) && !sharedBound.compareAndSet(current, Double.doubleToLongBits(mine))) {
+            current = sharedBound.get();
+        }
+    }
+
+    // 전체 행을 선형으로 훑는다(작은 변경분 열에 사용). excluded에 켜진 행은 건너뛴다.
+    // 묶음마다 현재 bound로 하한 검사를 먼저 하고, 남은 행만 정확한 거리를 잰다.
+    void scan(ParkingLotColumns source, BitSet excluded) {
+        double[] lats = source.lats;
+        double[] lons = source.lons;
+        int[] rows = new int[SCAN_BATCH];
+        double[] exact = new double[SCAN_BATCH];
+        for (int from = 0; from < source.size(); from += SCAN_BATCH) {
+            int to = Math.min(from + SCAN_BATCH, source.size());
+            int count = distances.prefilter(lats, lons, from, to, bound(), rows);
+            distances.exactMeters(lats, lons, rows, count, exact);
+            for (int i = 0; i < count; i++) {
+                if (excluded == null || !excluded.get(rows[i])) {
+                    offer(source, rows[i], exact[i]);
+                }
+            }
+        }
+    }
+
+    // 샤드별로 따로 찾은 후보를 target 힙에 합친다(target도 k개로 제한되므로 병합 비용은 샤드 수 x k).
+    void drainInto(NearestSearch target) {
+        for (Candidate candidate : heap) {
+            target.offer(candidate.source, candidate.row, candidate.distance);
+        }
+    }
+
+    // 현재 후보의 행 번호와 거리(순서 없음). 같은 열 저장소만 탐색한 경우에 쓴다.
+    int candidateCount() {
+        return heap.size();
+    }
+
+    void copyCandidates(int[] rows, double[] distances) {
+        int i = 0;
+        for (Candidate candidate : heap) {
+            rows[i] = candidate.row;
+            distances[i] = candidate.distance;
+            i++;
+        }
+    }
+
+    // 아직 k개를 못 채웠으면 반경, 채웠으면 k번째 후보까지의 거리
+    double bound() {
+        double own = heap.size() < k ? maxRadius : heap.peek().distance;
+        return sharedBound == null ? own : Math.min(own, Double.longBitsToDouble(sharedBound.get()));
+    }
+
+    // 가까운 순으로 정렬된 결과. 객체(ParkingLot)는 여기서 최종 k개에 대해서만 만든다.
+    List<ParkingLotKdTree.Neighbor> results() {
+        List<ParkingLotKdTree.Neighbor> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Candidate candidate = heap.poll();
+            result.add(new ParkingLotKdTree.Neighbor(candidate.source.toLot(candidate.row), candidate.distance));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static int compare(ParkingLotColumns source, int row, double distance, double otherDistance, String otherId) {
+        int byDistance = Double.compare(distance, otherDistance);
+        return byDistance != 0 ? byDistance : source.id(row).compareTo(otherId);
+    }
+
+    private static final class Candidate {
+        private final ParkingLotColumns source;
+        private final int row;
+        private final double distance;
+
+        private Candidate(ParkingLotColumns source, int row, double distance) {
+            this.source = source;
+            this.row = row;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.backend.backend.useless.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 지도 타일(웹 메르카토르 z/x/y)용 주차장 클러스터 피라미드.
+// 줌마다 타일 한 장을 cellsPerTile x cellsPerTile 칸(기본 8x8, 256px 타일에서 32px)으로 나눈 격자를 두고,
+// 칸마다 주차장 수와 좌표 합(중심점 계산용)을 미리 들고 있다. 주차장 목록은 가장 세밀한 줌(maxZoom) 칸에만 있고,
+// 그 위 줌의 칸은 아래 줌의 자식 네 칸을 합친 값이다(격자가 줌마다 정확히 반씩 겹치므로).
+// 갱신은 바뀐 주차장이 속한 칸과 그 조상 칸만 다시 계산한다. 합을 고정된 순서(칸 안은 id순, 부모는 자식 순서)로 더하므로
+// 같은 데이터면 증분 갱신이든 전체 재빌드든 같은 값이 나오고, 타일 ETag도 같다.
+// 갱신은 한 스레드(인덱스 갱신)에서만 한다. 증분 갱신도 바뀌는 줌의 칸 맵을 복사해 고친 뒤 한 번에 바꿔 끼우므로,
+// 조회는 항상 한 번의 갱신이 끝난 피라미드 전체(모든 줌이 같은 데이터)를 본다. 공개된 맵은 다시 고치지 않는다.
+public class ParkingClusterTiles {
+    // 요청 가능한 최대 줌(maxZoom보다 깊은 줌은 개별 주차장을 돌려준다)
+    public static final int MAX_TILE_ZOOM = 22;
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+    private static final Comparator<ParkingLot> BY_ID = Comparator.comparing(ParkingLot::getId);
+
+    private final int maxZoom;
+    private final int cellBits;
+    // levels[z]: 칸 키 -> 칸
+    private volatile List<Map<Long, Cell>> levels;
+    // 주차장 id -> maxZoom 칸 키(levels와 함께 바꿔 끼운다)
+    private volatile Map<String, Long> lotCells = new HashMap<>();
+    private volatile long updatedAtMillis;
+    private volatile long lastUpdateMillis;
+
+    public ParkingClusterTiles(int maxZoom, int cellsPerTile) {
+        if (Integer.bitCount(cellsPerTile) != 1 || maxZoom < 0 || maxZoom + Integer.numberOfTrailingZeros(cellsPerTile) > 30) {
+            throw new IllegalArgumentException("cellsPerTile must be a power of two and maxZoom + log2(cellsPerTile) <= 30");
+        }
+        this.maxZoom = maxZoom;
+        this.cellBits = Integer.numberOfTrailingZeros(cellsPerTile);
+        this.levels = emptyLevels(maxZoom);
+    }
+
+    // 전체를 새로 만든다. 다 만든 뒤 한 번에 바꿔 끼우므로 조회 중에 반쯤 만든 피라미드가 보이지 않는다.
+    public synchronized void rebuild(ParkingLotColumns lots) {
+        long started = System.currentTimeMillis();
+        List<Map<Long, Cell>> next = emptyLevels(maxZoom);
+        Map<String, Long> nextCells = new HashMap<>(lots.size() * 2);
+        int[] rows = new int[lots.size()];
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = row;
+        }
+        update(next, null, nextCells, lots, rows, List.of());
+        levels = next;
+        lotCells = nextCells;
+        finish(started);
+    }
+
+    // source의 upsertRows 행을 추가·갱신하고 deletedIds를 지운다. 바뀐 칸과 그 조상 칸만 다시 계산한다.
+    // 고치는 줌의 맵만 복사본에 고치고(나머지 줌은 지금 맵을 그대로 공유), 끝나면 rebuild처럼 한 번에 바꿔 끼운다.
+    public synchronized void apply(ParkingLotColumns source, int[] upsertRows, Collection<String> deletedIds) {
+        long started = System.currentTimeMillis();
+        List<Map<Long, Cell>> next = new ArrayList<>(levels);
+        Map<String, Long> nextCells = new HashMap<>(lotCells);
+        update(next, new boolean[next.size()], nextCells, source, upsertRows, deletedIds);
+        levels = next;
+        lotCells = nextCells;
+        finish(started);
+    }
+
+    private void finish(long started) {
+        updatedAtMillis = System.currentTimeMillis();
+        lastUpdateMillis = updatedAtMillis - started;
+    }
+
+    // copied가 null이면 target의 맵을 그대로 고치고(아직 공개 전인 새 피라미드), 아니면 줌마다 처음 고칠 때 복사한다.
+    private void update(List<Map<Long, Cell>> target, boolean[] copied, Map<String, Long> cells, ParkingLotColumns source,
+                        int[] upsertRows, Collection<String> deletedIds) {
+        Map<Long, Cell> finest = target.get(maxZoom);
+        // 1단계: 바뀌는 maxZoom 칸마다 구성원 목록을 고친다.
+        Map<Long, Map<String, ParkingLot>> edited = new HashMap<>();
+        for (String id : deletedIds) {
+            Long key = cells.remove(id);
+            if (key != null) {
+                members(edited, finest, key).remove(id);
+            }
+        }
+        for (int row : upsertRows) {
+            ParkingLot lot = source.toLot(row);
+            Long before = cells.get(lot.getId());
+            if (before != null) {
+                members(edited, finest, before).remove(lot.getId());
+            }
+            long key = cellKey(lot.getLatitude(), lot.getLongitude(), maxZoom + cellBits);
+            members(edited, finest, key).put(lot.getId(), lot);
+            cells.put(lot.getId(), key);
+        }
+        Set<Long> dirty = new HashSet<>();
+        for (Map.Entry<Long, Map<String, ParkingLot>> entry : edited.entrySet()) {
+            ParkingLot[] lots = entry.getValue().values().toArray(new ParkingLot[0]);
+            Arrays.sort(lots, BY_ID);
+            put(writable(target, copied, maxZoom), entry.getKey(), Cell.of(lots));
+            dirty.add(entry.getKey());
+        }
+
+        // 2단계: 한 줌씩 올라가며 바뀐 칸의 부모를 자식 네 칸으로 다시 계산한다.
+        for (int z = maxZoom - 1; z >= 0; z--) {
+            Map<Long, Cell> children = target.get(z + 1);
+            Set<Long> parents = new HashSet<>();
+            for (long key : dirty) {
+                parents.add(key(cellX(key) >> 1, cellY(key) >> 1));
+            }
+            for (long parent : parents) {
+                int x = cellX(parent) << 1;
+                int y = cellY(parent) << 1;
+                put(writable(target, copied, z), parent, Cell.merge(children.get(key(x, y)), children.get(key(x + 1, y)),
+                        children.get(key(x, y + 1)), children.get(key(x + 1, y + 1))));
+            }
+            dirty = parents;
+        }
+    }
+
+    private static Map<Long, Cell> writable(List<Map<Long, Cell>> target, boolean[] copied, int z) {
+        if (copied != null && !copied[z]) {
+            target.set(z, new HashMap<>(target.get(z)));
+            copied[z] = true;
+        }
+        return target.get(z);
+    }
+
+    private static Map<String, ParkingLot> members(Map<Long, Map<String, ParkingLot>> edited, Map<Long, Cell> finest,
+                                                   long key) {
+        return edited.computeIfAbsent(key, k -> {
+            Map<String, ParkingLot> members = new LinkedHashMap<>();
+            Cell cell = finest.get(k);
+            if (cell != null) {
+                for (ParkingLot lot : cell.members) {
+                    members.put(lot.getId(), lot);
+                }
+            }
+            return members;
+        });
+    }
+
+    private static void put(Map<Long, Cell> level, long key, Cell cell) {
+        if (cell == null) {
+            level.remove(key);
+        } else {
+            level.put(key, cell);
+        }
+    }
+
+    // 타일 하나의 클러스터. maxZoom 이하는 미리 합친 칸을, 그보다 깊은 줌은 타일 안의 주차장을 하나씩 돌려준다.
+    public Tile tile(int z, int x, int y) {
+        List<Map<Long, Cell>> current = levels;
+        int cellsPerTile = 1 << cellBits;
+        List<Cluster> clusters = new ArrayList<>();
+        if (z <= maxZoom) {
+            Map<Long, Cell> level = current.get(z);
+            for (int cy = y << cellBits; cy < (y + 1) << cellBits; cy++) {
+                for (int cx = x << cellBits; cx < (x + 1) << cellBits; cx++) {
+                    Cell cell = level.get(key(cx, cy));
+                    if (cell != null) {
+                        clusters.add(new Cluster(cell.sumLat / cell.count, cell.sumLon / cell.count, cell.count,
+                                cell.count == 1 ? cell.sole : null));
+                    }
+                }
+            }
+            return new Tile(clusters);
+        }
+        // maxZoom 칸 좌표로 타일이 덮는 범위를 구한 뒤, 그 칸의 주차장 중 실제로 이 타일에 드는 것만 고른다.
+        int shift = z - maxZoom;
+        Map<Long, Cell> finest = current.get(maxZoom);
+        long tileKey = key(x, y);
+        for (int cy = (y * cellsPerTile) >> shift; cy <= ((y + 1) * cellsPerTile - 1) >> shift; cy++) {
+            for (int cx = (x * cellsPerTile) >> shift; cx <= ((x + 1) * cellsPerTile - 1) >> shift; cx++) {
+                Cell cell = finest.get(key(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (ParkingLot lot : cell.members) {
+                    if (cellKey(lot.getLatitude(), lot.getLongitude(), z) == tileKey) {
+                        clusters.add(new Cluster(lot.getLatitude(), lot.getLongitude(), 1, lot));
+                    }
+                }
+            }
+        }
+        return new Tile(clusters);
+    }
+
+    public static boolean isValidTile(int z, int x, int y) {
+        return z >= 0 && z <= MAX_TILE_ZOOM && x >= 0 && y >= 0 && x < (1 << z) && y < (1 << z);
+    }
+
+    public int lotCount() {
+        return lotCells.size();
+    }
+
+    public int getMaxZoom() {
+        return maxZoom;
+    }
+
+    // 줌별 칸 수의 합(메모리 가늠용)
+    public long cellCount() {
+        long total = 0;
+        for (Map<Long, Cell> level : levels) {
+            total += level.size();
+        }
+        return total;
+    }
+
+    public long getUpdatedAtMillis() {
+        return updatedAtMillis;
+    }
+
+    public long getLastUpdateMillis() {
+        return lastUpdateMillis;
+    }
+
+    // 줌 bits(= 줌 + cellBits) 격자에서 좌표가 속한 칸. 위도는 메르카토르 범위로 자른다.
+    private static long cellKey(double latitude, double longitude, int bits) {
+        double n = 1L << bits;
+        double lat = Math.toRadians(Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, latitude)));
+        double fx = (longitude + 180) / 360;
+        double fy = (1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2;
+        int max = (int) n - 1;
+        int x = Math.max(0, Math.min(max, (int) Math.floor(fx * n)));
+        int y = Math.max(0, Math.min(max, (int) Math.floor(fy * n)));
+        return key(x, y);
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    private static int cellX(long key) {
+        return (int) (key >>> 32);
+    }
+
+    private static int cellY(long key) {
+        return (int) key;
+    }
+
+    private static List<Map<Long, Cell>> emptyLevels(int maxZoom) {
+        List<Map<Long, Cell>> levels = new ArrayList<>(maxZoom + 1);
+        for (int z = 0; z <= maxZoom; z++) {
+            levels.add(new HashMap<>());
+        }
+        return levels;
+    }
+
+    // 칸 하나: 주차장 수, 좌표 합, 주차장이 하나면 그 주차장. members는 maxZoom 칸에만 있다(id순).
+    private static final class Cell {
+        private static final ParkingLot[] NO_MEMBERS = new ParkingLot[0];
+
+        private final int count;
+        private final double sumLat;
+        private final double sumLon;
+        private final ParkingLot sole;
+        private final ParkingLot[] members;
+
+        private Cell(int count, double sumLat, double sumLon, ParkingLot sole, ParkingLot[] members) {
+            this.count = count;
+            this.sumLat = sumLat;
+            this.sumLon = sumLon;
+            this.sole = sole;
+            this.members = members;
+        }
+
+        private static Cell of(ParkingLot[] lots) {
+            if (lots.length == 0) {
+                return null;
+            }
+            double sumLat = 0;
+            double sumLon = 0;
+            for (ParkingLot lot : lots) {
+                sumLat += lot.getLatitude();
+                sumLon += lot.getLongitude();
+            }
+            return new Cell(lots.length, sumLat, sumLon, lots.length == 1 ? lots[0] : null, lots);
+        }
+
+        private static Cell merge(Cell... children) {
+            int count = 0;
+            double sumLat = 0;
+            double sumLon = 0;
+            ParkingLot sole = null;
+            for (Cell child : children) {
+                if (child != null) {
+                    count += child.count;
+                    sumLat += child.sumLat;
+                    sumLon += child.sumLon;
+                    sole = child.sole;
+                }
+            }
+            return count == 0 ? null : new Cell(count, sumLat, sumLon, count == 1 ? sole : null, NO_MEMBERS);
+        }
+    }
+
+    // 응답용 클러스터 하나. count가 1이면 lot이 그 주차장이다.
+    public static final class Cluster {
+        private final double latitude;
+        private final double longitude;
+        private final int count;
+        private final ParkingLot lot;
+
+        private Cluster(double latitude, double longitude, int count, ParkingLot lot) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.count = count;
+            this.lot = lot;
+        }
+
+        public double getLatitude() {
+            return latitude;
+        }
+
+        public double getLongitude() {
+            return longitude;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public ParkingLot getLot() {
+            return lot;
+        }
+    }
+
+    // 타일 하나의 클러스터와, 그 내용에서 계산한 강한 ETag
+    public static final class Tile {
+        private final List<Cluster> clusters;
+        private final String etag;
+
+        private Tile(List<Cluster> clusters) {
+            this.clusters = clusters;
+            this.etag = etagOf(clusters);
+        }
+
+        // 응답에 들어가는 값(좌표 비트, 개수, 단일 주차장의 id·이름)을 모두 섞은 64비트 해시
+        private static String etagOf(List<Cluster> clusters) {
+            long hash = 0xcbf29ce484222325L;
+            for (Cluster cluster : clusters) {
+                hash = mix(hash, Double.doubleToLongBits(cluster.latitude));
+                hash = mix(hash, Double.doubleToLongBits(cluster.longitude));
+                hash = mix(hash, cluster.count);
+                if (cluster.lot != null) {
+                    hash = mix(hash, cluster.lot.getId().hashCode());
+                    hash = mix(hash, cluster.lot.getName() == null ? 0 : cluster.lot.getName().hashCode());
+                }
+            }
+            return "\"" + Long.toHexString(hash) + "-" + clusters.size() + "\"";
+        }
+
+        private static long mix(long hash, long value) {
+            hash ^= value;
+            hash *= 0x100000001b3L;
+            return hash ^ (hash >>> 29);
+        }
+
+        public List<Cluster> getClusters() {
+            return clusters;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.backend.backend.useless.index;
+
+// 공공 주차장 데이터 한 건(인덱스용으로 정규화된 값)
+public class ParkingLot {
+    private final String id;
+    private final String name;
+    private final String address;
+    private final String region1;
+    private final String region2;
+    private final double latitude;
+    private final double longitude;
+
+    public ParkingLot(String id, String name, String address, String region1, String region2,
+                      double latitude, double longitude) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.region1 = region1;
+        this.region2 = region2;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    // 시도(지역구분)
+    public String getRegion1() {
+        return region1;
+    }
+
+    // 시군구(지역구분_sub)
+    public String getRegion2() {
+        return region2;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+}
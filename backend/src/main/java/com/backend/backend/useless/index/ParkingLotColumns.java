@@ -0,0 +1,240 @@
+package com.backend.backend.useless.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 주차장 데이터셋을 열(column) 단위 원시 배열로 보관한다.
+// 좌표는 double[] 두 개에 연속으로 놓여 스캔이 포인터를 따라가지 않고, 반복되는 문자열(이름·시도·시군구·주소)은
+// 사전(dictionary)에 한 번만 두고 행에는 int 코드만 둔다. 객체(ParkingLot)는 최종 결과를 만들 때만 생성한다.
+public class ParkingLotColumns {
+    // 같은 패키지의 KD-트리와 스냅샷이 배열을 직접 읽는다.
+    private final int size;
+    final double[] lats;
+    final double[] lons;
+    final String[] ids;
+    final int[] nameCodes;
+    final int[] region1Codes;
+    final int[] region2Codes;
+    final int[] addressCodes;
+    final String[] names;
+    final String[] regions1;
+    final String[] regions2;
+    final String[] addresses;
+
+    ParkingLotColumns(int size, double[] lats, double[] lons, String[] ids,
+                      int[] nameCodes, int[] region1Codes, int[] region2Codes, int[] addressCodes,
+                      String[] names, String[] regions1, String[] regions2, String[] addresses) {
+        this.size = size;
+        this.lats = lats;
+        this.lons = lons;
+        this.ids = ids;
+        this.nameCodes = nameCodes;
+        this.region1Codes = region1Codes;
+        this.region2Codes = region2Codes;
+        this.addressCodes = addressCodes;
+        this.names = names;
+        this.regions1 = regions1;
+        this.regions2 = regions2;
+        this.addresses = addresses;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // 행 순서를 order대로 바꾼 새 열 집합을 만든다(사전은 그대로 공유). KD-트리가 트리 순서로 재배열할 때 쓴다.
+    ParkingLotColumns reorder(int[] order) {
+        double[] newLats = new double[size];
+        double[] newLons = new double[size];
+        String[] newIds = new String[size];
+        int[] newNames = new int[size];
+        int[] newRegions1 = new int[size];
+        int[] newRegions2 = new int[size];
+        int[] newAddresses = new int[size];
+        for (int i = 0; i < size; i++) {
+            int from = order[i];
+            newLats[i] = lats[from];
+            newLons[i] = lons[from];
+            newIds[i] = ids[from];
+            newNames[i] = nameCodes[from];
+            newRegions1[i] = region1Codes[from];
+            newRegions2[i] = region2Codes[from];
+            newAddresses[i] = addressCodes[from];
+        }
+        return new ParkingLotColumns(size, newLats, newLons, newIds, newNames, newRegions1, newRegions2, newAddresses,
+                names, regions1, regions2, addresses);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double latitude(int row) {
+        return lats[row];
+    }
+
+    public double longitude(int row) {
+        return lons[row];
+    }
+
+    public String id(int row) {
+        return ids[row];
+    }
+
+    public String name(int row) {
+        return names[nameCodes[row]];
+    }
+
+    public String region1(int row) {
+        return regions1[region1Codes[row]];
+    }
+
+    public String region2(int row) {
+        return regions2[region2Codes[row]];
+    }
+
+    public String address(int row) {
+        return addresses[addressCodes[row]];
+    }
+
+    // 한 행을 객체로 꺼낸다(결과 top-k에만 사용).
+    public ParkingLot toLot(int row) {
+        return new ParkingLot(id(row), name(row), address(row), region1(row), region2(row), lats[row], lons[row]);
+    }
+
+    // 정규화된 한 행의 64비트 해시(FNV-1a). 증분 갱신에서 행이 바뀌었는지 판단하는 데 쓴다.
+    public long rowHash(int row) {
+        return rowHash(id(row), name(row), address(row), region1(row), region2(row), lats[row], lons[row]);
+    }
+
+    public static long rowHash(String id, String name, String address, String region1, String region2,
+                               double latitude, double longitude) {
+        long hash = 0xcbf29ce484222325L;
+        for (String value : new String[]{id, name, address, region1, region2}) {
+            hash = fnv(hash, value == null ? -1 : value.length());
+            if (value != null) {
+                for (int i = 0; i < value.length(); i++) {
+                    hash = fnv(hash, value.charAt(i));
+                }
+            }
+        }
+        hash = fnv(hash, Double.doubleToLongBits(latitude));
+        return fnv(hash, Double.doubleToLongBits(longitude));
+    }
+
+    private static long fnv(long hash, long value) {
+        for (int shift = 0; shift < 64; shift += 16) {
+            hash ^= (value >>> shift) & 0xffff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public int distinctNames() {
+        return names.length;
+    }
+
+    // 배열·사전 문자열을 합친 대략적인 힙 사용량(객체 헤더와 정렬 여백 포함 추정치)
+    public long approxHeapBytes() {
+        long bytes = 2L * (16 + 8L * size) + 4L * (16 + 4L * size) + (16 + 4L * size);
+        for (String id : ids) {
+            bytes += stringBytes(id);
+        }
+        for (String[] dictionary : new String[][]{names, regions1, regions2, addresses}) {
+            bytes += 16 + 4L * dictionary.length;
+            for (String value : dictionary) {
+                bytes += stringBytes(value);
+            }
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        // String(24) + byte[](16) + UTF-16 내용(한글은 압축되지 않는다), 8바이트 정렬
+        return value == null ? 0 : 40 + ((2L * value.length() + 7) & ~7L);
+    }
+
+    public static final class Builder {
+        private int size;
+        private double[] lats = new double[1024];
+        private double[] lons = new double[1024];
+        private String[] ids = new String[1024];
+        private int[] nameCodes = new int[1024];
+        private int[] region1Codes = new int[1024];
+        private int[] region2Codes = new int[1024];
+        private int[] addressCodes = new int[1024];
+        private final Dictionary names = new Dictionary();
+        private final Dictionary regions1 = new Dictionary();
+        private final Dictionary regions2 = new Dictionary();
+        private final Dictionary addresses = new Dictionary();
+
+        private Builder() {
+        }
+
+        public Builder add(String id, String name, String address, String region1, String region2,
+                           double latitude, double longitude) {
+            if (size == lats.length) {
+                int capacity = size * 2;
+                lats = Arrays.copyOf(lats, capacity);
+                lons = Arrays.copyOf(lons, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                nameCodes = Arrays.copyOf(nameCodes, capacity);
+                region1Codes = Arrays.copyOf(region1Codes, capacity);
+                region2Codes = Arrays.copyOf(region2Codes, capacity);
+                addressCodes = Arrays.copyOf(addressCodes, capacity);
+            }
+            lats[size] = latitude;
+            lons[size] = longitude;
+            ids[size] = id;
+            nameCodes[size] = names.code(name);
+            region1Codes[size] = regions1.code(region1);
+            region2Codes[size] = regions2.code(region2);
+            addressCodes[size] = addresses.code(address);
+            size++;
+            return this;
+        }
+
+        // 다른 열 저장소의 한 행을 그대로 옮겨 담는다.
+        public Builder addRow(ParkingLotColumns source, int row) {
+            return add(source.id(row), source.name(row), source.address(row), source.region1(row), source.region2(row),
+                    source.lats[row], source.lons[row]);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public ParkingLotColumns build() {
+            return new ParkingLotColumns(size,
+                    Arrays.copyOf(lats, size), Arrays.copyOf(lons, size), Arrays.copyOf(ids, size),
+                    Arrays.copyOf(nameCodes, size), Arrays.copyOf(region1Codes, size),
+                    Arrays.copyOf(region2Codes, size), Arrays.copyOf(addressCodes, size),
+                    names.values(), regions1.values(), regions2.values(), addresses.values());
+        }
+    }
+
+    // 문자열 -> 코드 사전. null도 하나의 값(코드)으로 취급한다.
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private String[] values = new String[64];
+
+        private int code(String value) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            int next = codes.size();
+            if (next == values.length) {
+                values = Arrays.copyOf(values, next * 2);
+            }
+            values[next] = value;
+            codes.put(value, next);
+            return next;
+        }
+
+        private String[] values() {
+            return Arrays.copyOf(values, codes.size());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.backend.backend.useless.index;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+// 조회에 쓰는 주차장 인덱스: 불변 KD-트리(base) + 그 뒤에 반영된 변경분.
+// 변경분은 추가·갱신된 행을 담은 작은 열 저장소(delta)와, 삭제·갱신으로 가려진 base 행 표시(tombstones)로 둔다.
+// 변경 반영은 copy-on-write로 새 인스턴스를 만들며 트리는 그대로 공유하므로, 비용은 변경 건수에 비례한다.
+// 변경분이 커지면 서비스가 전체 재빌드(압축)해 새 base를 만든다.
+public class ParkingLotIndex {
+    private final ParkingLotKdTree base;
+    private final Map<String, Integer> baseRows;
+    private final BitSet tombstones;
+    private final ParkingLotColumns delta;
+    private final long updatedAtMillis;
+    // 여러 샤드에 걸친 넓은 질의를 나눠 찾을 풀(없으면 호출 스레드에서만 찾는다)
+    private final ForkJoinPool fanOutPool;
+    // base 위의 최근접 1건 조회 격자(없으면 findNearestOne도 트리로 찾는다)
+    private final NearestLotGrid nearestGrid;
+
+    private ParkingLotIndex(ParkingLotKdTree base, Map<String, Integer> baseRows, BitSet tombstones,
+                            ParkingLotColumns delta, ForkJoinPool fanOutPool, NearestLotGrid nearestGrid) {
+        this.base = base;
+        this.nearestGrid = nearestGrid;
+        this.fanOutPool = fanOutPool;
+        this.baseRows = baseRows;
+        this.tombstones = tombstones;
+        this.delta = delta;
+        this.updatedAtMillis = System.currentTimeMillis();
+    }
+
+    // 병렬 탐색 없이(항상 호출 스레드에서) 찾는 인덱스
+    public static ParkingLotIndex of(ParkingLotKdTree base, NearestLotGrid nearestGrid) {
+        return of(base, nearestGrid, null);
+    }
+
+    // nearestGrid는 같은 base로 만든 것만 쓴다(다른 트리의 격자면 무시).
+    public static ParkingLotIndex of(ParkingLotKdTree base, NearestLotGrid nearestGrid, ForkJoinPool fanOutPool) {
+        ParkingLotColumns columns = base.getColumns();
+        Map<String, Integer> baseRows = new HashMap<>(columns.size() * 2);
+        for (int row = 0; row < columns.size(); row++) {
+            baseRows.put(columns.id(row), row);
+        }
+        NearestLotGrid grid = nearestGrid != null && nearestGrid.getTree() == base ? nearestGrid : null;
+        return new ParkingLotIndex(base, baseRows, new BitSet(), ParkingLotColumns.builder().build(), fanOutPool, grid);
+    }
+
+    // source의 upsertRows 행을 추가·갱신하고 deletedIds를 지운 새 인덱스를 만든다(현재 인스턴스는 그대로).
+    public ParkingLotIndex withChanges(ParkingLotColumns source, int[] upsertRows, Collection<String> deletedIds) {
+        Set<String> changedIds = new HashSet<>(deletedIds);
+        for (int row : upsertRows) {
+            changedIds.add(source.id(row));
+        }
+
+        BitSet nextTombstones = (BitSet) tombstones.clone();
+        for (String id : changedIds) {
+            Integer row = baseRows.get(id);
+            if (row != null) {
+                nextTombstones.set(row);
+            }
+        }
+
+        ParkingLotColumns.Builder nextDelta = ParkingLotColumns.builder();
+        for (int row = 0; row < delta.size(); row++) {
+            if (!changedIds.contains(delta.id(row))) {
+                nextDelta.addRow(delta, row);
+            }
+        }
+        for (int row : upsertRows) {
+            nextDelta.addRow(source, row);
+        }
+        return new ParkingLotIndex(base, baseRows, nextTombstones, nextDelta.build(), fanOutPool, nearestGrid);
+    }
+
+    // 가까운 순으로 최대 k개를 반환한다. maxRadiusMeters가 0 이하이면 반경 제한이 없다.
+    public List<ParkingLotKdTree.Neighbor> findNearest(double latitude, double longitude, int k, double maxRadiusMeters) {
+        return findNearestAfter(latitude, longitude, k, maxRadiusMeters, Double.NEGATIVE_INFINITY, null);
+    }
+
+    // (afterDistance, afterId)보다 뒤에 오는 주차장 중 가까운 순으로 최대 k개를 반환한다(다음 페이지 조회).
+    public List<ParkingLotKdTree.Neighbor> findNearestAfter(double latitude, double longitude, int k,
+                                                           double maxRadiusMeters, double afterDistance, String afterId) {
+        if (k <= 0 || size() == 0) {
+            return Collections.emptyList();
+        }
+        NearestSearch search = new NearestSearch(latitude, longitude, k, maxRadiusMeters, afterDistance, afterId);
+        base.collect(search, tombstones.isEmpty() ? null : tombstones, fanOutPool);
+        search.scan(delta, null);
+        return search.results();
+    }
+
+    // 가장 가까운 주차장 하나(없으면 null). 격자가 있으면 셀 후보 몇 개와 변경분만 재고,
+    // 격자 밖·밀집 셀·후보가 지워진 셀이면 findNearest와 같은 트리 탐색으로 찾는다. 결과는 findNearest(.., 1, ..)와 같다.
+    public ParkingLotKdTree.Neighbor findNearestOne(double latitude, double longitude, double maxRadiusMeters) {
+        if (size() == 0) {
+            return null;
+        }
+        NearestSearch search = new NearestSearch(latitude, longitude, 1, maxRadiusMeters, Double.NEGATIVE_INFINITY, null);
+        if (nearestGrid == null || !nearestGrid.offerCandidates(search, tombstones.isEmpty() ? null : tombstones)) {
+            base.collect(search, tombstones.isEmpty() ? null : tombstones, fanOutPool);
+        }
+        search.scan(delta, null);
+        List<ParkingLotKdTree.Neighbor> result = search.results();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    // 현재 살아 있는 모든 행의 id -> 행 해시(스냅샷에서 복원한 뒤 첫 증분 갱신의 기준)
+    public Map<String, Long> rowHashes() {
+        ParkingLotColumns columns = base.getColumns();
+        Map<String, Long> hashes = new HashMap<>(size() * 2);
+        for (int row = 0; row < columns.size(); row++) {
+            if (!tombstones.get(row)) {
+                hashes.put(columns.id(row), columns.rowHash(row));
+            }
+        }
+        for (int row = 0; row < delta.size(); row++) {
+            hashes.put(delta.id(row), delta.rowHash(row));
+        }
+        return hashes;
+    }
+
+    public int size() {
+        return base.size() - tombstones.cardinality() + delta.size();
+    }
+
+    public ParkingLotKdTree getBase() {
+        return base;
+    }
+
+    public NearestLotGrid getNearestGrid() {
+        return nearestGrid;
+    }
+
+    public int deltaSize() {
+        return delta.size();
+    }
+
+    public int tombstoneCount() {
+        return tombstones.cardinality();
+    }
+
+    public long getUpdatedAtMillis() {
+        return updatedAtMillis;
+    }
+}
@@ -0,0 +1,358 @@
+package com.backend.backend.useless.index;
+
+import com.backend.backend.common.geo.DistanceEngine;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 주차장 좌표(위도/경도)에 대한 불변 2차원 KD-트리.
+// 열 저장소(ParkingLotColumns)의 행을 중앙값 기준 트리 순서로 재배열한 암묵적 트리라 노드 객체가 없고,
+// 빌드 후에는 읽기 전용이라 락 없이 공유한다. 결과 객체는 최종 k개에 대해서만 만든다.
+// 후보 거리는 DistanceEngine의 하한 검사를 통과한 노드만 Haversine으로 재고, 가지치기는 질의 지점 기준 국소 평면(equirectangular) 거리에 여유를 둬서 한다.
+// 결과 순서는 (거리, 주차장 id)로 완전히 정해지므로 커서 페이지네이션의 기준으로 그대로 쓸 수 있다.
+//
+// 행은 시도(region_1depth)별 샤드로 묶여 연속 구간을 이루고, 구간마다 독립된 암묵적 트리가 된다.
+// 질의는 샤드 경계 상자까지의 하한 거리로 닿지 않는 샤드를 건너뛰고, 가장 가까운 샤드를 호출 스레드에서 먼저 찾는다.
+// 그래도 닿는 샤드가 여럿 남고 행이 많으면(넓은 반경·큰 k) 남은 샤드를 ForkJoinPool로 나눠 찾은 뒤
+// 샤드별 top-k를 k개짜리 힙 하나로 합친다(병렬 작업끼리는 k번째 거리 상한을 공유해 가지치기한다).
+public class ParkingLotKdTree {
+    static final double METERS_PER_DEG_LAT = DistanceEngine.METERS_PER_DEG_LAT;
+    // 평면 근사와 구면 거리의 차이(수십 km 안에서 0.1% 미만)를 덮는 가지치기 여유
+    private static final double PRUNE_SLACK = 0.99;
+    // 첫 샤드를 찾은 뒤에도 닿는 샤드가 이보다 적거나, 그 샤드들에서 k번째 거리 안에 들 것으로 어림한 행 수가
+    // 이보다 적으면 탐색이 짧아 나누는 비용이 더 크다.
+    static final int FAN_OUT_MIN_SHARDS = 2;
+    static final int FAN_OUT_MIN_ROWS = 8192;
+
+    private final ParkingLotColumns columns;
+    private final double[] lats;
+    private final double[] lons;
+    private final long builtAtMillis;
+    // 샤드 s는 행 [shardStarts[s], shardStarts[s + 1])
+    private final int[] shardStarts;
+    private final double[] shardMinLat;
+    private final double[] shardMaxLat;
+    private final double[] shardMinLon;
+    private final double[] shardMaxLon;
+
+    private ParkingLotKdTree(ParkingLotColumns columns, int[] shardStarts, long builtAtMillis) {
+        this.columns = columns;
+        this.lats = columns.lats;
+        this.lons = columns.lons;
+        this.builtAtMillis = builtAtMillis;
+        this.shardStarts = shardStarts;
+        int shards = shardStarts.length - 1;
+        this.shardMinLat = new double[shards];
+        this.shardMaxLat = new double[shards];
+        this.shardMinLon = new double[shards];
+        this.shardMaxLon = new double[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            double minLat = Double.POSITIVE_INFINITY;
+            double maxLat = Double.NEGATIVE_INFINITY;
+            double minLon = Double.POSITIVE_INFINITY;
+            double maxLon = Double.NEGATIVE_INFINITY;
+            for (int row = shardStarts[shard]; row < shardStarts[shard + 1]; row++) {
+                minLat = Math.min(minLat, lats[row]);
+                maxLat = Math.max(maxLat, lats[row]);
+                minLon = Math.min(minLon, lons[row]);
+                maxLon = Math.max(maxLon, lons[row]);
+            }
+            shardMinLat[shard] = minLat;
+            shardMaxLat[shard] = maxLat;
+            shardMinLon[shard] = minLon;
+            shardMaxLon[shard] = maxLon;
+        }
+    }
+
+    // 이미 트리 순서로 배열된 열(스냅샷)에서 재배열 없이 트리를 복원한다.
+    static ParkingLotKdTree restore(ParkingLotColumns arranged, int[] shardStarts, long builtAtMillis) {
+        return new ParkingLotKdTree(arranged, shardStarts, builtAtMillis);
+    }
+
+    public static ParkingLotKdTree build(ParkingLotColumns source) {
+        Arrangement arrangement = new Arrangement(source);
+        for (int shard = 0; shard + 1 < arrangement.shardStarts.length; shard++) {
+            arrangement.arrange(arrangement.shardStarts[shard], arrangement.shardStarts[shard + 1], 0);
+        }
+        return new ParkingLotKdTree(source.reorder(arrangement.order), arrangement.shardStarts, System.currentTimeMillis());
+    }
+
+    // 가까운 순으로 최대 k개를 반환한다. maxRadiusMeters가 0 이하이면 반경 제한이 없다.
+    public List<Neighbor> findNearest(double latitude, double longitude, int k, double maxRadiusMeters) {
+        return findNearestAfter(latitude, longitude, k, maxRadiusMeters, Double.NEGATIVE_INFINITY, null);
+    }
+
+    // (afterDistance, afterId)보다 뒤에 오는 주차장 중 가까운 순으로 최대 k개를 반환한다(다음 페이지 조회).
+    public List<Neighbor> findNearestAfter(double latitude, double longitude, int k, double maxRadiusMeters,
+                                           double afterDistance, String afterId) {
+        if (k <= 0 || columns.size() == 0) {
+            return Collections.emptyList();
+        }
+        NearestSearch search = new NearestSearch(latitude, longitude, k, maxRadiusMeters, afterDistance, afterId);
+        collect(search, null, null);
+        return search.results();
+    }
+
+    // 트리를 탐색하며 후보를 search에 넣는다. excluded에 켜진 행(삭제·갱신된 행)은 후보에서 뺀다.
+    // pool이 null이면 항상 호출 스레드에서 찾는다.
+    void collect(NearestSearch search, BitSet excluded, ForkJoinPool pool) {
+        int shards = shardStarts.length - 1;
+        double[] bounds = new double[shards];
+        List<Integer> reachable = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            bounds[shard] = search.distances.lowerBoundMeters(
+                    shardMinLat[shard], shardMinLon[shard], shardMaxLat[shard], shardMaxLon[shard]);
+            if (bounds[shard] <= search.bound()) {
+                reachable.add(shard);
+            }
+        }
+        reachable.sort(Comparator.comparingDouble(shard -> bounds[shard]));
+        if (reachable.isEmpty()) {
+            return;
+        }
+
+        // 가장 가까운 샤드를 먼저 찾으면 bound가 줄어 대부분의 질의(작은 k, 좁은 반경)는 남는 샤드가 없다.
+        int nearest = reachable.get(0);
+        search(search, excluded, shardStarts[nearest], shardStarts[nearest + 1], 0);
+        List<Integer> remaining = new ArrayList<>(reachable.size());
+        double remainingRows = 0;
+        for (int shard : reachable.subList(1, reachable.size())) {
+            if (bounds[shard] <= search.bound()) {
+                remaining.add(shard);
+                remainingRows += rowsInReach(shard, search.bound());
+            }
+        }
+
+        if (pool == null || pool.getParallelism() < 2
+                || remaining.size() < FAN_OUT_MIN_SHARDS || remainingRows < FAN_OUT_MIN_ROWS) {
+            // 가까운 샤드부터 찾으면 bound가 빨리 줄어 먼 샤드는 통째로 건너뛴다.
+            for (int shard : remaining) {
+                if (bounds[shard] <= search.bound()) {
+                    search(search, excluded, shardStarts[shard], shardStarts[shard + 1], 0);
+                }
+            }
+            return;
+        }
+        List<ForkJoinTask<NearestSearch>> tasks = new ArrayList<>(remaining.size());
+        AtomicLong sharedBound = NearestSearch.newSharedBound(search.bound());
+        for (int shard : remaining) {
+            tasks.add(pool.submit(() -> {
+                NearestSearch partial = search.fork(sharedBound);
+                search(partial, excluded, shardStarts[shard], shardStarts[shard + 1], 0);
+                return partial;
+            }));
+        }
+        for (ForkJoinTask<NearestSearch> task : tasks) {
+            task.join().drainInto(search);
+        }
+    }
+
+    // 샤드의 행이 경계 상자에 고르게 퍼져 있다고 보고 반경 radius 원 안에 드는 행 수를 어림한다.
+    // 상자가 겹쳐 여러 샤드가 닿더라도 작은 k의 질의는 원이 작아 병렬로 나누지 않게 된다.
+    private double rowsInReach(int shard, double radius) {
+        int rows = shardStarts[shard + 1] - shardStarts[shard];
+        double height = (shardMaxLat[shard] - shardMinLat[shard]) * METERS_PER_DEG_LAT;
+        double width = (shardMaxLon[shard] - shardMinLon[shard]) * METERS_PER_DEG_LAT
+                * Math.cos(Math.toRadians((shardMinLat[shard] + shardMaxLat[shard]) / 2));
+        double area = height * width;
+        if (!(area > 0) || Double.isInfinite(radius)) {
+            return rows;
+        }
+        return rows * Math.min(1.0, Math.PI * radius * radius / area);
+    }
+
+    private void search(NearestSearch search, BitSet excluded, int lo, int hi, int depth) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double dy = (lats[mid] - search.latitude) * METERS_PER_DEG_LAT;
+        double dx = (lons[mid] - search.longitude) * search.metersPerDegLon;
+        // 평면 하한이 이미 현재 k번째보다 멀면 삼각함수 계산 없이 넘어간다.
+        if ((excluded == null || !excluded.get(mid))
+                && search.distances.lowerBoundMeters(lats[mid], lons[mid]) <= search.bound()) {
+            search.offer(columns, mid, search.distances.exactMeters(lats[mid], lons[mid]));
+        }
+
+        // 분할 평면까지의 거리(질의 지점이 평면의 어느 쪽인지 부호로 표현)
+        double diff = (depth & 1) == 0 ? -dy : -dx;
+        if (diff < 0) {
+            search(search, excluded, lo, mid, depth + 1);
+            if (-diff * PRUNE_SLACK <= search.bound()) {
+                search(search, excluded, mid + 1, hi, depth + 1);
+            }
+        } else {
+            search(search, excluded, mid + 1, hi, depth + 1);
+            if (diff * PRUNE_SLACK <= search.bound()) {
+                search(search, excluded, lo, mid, depth + 1);
+            }
+        }
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public int shardCount() {
+        return shardStarts.length - 1;
+    }
+
+    int[] getShardStarts() {
+        return shardStarts;
+    }
+
+    public ParkingLotColumns getColumns() {
+        return columns;
+    }
+
+    public long getBuiltAtMillis() {
+        return builtAtMillis;
+    }
+
+    // 빌드 전용: 좌표 사본과 행 번호 배열만 움직여 트리 순서를 구한 뒤, 열 저장소는 한 번에 재배열한다.
+    // 먼저 시도 이름순으로 행을 샤드별 연속 구간에 모으고(시도가 없는 행은 빈 이름 샤드), 구간마다 트리를 만든다.
+    private static final class Arrangement {
+        private final double[] lats;
+        private final double[] lons;
+        private final int[] order;
+        private final int[] shardStarts;
+
+        private Arrangement(ParkingLotColumns source) {
+            int n = source.size();
+            String[] regions = source.regions1;
+            Integer[] shardOfCode = new Integer[regions.length];
+            for (int code = 0; code < regions.length; code++) {
+                shardOfCode[code] = code;
+            }
+            Arrays.sort(shardOfCode, Comparator.comparing(code -> regions[code] == null ? "" : regions[code]));
+            int[] rank = new int[regions.length];
+            for (int i = 0; i < shardOfCode.length; i++) {
+                // null과 빈 문자열처럼 같은 이름으로 보는 코드는 같은 샤드
+                boolean sameAsPrevious = i > 0 && Objects.equals(nameOf(regions[shardOfCode[i]]), nameOf(regions[shardOfCode[i - 1]]));
+                rank[shardOfCode[i]] = i == 0 ? 0 : rank[shardOfCode[i - 1]] + (sameAsPrevious ? 0 : 1);
+            }
+            int shards = regions.length == 0 ? 0 : rank[shardOfCode[shardOfCode.length - 1]] + 1;
+
+            // 계수 정렬: 샤드별 행 수 -> 시작 위치 -> 배치
+            int[] starts = new int[shards + 1];
+            for (int row = 0; row < n; row++) {
+                starts[rank[source.region1Codes[row]] + 1]++;
+            }
+            for (int shard = 0; shard < shards; shard++) {
+                starts[shard + 1] += starts[shard];
+            }
+            int[] next = Arrays.copyOf(starts, shards);
+            this.order = new int[n];
+            for (int row = 0; row < n; row++) {
+                order[next[rank[source.region1Codes[row]]]++] = row;
+            }
+            this.lats = new double[n];
+            this.lons = new double[n];
+            for (int i = 0; i < n; i++) {
+                lats[i] = source.lats[order[i]];
+                lons[i] = source.lons[order[i]];
+            }
+            this.shardStarts = compact(starts);
+        }
+
+        private static String nameOf(String region) {
+            return region == null ? "" : region;
+        }
+
+        // 행이 없는 샤드(사전에만 남은 이름)는 뺀다.
+        private static int[] compact(int[] starts) {
+            int[] result = new int[starts.length];
+            int count = 0;
+            result[count++] = starts[0];
+            for (int i = 1; i < starts.length; i++) {
+                if (starts[i] > result[count - 1]) {
+                    result[count++] = starts[i];
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        // [lo, hi) 구간의 중앙 원소를 축(짝수 깊이=위도, 홀수 깊이=경도) 기준으로 제자리에 놓고 양쪽을 재귀 정렬한다.
+        private void arrange(int lo, int hi, int depth) {
+            if (hi - lo <= 1) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, depth & 1);
+            arrange(lo, mid, depth + 1);
+            arrange(mid + 1, hi, depth + 1);
+        }
+
+        // Quickselect: k번째 원소가 제자리에 오도록 [left, right]를 분할한다.
+        private void select(int left, int right, int k, int axis) {
+            double[] keys = axis == 0 ? lats : lons;
+            while (right > left) {
+                int middle = (left + right) >>> 1;
+                double pivot = medianOfThree(keys[left], keys[middle], keys[right]);
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (keys[i] < pivot) {
+                        i++;
+                    }
+                    while (keys[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private static double medianOfThree(double a, double b, double c) {
+            return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        }
+
+        private void swap(int i, int j) {
+            int row = order[i];
+            order[i] = order[j];
+            order[j] = row;
+            double lat = lats[i];
+            lats[i] = lats[j];
+            lats[j] = lat;
+            double lon = lons[i];
+            lons[i] = lons[j];
+            lons[j] = lon;
+        }
+    }
+
+    public static final class Neighbor {
+        private final ParkingLot lot;
+        private final double distanceMeters;
+
+        Neighbor(ParkingLot lot, double distanceMeters) {
+            this.lot = lot;
+            this.distanceMeters = distanceMeters;
+        }
+
+        public ParkingLot getLot() {
+            return lot;
+        }
+
+        public double getDistanceMeters() {
+            return distanceMeters;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.backend.backend.useless.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+// KD-트리(트리 순서로 배열된 열 저장소)를 이진 파일로 저장하고, 기동 시 FileChannel.map으로 읽어 복원한다.
+// 트리 순서 그대로 저장하므로 복원할 때 재배열이 필요 없다.
+//
+// 형식(빅 엔디언):
+//   header : magic(int) version(int) builtAtMillis(long) rowCount(int) payloadLength(long) crc32(long)
+//   payload: lats(double[n]) lons(double[n]) nameCodes region1Codes region2Codes addressCodes(int[n] x4)
+//            ids(string[n]) names regions1 regions2 addresses(int count + string[count] x4)
+//            shardStarts(int count + int[count])
+//   string : int 바이트 길이(-1이면 null) + UTF-8 바이트
+// crc32는 payload 다음에 헤더의 crc32 앞부분(magic ~ payloadLength)까지 이어서 계산한다.
+// magic·버전이 다르거나 CRC가 맞지 않는 파일은 거부한다(호출 측은 새로 적재해 덮어쓴다).
+// 헤더 값으로 배열을 잡기 전에 payload 길이와 맞춰 보므로, 손상된 행 수가 거대한 할당으로 이어지지 않는다.
+public final class ParkingLotSnapshot {
+    static final int MAGIC = 0x504C4B53; // "PLKS"
+    static final int FORMAT_VERSION = 3;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 8 + 8;
+    // CRC에 들어가는 헤더 앞부분(crc32 필드 자신은 뺀다)
+    private static final int CHECKED_HEADER_BYTES = HEADER_BYTES - 8;
+    // 행 하나가 payload에서 최소로 차지하는 바이트: lat·lon(double x2) + 사전 코드(int x4) + id 길이(int)
+    private static final int MIN_ROW_BYTES = 8 + 8 + 4 * 4 + 4;
+
+    private ParkingLotSnapshot() {
+    }
+
+    // 임시 파일에 쓴 뒤 원자적으로 교체해, 쓰는 도중 종료돼도 이전 스냅샷이 남도록 한다.
+    public static void write(ParkingLotKdTree tree, Path path) throws IOException {
+        ParkingLotColumns columns = tree.getColumns();
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        CRC32 crc = new CRC32();
+        long payloadLength;
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.write(new byte[HEADER_BYTES]);
+            CountingCrcStream payloadStream = new CountingCrcStream(out, crc);
+            DataOutputStream payload = new DataOutputStream(payloadStream);
+            int n = columns.size();
+            for (int i = 0; i < n; i++) {
+                payload.writeDouble(columns.lats[i]);
+            }
+            for (int i = 0; i < n; i++) {
+                payload.writeDouble(columns.lons[i]);
+            }
+            for (int[] codes : new int[][]{columns.nameCodes, columns.region1Codes, columns.region2Codes, columns.addressCodes}) {
+                for (int i = 0; i < n; i++) {
+                    payload.writeInt(codes[i]);
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                writeString(payload, columns.ids[i]);
+            }
+            for (String[] dictionary : new String[][]{columns.names, columns.regions1, columns.regions2, columns.addresses}) {
+                payload.writeInt(dictionary.length);
+                for (String value : dictionary) {
+                    writeString(payload, value);
+                }
+            }
+            int[] shardStarts = tree.getShardStarts();
+            payload.writeInt(shardStarts.length);
+            for (int start : shardStarts) {
+                payload.writeInt(start);
+            }
+            payload.flush();
+            payloadLength = payloadStream.count;
+        }
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(tree.getBuiltAtMillis())
+                    .putInt(columns.size())
+                    .putLong(payloadLength);
+            crc.update(header.array(), 0, CHECKED_HEADER_BYTES);
+            header.putLong(crc.getValue())
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // 스냅샷을 읽어 트리를 복원한다. 형식·버전·체크섬이 맞지 않으면 IOException.
+    public static ParkingLotKdTree read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("snapshot too short: " + fileSize + " bytes");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+            int magic = buffer.getInt();
+            int version = buffer.getInt();
+            if (magic != MAGIC) {
+                throw new IOException("not a parking lot snapshot");
+            }
+            if (version != FORMAT_VERSION) {
+                throw new IOException("unsupported snapshot version " + version + " (expected " + FORMAT_VERSION + ")");
+            }
+            long builtAtMillis = buffer.getLong();
+            int n = buffer.getInt();
+            long payloadLength = buffer.getLong();
+            long expectedCrc = buffer.getLong();
+            if (payloadLength != fileSize - HEADER_BYTES) {
+                throw new IOException("snapshot length mismatch");
+            }
+            if (n < 0 || (long) n * MIN_ROW_BYTES > payloadLength) {
+                throw new IOException("snapshot row count " + n + " does not fit the payload");
+            }
+
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            crc.update(buffer.duplicate().position(0).limit(CHECKED_HEADER_BYTES));
+            if (crc.getValue() != expectedCrc) {
+                throw new IOException("snapshot checksum mismatch");
+            }
+
+            try {
+                double[] lats = new double[n];
+                double[] lons = new double[n];
+                payload.asDoubleBuffer().get(lats);
+                payload.position(payload.position() + 8 * n);
+                payload.asDoubleBuffer().get(lons);
+                payload.position(payload.position() + 8 * n);
+                int[][] codes = new int[4][n];
+                for (int[] column : codes) {
+                    payload.asIntBuffer().get(column);
+                    payload.position(payload.position() + 4 * n);
+                }
+                String[] ids = new String[n];
+                for (int i = 0; i < n; i++) {
+                    ids[i] = readString(payload);
+                }
+                String[][] dictionaries = new String[4][];
+                for (int d = 0; d < dictionaries.length; d++) {
+                    dictionaries[d] = new String[checkedCount(payload, payload.getInt())];
+                    for (int i = 0; i < dictionaries[d].length; i++) {
+                        dictionaries[d][i] = readString(payload);
+                    }
+                }
+                for (int d = 0; d < codes.length; d++) {
+                    for (int code : codes[d]) {
+                        if (code < 0 || code >= dictionaries[d].length) {
+                            throw new IOException("snapshot dictionary code out of range");
+                        }
+                    }
+                }
+                int[] shardStarts = new int[checkedCount(payload, payload.getInt())];
+                for (int i = 0; i < shardStarts.length; i++) {
+                    shardStarts[i] = payload.getInt();
+                }
+                for (int i = 1; i < shardStarts.length; i++) {
+                    if (shardStarts[i] < shardStarts[i - 1]) {
+                        throw new IOException("snapshot shard table out of order");
+                    }
+                }
+                if (shardStarts.length == 0 || shardStarts[0] != 0 || shardStarts[shardStarts.length - 1] != n) {
+                    throw new IOException("snapshot shard table does not cover all rows");
+                }
+                ParkingLotColumns columns = new ParkingLotColumns(n, lats, lons, ids,
+                        codes[0], codes[1], codes[2], codes[3],
+                        dictionaries[0], dictionaries[1], dictionaries[2], dictionaries[3]);
+                return ParkingLotKdTree.restore(columns, shardStarts, builtAtMillis);
+            } catch (RuntimeException e) {
+                // CRC는 맞지만 내용이 구조와 맞지 않는 경우(버전을 올리지 않고 형식을 바꾼 경우 등)
+                throw new IOException("malformed snapshot payload", e);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IOException("snapshot string runs past the payload");
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 뒤따르는 항목이 최소 4바이트씩이므로 남은 바이트보다 많은 개수는 손상이다(할당 전에 거른다).
+    private static int checkedCount(ByteBuffer in, int count) throws IOException {
+        if (count < 0 || count > in.remaining() / 4) {
+            throw new IOException("snapshot count " + count + " runs past the payload");
+        }
+        return count;
+    }
+
+    // 헤더 뒤 payload의 바이트 수와 CRC를 쓰면서 같이 계산한다.
+    private static final class CountingCrcStream extends OutputStream {
+        private final OutputStream out;
+        private final CRC32 crc;
+        private long count;
+
+        private CountingCrcStream(OutputStream out, CRC32 crc) {
+            this.out = out;
+            this.crc = crc;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            crc.update(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            crc.update(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
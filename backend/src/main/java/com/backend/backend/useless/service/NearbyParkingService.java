@@ -0,0 +1,7 @@
+package com.backend.backend.useless.service;
+
+import com.backend.backend.useless.dto.NearbyParkingResponseDto;
+
+public interface NearbyParkingService {
+    NearbyParkingResponseDto findNearby(double latitude, double longitude, double radiusMeters, int k, String cursor);
+}
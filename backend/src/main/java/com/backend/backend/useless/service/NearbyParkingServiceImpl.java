@@ -0,0 +1,92 @@
+package com.backend.backend.useless.service;
+
+import com.backend.backend.useless.dto.NearbyParkingResponseDto;
+import com.backend.backend.useless.dto.ParkingCandidateDto;
+import com.backend.backend.useless.index.ParkingLot;
+import com.backend.backend.useless.index.ParkingLotIndex;
+import com.backend.backend.useless.index.ParkingLotKdTree;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Service
+public class NearbyParkingServiceImpl implements NearbyParkingService {
+
+    private final ParkingLotIndexService parkingLotIndexService;
+
+    public NearbyParkingServiceImpl(ParkingLotIndexService parkingLotIndexService) {
+        this.parkingLotIndexService = parkingLotIndexService;
+    }
+
+    // 반경 안의 주차장을 (거리, id) 순으로 k개씩 돌려준다.
+    // 커서는 직전 페이지 마지막 항목의 (거리, id)라서, 페이지 사이에 트리가 교체돼도 중복 없이 이어진다.
+    @Override
+    public NearbyParkingResponseDto findNearby(double latitude, double longitude, double radiusMeters, int k, String cursor) {
+        ParkingLotIndex index = parkingLotIndexService.currentIndex();
+        if (index == null) {
+            throw new IllegalStateException("Parking lot index is not loaded yet.");
+        }
+
+        List<ParkingLotKdTree.Neighbor> neighbors;
+        if (StringUtils.hasText(cursor)) {
+            Cursor after = Cursor.decode(cursor);
+            neighbors = index.findNearestAfter(latitude, longitude, k + 1, radiusMeters, after.distance, after.id);
+        } else {
+            neighbors = index.findNearest(latitude, longitude, k + 1, radiusMeters);
+        }
+
+        // 한 개 더 조회해서 다음 페이지가 있는지 판단한다.
+        boolean hasMore = neighbors.size() > k;
+        List<ParkingCandidateDto> items = new ArrayList<>(Math.min(k, neighbors.size()));
+        for (int i = 0; i < neighbors.size() && i < k; i++) {
+            items.add(toDto(neighbors.get(i)));
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            ParkingLotKdTree.Neighbor last = neighbors.get(k - 1);
+            nextCursor = new Cursor(last.getDistanceMeters(), last.getLot().getId()).encode();
+        }
+        return new NearbyParkingResponseDto(items, nextCursor);
+    }
+
+    private ParkingCandidateDto toDto(ParkingLotKdTree.Neighbor neighbor) {
+        ParkingLot lot = neighbor.getLot();
+        ParkingCandidateDto dto = new ParkingCandidateDto(
+                lot.getName(), lot.getLatitude(), lot.getLongitude(), neighbor.getDistanceMeters());
+        dto.setParkingId(lot.getId());
+        dto.setAddress(lot.getAddress());
+        return dto;
+    }
+
+    // "거리|id"를 URL-safe Base64로 감싼 불투명 커서
+    private static final class Cursor {
+        private final double distance;
+        private final String id;
+
+        private Cursor(double distance, String id) {
+            this.distance = distance;
+            this.id = id;
+        }
+
+        private String encode() {
+            String raw = distance + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid cursor.");
+                }
+                return new Cursor(Double.parseDouble(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.backend.backend.useless.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// odcloud(공공데이터 포털) 응답 JSON을 스트리밍으로 읽는 공통 도우미.
+// 데이터셋마다 필드명이 달라 필드별로 여러 후보 키를 두는데, 키 -> (필드, 우선순위) 표를 한 번만 만들어 두고
+// 응답 안에서는 첫 행의 키 배치를 기억해 다음 행부터는 같은 위치의 키를 참조 비교만으로 해석한다.
+// JsonNode 트리를 만들지 않고 행마다 재사용하는 Record 하나에 값을 채워 handler에 넘긴다.
+final class OdcloudRecords {
+    static final int ID = 0;
+    static final int NAME = 1;
+    static final int ADDRESS = 2;
+    static final int REGION1 = 3;
+    static final int REGION2 = 4;
+    private static final int TEXT_FIELDS = 5;
+    private static final int LATITUDE = 5;
+    private static final int LONGITUDE = 6;
+
+    // 필드 번호 순서. 각 배열 안의 순서가 우선순위(앞쪽 키가 있으면 그 값을 쓴다).
+    private static final String[][] KEYS = {
+            {"주차장관리번호", "prkplceNo", "parkingId"},
+            {"주차장명", "parkingName", "pkltNm", "prkplceNm"},
+            {"주차장도로명주소", "주차장지번주소", "rdnmadr", "lnmadr", "addr"},
+            {"지역구분", "ctprvnNm", "sido"},
+            {"지역구분_sub", "signguNm", "sigungu"},
+            {"위도", "lat", "latitude", "laCrdnt", "y"},
+            {"경도", "lot", "longitude", "loCrdnt", "x"},
+    };
+    // 응답 최상위에서 데이터 배열로 보는 필드명
+    private static final String[] DATA_ARRAY_KEYS = {"data", "records", "items"};
+    private static final int UNKNOWN = -1;
+    // 키 -> field * PRIORITY_STRIDE + priority
+    private static final int PRIORITY_STRIDE = 16;
+    private static final Map<String, Integer> SLOTS = new HashMap<>();
+
+    static {
+        for (int field = 0; field < KEYS.length; field++) {
+            for (int priority = 0; priority < KEYS[field].length; priority++) {
+                SLOTS.putIfAbsent(KEYS[field][priority], field * PRIORITY_STRIDE + priority);
+            }
+        }
+    }
+
+    private OdcloudRecords() {
+    }
+
+    interface RecordHandler {
+        void accept(Record record);
+    }
+
+    static Page read(JsonFactory factory, InputStream body, RecordHandler handler) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            return read(parser, handler);
+        }
+    }
+
+    static Page read(JsonFactory factory, String body, RecordHandler handler) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            return read(parser, handler);
+        }
+    }
+
+    // 최상위 객체에서 totalCount와 데이터 배열만 읽고 나머지 값은 건너뛴다.
+    private static Page read(JsonParser parser, RecordHandler handler) throws IOException {
+        Page page = new Page();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return page;
+        }
+        Layout layout = new Layout();
+        Record record = new Record();
+        boolean dataRead = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("totalCount".equals(key) && value.isNumeric()) {
+                page.totalCount = parser.getLongValue();
+            } else if (!dataRead && value == JsonToken.START_ARRAY && isDataArrayKey(key)) {
+                dataRead = true;
+                page.hasData = true;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    readRecord(parser, layout, record);
+                    page.records++;
+                    handler.accept(record);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return page;
+    }
+
+    private static boolean isDataArrayKey(String key) {
+        for (String candidate : DATA_ARRAY_KEYS) {
+            if (candidate.equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void readRecord(JsonParser parser, Layout layout, Record record) throws IOException {
+        record.clear();
+        int position = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int slot = layout.slot(position++, parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (slot != UNKNOWN && value != JsonToken.VALUE_NULL) {
+                record.set(slot / PRIORITY_STRIDE, slot % PRIORITY_STRIDE, parser, value);
+            }
+        }
+    }
+
+    // 한 응답 안의 키 배치. 위치 j의 키가 이전 행과 같은 인스턴스면(Jackson이 필드명을 정규화해 재사용한다)
+    // 표 조회 없이 기억해 둔 슬롯을 쓰고, 다르면 표에서 찾아 그 위치를 갱신한다.
+    private static final class Layout {
+        private String[] keys = new String[16];
+        private int[] slots = new int[16];
+
+        private int slot(int position, String key) {
+            if (position >= keys.length) {
+                keys = Arrays.copyOf(keys, keys.length * 2);
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+            if (keys[position] != key) {
+                keys[position] = key;
+                slots[position] = SLOTS.getOrDefault(key, UNKNOWN);
+            }
+            return slots[position];
+        }
+    }
+
+    // 행 하나의 값. 다음 행을 읽으면 덮어쓰므로 handler 밖으로 들고 나가면 안 된다.
+    static final class Record {
+        private final String[] texts = new String[TEXT_FIELDS];
+        private final int[] priorities = new int[KEYS.length];
+        private double latitude;
+        private double longitude;
+
+        private void clear() {
+            Arrays.fill(texts, null);
+            Arrays.fill(priorities, Integer.MAX_VALUE);
+        }
+
+        // 빈 문자열이나 숫자로 읽히지 않는 좌표는 없는 값으로 보고 다음 후보 키에 맡긴다.
+        private void set(int field, int priority, JsonParser parser, JsonToken value) throws IOException {
+            if (priority >= priorities[field]) {
+                return;
+            }
+            if (field < TEXT_FIELDS) {
+                String text = parser.getText().trim();
+                if (!text.isEmpty()) {
+                    texts[field] = text;
+                    priorities[field] = priority;
+                }
+                return;
+            }
+            double number;
+            if (value.isNumeric()) {
+                number = parser.getDoubleValue();
+            } else {
+                String raw = parser.getText().trim();
+                if (raw.isEmpty()) {
+                    return;
+                }
+                try {
+                    number = Double.parseDouble(raw);
+                } catch (NumberFormatException e) {
+                    return;
+                }
+            }
+            if (field == LATITUDE) {
+                latitude = number;
+            } else {
+                longitude = number;
+            }
+            priorities[field] = priority;
+        }
+
+        String text(int field) {
+            return texts[field];
+        }
+
+        boolean hasCoordinates() {
+            return priorities[LATITUDE] != Integer.MAX_VALUE && priorities[LONGITUDE] != Integer.MAX_VALUE;
+        }
+
+        double latitude() {
+            return latitude;
+        }
+
+        double longitude() {
+            return longitude;
+        }
+    }
+
+    static final class Page {
+        private long totalCount = -1;
+        private int records;
+        private boolean hasData;
+
+        long getTotalCount() {
+            return totalCount;
+        }
+
+        int getRecords() {
+            return records;
+        }
+
+        boolean hasData() {
+            return hasData;
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.backend.backend.useless.service;
+
+import com.backend.backend.config.ParkingApiProperties;
+import com.backend.backend.config.ParkingLotIndexProperties;
+import com.backend.backend.config.ParkingTileProperties;
+import com.backend.backend.config.UpstreamResilienceProperties;
+import com.backend.backend.useless.index.NearestLotGrid;
+import com.backend.backend.useless.index.ParkingClusterTiles;
+import com.backend.backend.useless.index.ParkingLotColumns;
+import com.backend.backend.useless.index.ParkingLotIndex;
+import com.backend.backend.useless.index.ParkingLotKdTree;
+import com.backend.backend.useless.index.ParkingLotSnapshot;
+import com.fasterxml.jackson.core.JsonFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+// 공공 주차장 데이터셋 전체를 페이지 단위로 내려받아 KD-트리로 메모리에 올려 둔다.
+// 갱신 주기마다 정규화한 행의 해시를 이전 값과 비교해 추가·갱신·삭제분만 copy-on-write로 반영하고,
+// 변경분이 base의 compact-ratio를 넘으면 전체 재빌드한다. 조회 쪽은 항상 완성된 인덱스 하나만 본다.
+@Service
+public class ParkingLotIndexService {
+    private final ParkingApiProperties parkingApiProperties;
+    private final ParkingLotIndexProperties indexProperties;
+    private final RestTemplate restTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    // 여러 시도 샤드에 걸친 넓은 질의를 나눠 찾는 풀(요청 스레드는 결과를 합치기만 한다)
+    private final ForkJoinPool fanOutPool;
+    // 지도 타일용 클러스터 피라미드(꺼져 있으면 null). 인덱스와 같은 변경분으로 함께 갱신한다.
+    private final ParkingClusterTiles tiles;
+
+    private volatile ParkingLotIndex index;
+    // 현재 인덱스에 반영된 행의 id -> 행 해시. 갱신 스레드만 읽고 쓴다.
+    private Map<String, Long> rowHashes;
+    private volatile Map<String, Object> lastRun;
+    private volatile String snapshotStatus;
+
+    public ParkingLotIndexService(ParkingApiProperties parkingApiProperties,
+                                  ParkingLotIndexProperties indexProperties,
+                                  ParkingTileProperties tileProperties,
+                                  UpstreamResilienceProperties resilienceProperties) {
+        this.parkingApiProperties = parkingApiProperties;
+        this.indexProperties = indexProperties;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) resilienceProperties.getConnectTimeoutMs());
+        requestFactory.setReadTimeout((int) resilienceProperties.getReadTimeoutMs());
+        this.restTemplate = new RestTemplate(requestFactory);
+        int parallelism = indexProperties.getFanOutParallelism() > 0
+                ? indexProperties.getFanOutParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.fanOutPool = new ForkJoinPool(parallelism);
+        this.tiles = tileProperties.isEnabled()
+                ? new ParkingClusterTiles(tileProperties.getMaxZoom(), tileProperties.getCellsPerTile())
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutPool.shutdownNow();
+    }
+
+    // 기동 시 이전 스냅샷이 있으면 먼저 올려서, 전체 재적재가 끝나기 전에도 바로 답할 수 있게 한다.
+    // 손상됐거나 형식 버전이 다른 파일은 쓰지 않고, 다음 적재가 성공하면 새 스냅샷으로 덮어쓴다.
+    // 읽기·복원 중 어떤 예외가 나도 기동은 계속하고 첫 전체 적재를 기다린다.
+    @PostConstruct
+    public void loadSnapshot() {
+        Path path = snapshotPath();
+        if (!indexProperties.isEnabled() || path == null || !Files.exists(path)) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            ParkingLotKdTree tree = ParkingLotSnapshot.read(path);
+            ParkingLotIndex restored = ParkingLotIndex.of(tree, buildNearestGrid(tree), fanOutPool);
+            rowHashes = restored.rowHashes();
+            index = restored;
+            if (tiles != null) {
+                tiles.rebuild(tree.getColumns());
+            }
+            snapshotStatus = "LOADED";
+            System.out.println("[ParkingLot index] restored " + restored.size() + " lots from snapshot in "
+                    + (System.currentTimeMillis() - started) + " ms");
+        } catch (IOException | RuntimeException e) {
+            snapshotStatus = "REJECTED: " + e.getMessage();
+            System.out.println("[ParkingLot index] snapshot rejected (" + e.getMessage() + "); waiting for a full load");
+        }
+    }
+
+    // 로드된 인덱스를 반환한다. 아직 없으면 null(호출 측은 기존 단일 페이지 조회로 대체한다).
+    public ParkingLotIndex currentIndex() {
+        if (!indexProperties.isEnabled()) {
+            return null;
+        }
+        ParkingLotIndex current = index;
+        return current != null && current.size() > 0 ? current : null;
+    }
+
+    // 지도 타일 클러스터. 꺼져 있거나 인덱스가 아직 없으면 null.
+    public ParkingClusterTiles currentTiles() {
+        return currentIndex() != null ? tiles : null;
+    }
+
+    // 기동 직후 한 번, 이후 고정 간격으로 갱신한다. 실패하면 이전 인덱스를 계속 쓴다.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${parking.lot.index.refresh-interval-ms:3600000}")
+    public void refresh() {
+        if (!indexProperties.isEnabled() || !StringUtils.hasText(parkingApiProperties.getServiceKey())) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Map<String, Object> run = new LinkedHashMap<>();
+        try {
+            ParkingLotColumns lots = fetchAll(run);
+            if (lots.size() == 0) {
+                System.out.println("[ParkingLot index] no rows with coordinates; keeping previous index");
+                return;
+            }
+            long fetched = System.currentTimeMillis();
+            run.put("fetchedRows", lots.size());
+            run.put("fetchMs", fetched - started);
+
+            Map<String, Long> freshHashes = new HashMap<>(lots.size() * 2);
+            for (int row = 0; row < lots.size(); row++) {
+                freshHashes.put(lots.id(row), lots.rowHash(row));
+            }
+            String mode = applyChanges(lots, freshHashes, run);
+            long finished = System.currentTimeMillis();
+
+            ParkingLotIndex current = index;
+            run.put("status", "OK");
+            run.put("mode", mode);
+            run.put("finishedAt", finished);
+            run.put("applyMs", finished - fetched);
+            run.put("lots", current.size());
+            run.put("deltaRows", current.deltaSize());
+            run.put("tombstones", current.tombstoneCount());
+            lastRun = run;
+            System.out.println("[ParkingLot index] " + mode + " refresh: +" + run.get("inserted") + " ~" + run.get("updated")
+                    + " -" + run.get("deleted") + ", " + current.size() + " lots in " + (finished - started) + " ms");
+        } catch (Exception e) {
+            run.put("status", "FAILED");
+            run.put("finishedAt", System.currentTimeMillis());
+            run.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+            lastRun = run;
+            System.out.println("[ParkingLot index error] " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    // 이전 해시와 비교해 바뀐 행만 반영한다. 처음이거나 변경분이 너무 커지면 전체 재빌드한다.
+    // 새 인덱스를 끝까지 만든 뒤에만 타일·인덱스·행 해시를 함께 바꾼다. 도중에 실패하면 셋 다 이전 상태로 남으므로
+    // 다음 갱신의 변경분도 이전 상태를 기준으로 다시 계산된다.
+    private String applyChanges(ParkingLotColumns lots, Map<String, Long> freshHashes, Map<String, Object> run) {
+        ParkingLotIndex current = index;
+        Map<String, Long> previous = rowHashes;
+        if (current == null || previous == null) {
+            run.put("inserted", lots.size());
+            run.put("updated", 0);
+            run.put("deleted", 0);
+            ParkingLotIndex built = buildIndex(lots);
+            if (tiles != null) {
+                tiles.rebuild(lots);
+            }
+            publish(built, freshHashes, true);
+            return "FULL";
+        }
+
+        List<Integer> upserts = new ArrayList<>();
+        int inserted = 0;
+        for (int row = 0; row < lots.size(); row++) {
+            Long before = previous.get(lots.id(row));
+            if (before == null) {
+                inserted++;
+                upserts.add(row);
+            } else if (before != freshHashes.get(lots.id(row)).longValue()) {
+                upserts.add(row);
+            }
+        }
+        List<String> deleted = new ArrayList<>();
+        for (String id : previous.keySet()) {
+            if (!freshHashes.containsKey(id)) {
+                deleted.add(id);
+            }
+        }
+        // 목록이 통째로 빠진 응답도 "대량 삭제"로 보이므로, 한도를 넘으면 반영하지 않고 이전 인덱스를 유지한다.
+        if (deleted.size() > indexProperties.getMaxDeleteRatio() * previous.size()) {
+            throw new IllegalStateException("refusing to delete " + deleted.size() + " of " + previous.size()
+                    + " lots (max-delete-ratio " + indexProperties.getMaxDeleteRatio() + ")");
+        }
+        run.put("inserted", inserted);
+        run.put("updated", upserts.size() - inserted);
+        run.put("deleted", deleted.size());
+        if (upserts.isEmpty() && deleted.isEmpty()) {
+            rowHashes = freshHashes;
+            return "UNCHANGED";
+        }
+
+        int[] upsertRows = upserts.stream().mapToInt(Integer::intValue).toArray();
+        ParkingLotIndex next = current.withChanges(lots, upsertRows, deleted);
+        int baseSize = next.getBase().size();
+        boolean compacted = next.deltaSize() + next.tombstoneCount() > indexProperties.getCompactRatio() * baseSize;
+        if (compacted) {
+            next = buildIndex(lots);
+        }
+        // 타일 갱신은 복사본에 고친 뒤 한 번에 바꿔 끼우므로, 여기서 실패해도 타일은 이전 그대로다.
+        if (tiles != null) {
+            tiles.apply(lots, upsertRows, deleted);
+        }
+        publish(next, freshHashes, compacted);
+        return compacted ? "COMPACTED" : "DELTA";
+    }
+
+    private ParkingLotIndex buildIndex(ParkingLotColumns lots) {
+        ParkingLotKdTree tree = ParkingLotKdTree.build(lots);
+        return ParkingLotIndex.of(tree, buildNearestGrid(tree), fanOutPool);
+    }
+
+    // 다 만든 인덱스와 그 기준 행 해시를 함께 올린다. 트리를 새로 만든 경우에만 스냅샷을 쓴다.
+    private void publish(ParkingLotIndex next, Map<String, Long> freshHashes, boolean newTree) {
+        index = next;
+        rowHashes = freshHashes;
+        if (newTree) {
+            saveSnapshot(next.getBase());
+        }
+    }
+
+    // 음성 안내의 "가장 가까운 주차장" 조회용 격자. 스냅샷에는 넣지 않고 트리를 올릴 때마다 다시 만든다.
+    // 격자 범위는 서비스 영역 상자로 제한한다(스냅샷 등으로 상자 밖 좌표가 섞여 있어도 격자가 커지지 않게).
+    private NearestLotGrid buildNearestGrid(ParkingLotKdTree tree) {
+        double cellDegrees = indexProperties.getNearestGridCellDegrees();
+        if (!(cellDegrees > 0)) {
+            return null;
+        }
+        NearestLotGrid grid = NearestLotGrid.build(tree, cellDegrees,
+                indexProperties.getMinLatitude(), indexProperties.getMaxLatitude(),
+                indexProperties.getMinLongitude(), indexProperties.getMaxLongitude());
+        if (grid == null && tree.size() > 0) {
+            System.out.println("[ParkingLot index] nearest grid disabled (no lots in the service area or more than "
+                    + NearestLotGrid.MAX_CELLS + " cells at " + cellDegrees + " degrees)");
+        }
+        return grid;
+    }
+
+    private void saveSnapshot(ParkingLotKdTree built) {
+        Path path = snapshotPath();
+        if (path == null) {
+            return;
+        }
+        try {
+            ParkingLotSnapshot.write(built, path);
+            snapshotStatus = "WRITTEN";
+        } catch (IOException e) {
+            snapshotStatus = "WRITE_FAILED: " + e.getMessage();
+            System.out.println("[ParkingLot index error] writing snapshot: " + e.getMessage());
+        }
+    }
+
+    private Path snapshotPath() {
+        String configured = indexProperties.getSnapshotPath();
+        return StringUtils.hasText(configured) ? Path.of(configured) : null;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        ParkingLotIndex current = index;
+        stats.put("loaded", current != null);
+        stats.put("lots", current != null ? current.size() : 0);
+        stats.put("builtAt", current != null ? current.getBase().getBuiltAtMillis() : null);
+        stats.put("updatedAt", current != null ? current.getUpdatedAtMillis() : null);
+        stats.put("deltaRows", current != null ? current.deltaSize() : 0);
+        stats.put("tombstones", current != null ? current.tombstoneCount() : 0);
+        stats.put("shards", current != null ? current.getBase().shardCount() : 0);
+        stats.put("fanOutParallelism", fanOutPool.getParallelism());
+        stats.put("nearestGrid", nearestGridStats(current));
+        stats.put("tiles", tileStats());
+        stats.put("approxHeapBytes", current != null ? current.getBase().getColumns().approxHeapBytes() : 0);
+        stats.put("snapshot", snapshotStatus);
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+
+    private Map<String, Object> tileStats() {
+        if (tiles == null) {
+            return null;
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxZoom", tiles.getMaxZoom());
+        stats.put("lots", tiles.lotCount());
+        stats.put("cells", tiles.cellCount());
+        stats.put("updatedAt", tiles.getUpdatedAtMillis());
+        stats.put("lastUpdateMs", tiles.getLastUpdateMillis());
+        return stats;
+    }
+
+    private static Map<String, Object> nearestGridStats(ParkingLotIndex current) {
+        NearestLotGrid grid = current != null ? current.getNearestGrid() : null;
+        if (grid == null) {
+            return null;
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cells", grid.cellCount());
+        stats.put("overflowCells", grid.overflowCells());
+        stats.put("avgCandidates", Math.round(grid.averageCandidates() * 100) / 100.0);
+        stats.put("approxHeapBytes", grid.approxHeapBytes());
+        stats.put("buildMs", grid.getBuildMillis());
+        return stats;
+    }
+
+    // totalCount에 도달하거나 빈 페이지·짧은 페이지가 나올 때까지 1페이지부터 차례로 내려받는다.
+    // totalCount보다 적게 받았거나 max-pages에서 끊겼으면 예외를 던진다. 빠진 행이 전부 삭제로 반영되면
+    // 인덱스와 스냅샷이 일부만 남기 때문에, 불완전한 데이터셋은 쓰지 않고 이전 인덱스를 유지한다.
+    // 같은 관리번호가 여러 번 나오면 처음 행만 쓴다(id는 증분 비교와 커서의 키라 유일해야 한다).
+    // 응답 본문은 버퍼에 모으지 않고 스트림에서 바로 행 단위로 읽는다.
+    private ParkingLotColumns fetchAll(Map<String, Object> run) throws Exception {
+        ParkingLotColumns.Builder lots = ParkingLotColumns.builder();
+        Set<String> seenIds = new HashSet<>();
+        int[] duplicates = new int[1];
+        int[] outOfArea = new int[1];
+        OdcloudRecords.RecordHandler handler = record -> {
+            RowOutcome outcome = addLot(lots, seenIds, record);
+            if (outcome == RowOutcome.DUPLICATE) {
+                duplicates[0]++;
+            } else if (outcome == RowOutcome.OUT_OF_AREA) {
+                outOfArea[0]++;
+            }
+        };
+        int perPage = indexProperties.getPerPage();
+        int seen = 0;
+        long totalCount = -1;
+        boolean finished = false;
+        for (int page = 1; page <= indexProperties.getMaxPages() && !finished; page++) {
+            OdcloudRecords.Page result = restTemplate.execute(pageUri(page, perPage), HttpMethod.GET, null,
+                    response -> OdcloudRecords.read(jsonFactory, response.getBody(), handler));
+            if (result == null || result.getRecords() == 0) {
+                finished = true;
+                continue;
+            }
+            seen += result.getRecords();
+            if (result.getTotalCount() >= 0) {
+                totalCount = result.getTotalCount();
+            }
+            finished = (totalCount >= 0 && seen >= totalCount) || result.getRecords() < perPage;
+        }
+        run.put("totalCount", totalCount);
+        run.put("seenRows", seen);
+        if (!finished) {
+            throw new IllegalStateException("stopped at max-pages " + indexProperties.getMaxPages() + " after "
+                    + seen + " rows" + (totalCount >= 0 ? " of " + totalCount : ""));
+        }
+        if (totalCount >= 0 && seen < totalCount) {
+            throw new IllegalStateException("partial dataset: " + seen + " of " + totalCount + " rows");
+        }
+        run.put("duplicateIds", duplicates[0]);
+        run.put("outOfAreaRows", outOfArea[0]);
+        return lots.build();
+    }
+
+    private URI pageUri(int page, int perPage) {
+        return UriComponentsBuilder
+                .fromHttpUrl(parkingApiProperties.getBaseUrl())
+                .queryParam("serviceKey", parkingApiProperties.getServiceKey())
+                .queryParam("page", page)
+                .queryParam("perPage", perPage)
+                .queryParam("returnType", "JSON")
+                .build(true)
+                .toUri();
+    }
+
+    private enum RowOutcome { ADDED, SKIPPED, DUPLICATE, OUT_OF_AREA }
+
+    // 이름이나 좌표가 없는 행은 인덱싱할 수 없어 건너뛴다. 좌표가 유한하지 않거나("NaN", "Infinity"도 숫자로 읽힌다)
+    // 서비스 영역 밖인 행(0/0, 위경도 뒤바뀜 등)도 트리·격자·타일·스냅샷에 들어가지 않게 여기서 거른다.
+    // 관리번호가 없는 행은 이름+좌표로 id를 만든다(정렬·커서의 동점 기준이라 항상 있어야 한다).
+    private RowOutcome addLot(ParkingLotColumns.Builder lots, Set<String> seenIds, OdcloudRecords.Record record) {
+        String name = record.text(OdcloudRecords.NAME);
+        if (name == null || !record.hasCoordinates()) {
+            return RowOutcome.SKIPPED;
+        }
+        double latitude = record.latitude();
+        double longitude = record.longitude();
+        if (!inServiceArea(latitude, longitude)) {
+            return RowOutcome.OUT_OF_AREA;
+        }
+        String id = record.text(OdcloudRecords.ID);
+        if (id == null) {
+            id = name + "@" + latitude + "," + longitude;
+        }
+        if (!seenIds.add(id)) {
+            return RowOutcome.DUPLICATE;
+        }
+        lots.add(
+                id,
+                name,
+                record.text(OdcloudRecords.ADDRESS),
+                record.text(OdcloudRecords.REGION1),
+                record.text(OdcloudRecords.REGION2),
+                latitude,
+                longitude
+        );
+        return RowOutcome.ADDED;
+    }
+
+    // 유한하고 WGS84 범위 안이며 설정한 서비스 영역(기본은 한국 전역) 안인지
+    private boolean inServiceArea(double latitude, double longitude) {
+        return Double.isFinite(latitude) && Double.isFinite(longitude)
+                && latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180
+                && latitude >= indexProperties.getMinLatitude() && latitude <= indexProperties.getMaxLatitude()
+                && longitude >= indexProperties.getMinLongitude() && longitude <= indexProperties.getMaxLongitude();
+    }
+}
@@ -1,11 +1,25 @@
 package com.backend.backend.useless.service;
 
+import com.backend.backend.common.geo.AdminBoundaryIndex;
+import com.backend.backend.common.geo.AdminRegions;
+import com.backend.backend.common.geo.DistanceEngine;
+import com.backend.backend.common.geo.GeoHash;
+import com.backend.backend.common.resilience.CircuitBreaker;
+import com.backend.backend.common.resilience.StaleWhileRevalidate;
+import com.backend.backend.common.resilience.UpstreamCircuitBreakers;
 import com.backend.backend.config.KakaoApiProperties;
 import com.backend.backend.config.ParkingApiProperties;
+import com.backend.backend.config.ParkingLotIndexProperties;
+import com.backend.backend.config.UpstreamResilienceProperties;
 import com.backend.backend.useless.dto.ParkingCandidateDto;
+import com.backend.backend.useless.index.ParkingLotIndex;
+import com.backend.backend.useless.index.ParkingLotKdTree;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
@@ -13,6 +27,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -21,19 +36,66 @@ public class PublicParkingApiServiceImpl implements PublicParkingApiService {
 
     private final ParkingApiProperties parkingApiProperties;
     private final KakaoApiProperties kakaoApiProperties;
+    private final ParkingLotIndexProperties parkingLotIndexProperties;
+    private final ParkingLotIndexService parkingLotIndexService;
+    private final AdminRegions adminRegions;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-
-    public PublicParkingApiServiceImpl(ParkingApiProperties parkingApiProperties, KakaoApiProperties kakaoApiProperties) {
+    // 업스트림별 서킷 브레이커(다른 서비스와 공유)와 마지막 정상 응답 저장소
+    private final CircuitBreaker odcloudBreaker;
+    private final CircuitBreaker kakaoBreaker;
+    private final ExecutorService revalidateExecutor;
+    private final StaleWhileRevalidate<String, String> parkingPages;
+    private final StaleWhileRevalidate<String, String> regionNames;
+
+    public PublicParkingApiServiceImpl(ParkingApiProperties parkingApiProperties,
+                                       KakaoApiProperties kakaoApiProperties,
+                                       ParkingLotIndexProperties parkingLotIndexProperties,
+                                       ParkingLotIndexService parkingLotIndexService,
+                                       AdminRegions adminRegions,
+                                       UpstreamResilienceProperties resilienceProperties,
+                                       UpstreamCircuitBreakers upstreamCircuitBreakers) {
         this.parkingApiProperties = parkingApiProperties;
         this.kakaoApiProperties = kakaoApiProperties;
-        this.restTemplate = new RestTemplate();
+        this.parkingLotIndexProperties = parkingLotIndexProperties;
+        this.parkingLotIndexService = parkingLotIndexService;
+        this.adminRegions = adminRegions;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) resilienceProperties.getConnectTimeoutMs());
+        requestFactory.setReadTimeout((int) resilienceProperties.getReadTimeoutMs());
+        this.restTemplate = new RestTemplate(requestFactory);
         this.objectMapper = new ObjectMapper();
+
+        this.odcloudBreaker = upstreamCircuitBreakers.get(UpstreamCircuitBreakers.ODCLOUD);
+        this.kakaoBreaker = upstreamCircuitBreakers.get(UpstreamCircuitBreakers.KAKAO);
+        this.revalidateExecutor = Executors.newFixedThreadPool(2);
+        this.parkingPages = new StaleWhileRevalidate<>(
+                16, resilienceProperties.getStaleTtlMs(), () -> !odcloudBreaker.isClosed(), revalidateExecutor);
+        this.regionNames = new StaleWhileRevalidate<>(
+                resilienceProperties.getStaleMaxEntries(), resilienceProperties.getStaleTtlMs(), () -> !kakaoBreaker.isClosed(), revalidateExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        revalidateExecutor.shutdownNow();
     }
 
-    // 공공 주차장 API를 호출해 사용자 좌표 기준 가장 가까운 주차장을 찾아 반환한다.
+    // 사용자 좌표 기준 가장 가까운 주차장을 찾아 반환한다.
+    // 전체 데이터셋 KD-트리가 로드돼 있으면 메모리에서 바로 답하고, 아직 없으면 공공 주차장 API 한 페이지를 조회한다.
     @Override
     public ParkingCandidateDto findNearestParking(double userLatitude, double userLongitude) {
+        ParkingLotIndex index = parkingLotIndexService.currentIndex();
+        if (index != null) {
+            ParkingLotKdTree.Neighbor first = index.findNearestOne(
+                    userLatitude, userLongitude, parkingLotIndexProperties.getMaxRadiusMeters());
+            if (first == null) {
+                return null;
+            }
+            return new ParkingCandidateDto(first.getLot().getName(), first.getLot().getLatitude(),
+                    first.getLot().getLongitude(), first.getDistanceMeters());
+        }
+
         System.out.println("Parking API baseUrl = " + parkingApiProperties.getBaseUrl());
         System.out.println("Parking API serviceKey present = " + StringUtils.hasText(parkingApiProperties.getServiceKey()));
         if (!StringUtils.hasText(parkingApiProperties.getServiceKey())) {
@@ -49,32 +111,45 @@ public class PublicParkingApiServiceImpl implements PublicParkingApiService {
                 .build(true)
                 .toUri();
 
-        try {
-            String body = restTemplate.getForObject(uri, String.class);
-
-            JsonNode root = objectMapper.readTree(body);
-            JsonNode dataArray = resolveDataArray(root);
-
-            ParkingCandidateDto nearest = null;
-            if (dataArray != null && dataArray.isArray()) {
-                for (JsonNode item : dataArray) {
-
-                    String name = getTextByKeys(item, "주차장명", "parkingName", "pkltNm", "prkplceNm");
-                    Double latitude = getDoubleByKeys(item, "위도", "lat", "latitude", "laCrdnt", "y");
-                    Double longitude = getDoubleByKeys(item, "경도", "lot", "longitude", "loCrdnt", "x");
-
-                    if (!StringUtils.hasText(name) || latitude == null || longitude == null) {
-                        continue;
-                    }
+        // 브레이커가 열려 있거나 호출이 실패하면 마지막 정상 페이지로 계산하고 stale 표시를 단다.
+        StaleWhileRevalidate.Result<String> page = parkingPages.get(uri.toString(),
+                () -> odcloudBreaker.execute(() -> fetchParkingPage(uri)));
 
-                    double distance = calculateDistanceMeters(userLatitude, userLongitude, latitude, longitude);
-                    if (nearest == null || distance < nearest.getDistanceMeters()) {
-                        nearest = new ParkingCandidateDto(name, latitude, longitude, distance);
-                    }
+        try {
+            // 지금까지의 최단 거리보다 하한이 먼 행은 Haversine 없이 거른다.
+            DistanceEngine distances = DistanceEngine.from(userLatitude, userLongitude);
+            ParkingCandidateDto[] best = new ParkingCandidateDto[1];
+            OdcloudRecords.read(objectMapper.getFactory(), page.getValue(), record -> {
+                String name = record.text(OdcloudRecords.NAME);
+                if (name == null || !record.hasCoordinates()) {
+                    return;
                 }
-            }
+                if (best[0] != null
+                        && distances.lowerBoundMeters(record.latitude(), record.longitude()) >= best[0].getDistanceMeters()) {
+                    return;
+                }
+                double distance = distances.exactMeters(record.latitude(), record.longitude());
+                if (best[0] == null || distance < best[0].getDistanceMeters()) {
+                    best[0] = new ParkingCandidateDto(name, record.latitude(), record.longitude(), distance);
+                }
+            });
 
+            ParkingCandidateDto nearest = best[0];
+            if (nearest != null) {
+                nearest.setStale(page.isStale());
+            }
             return nearest;
+        } catch (Exception e) {
+            e.printStackTrace(); // 여기서 서버 콘솔에 원인 출력
+            throw new IllegalStateException("Failed to parse public parking data.", e);
+        }
+
+    }
+
+    // 공공 주차장 API 페이지 본문을 그대로 가져온다.
+    private String fetchParkingPage(URI uri) {
+        try {
+            return restTemplate.getForObject(uri, String.class);
         } catch (HttpClientErrorException e) {
             System.out.println("=== API ERROR RESPONSE ===");
             System.out.println(e.getResponseBodyAsString());
@@ -84,15 +159,25 @@ public class PublicParkingApiServiceImpl implements PublicParkingApiService {
             e.printStackTrace(); // 여기서 서버 콘솔에 원인 출력
             throw new IllegalStateException("Failed to fetch public parking data.", e);
         }
-
     }
 
-    // Kakao coord2regioncode API를 호출해 region_1depth_name을 반환한다.
+    // 좌표의 region_1depth_name(시도)을 반환한다. 행정경계 파일이 적재돼 있으면 프로세스 안에서 바로 찾고
+    // (경계 밖이면 null), 없을 때만 Kakao coord2regioncode API를 호출한다.
+    // 카카오 장애 시에는 같은 셀(geohash 6자리)의 마지막 정상 응답을 돌려준다.
     @Override
     public String findRegion1DepthName(double x, double y) {
+        if (adminRegions.isAvailable()) {
+            AdminBoundaryIndex.Region region = adminRegions.find(y, x);
+            return region != null ? region.getRegion1() : null;
+        }
         if (!StringUtils.hasText(kakaoApiProperties.getRestKey())) {
             throw new IllegalStateException("kakao.api.rest-key is required.");
         }
+        String cell = GeoHash.encode(y, x, 6);
+        return regionNames.get(cell, () -> kakaoBreaker.execute(() -> fetchRegion1DepthName(x, y))).getValue();
+    }
+
+    private String fetchRegion1DepthName(double x, double y) {
 
         URI uri = UriComponentsBuilder
                 .fromHttpUrl(kakaoApiProperties.getBaseUrl())
@@ -132,66 +217,4 @@ public class PublicParkingApiServiceImpl implements PublicParkingApiService {
             throw new IllegalStateException("Failed to fetch Kakao region data.", e);
         }
     }
-
-    // 응답 JSON에서 실제 데이터 배열 필드명(data/records/items)을 찾아 반환한다.
-    private JsonNode resolveDataArray(JsonNode root) {
-        if (root == null) {
-            return null;
-        }
-        if (root.has("data")) {
-            return root.get("data");
-        }
-        if (root.has("records")) {
-            return root.get("records");
-        }
-        if (root.has("items")) {
-            return root.get("items");
-        }
-        return null;
-    }
-
-    // 여러 키 후보 중 텍스트 값을 찾아 반환한다(없으면 null).
-    private String getTextByKeys(JsonNode node, String... keys) {
-        for (String key : keys) {
-            if (node.has(key) && !node.get(key).isNull()) {
-                String value = node.get(key).asText();
-                if (StringUtils.hasText(value)) {
-                    return value.trim();
-                }
-            }
-        }
-        return null;
-    }
-
-    // 여러 키 후보 중 숫자 값을 찾아 Double로 반환한다(파싱 실패 시 다음 키 시도).
-    private Double getDoubleByKeys(JsonNode node, String... keys) {
-        for (String key : keys) {
-            if (node.has(key) && !node.get(key).isNull()) {
-                String raw = node.get(key).asText();
-                if (!StringUtils.hasText(raw)) {
-                    continue;
-                }
-                try {
-                    return Double.parseDouble(raw.trim());
-                } catch (NumberFormatException ignored) {
-                    // try next key
-                }
-            }
-        }
-        return null;
-    }
-
-    // 두 좌표 간의 대략적인 거리(미터)를 Haversine 공식으로 계산한다.
-    private double calculateDistanceMeters(double lat1, double lon1, double lat2, double lon2) {
-        double earthRadius = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1))
-                        * Math.cos(Math.toRadians(lat2))
-                        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return earthRadius * c;
-    }
 }
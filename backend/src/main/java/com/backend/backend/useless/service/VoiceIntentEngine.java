@@ -0,0 +1,181 @@
+package com.backend.backend.useless.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+// 음성 명령 의도 분류기. 모든 의도의 키워드를 하나의 Aho-Corasick 오토마톤(실패 링크를 미리 펼친 DFA)으로 컴파일해 두고,
+// 발화를 한 번 훑으면서 걸린 키워드의 의도를 비트마스크로 모은다. 조회 중에는 결과 객체 외에 할당이 없다.
+// 대소문자는 구분하지 않고 공백은 건너뛴다(음성 인식 결과의 띄어쓰기가 들쭉날쭉해서 "주차 장"도 "주차장"으로 본다).
+@Component
+public class VoiceIntentEngine {
+
+    // 우선순위 순서(앞이 높다). 여러 의도가 함께 걸리면 가장 앞의 의도로 안내한다.
+    public enum Intent {
+        // "여기 세워도 돼?" 같은 주정차 가능 여부 질문
+        STOP_ALLOWED(false),
+        NAVIGATE_FAVORITE(false),
+        // 아래 셋은 조건 수식어라 주차 관련 단어가 함께 있어야 인정한다("24시 편의점"은 주차 요청이 아니다)
+        FREE_PARKING(true),
+        OPEN_24H(true),
+        CHEAPEST_PARKING(true),
+        NEAREST_PARKING(false);
+
+        private final boolean needsParkingWord;
+
+        Intent(boolean needsParkingWord) {
+            this.needsParkingWord = needsParkingWord;
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private static final Map<Intent, List<String>> KEYWORDS = new EnumMap<>(Intent.class);
+
+    static {
+        KEYWORDS.put(Intent.STOP_ALLOWED, List.of("주차해도", "세워도", "대도돼", "대도되", "정차해도", "주정차",
+                "주차금지", "주차단속", "불법주차", "canipark", "parkhere", "allowedtopark", "noparking"));
+        KEYWORDS.put(Intent.NAVIGATE_FAVORITE, List.of("즐겨찾기", "즐겨찾는", "자주가는", "단골", "저장한",
+                "favorite", "favourite"));
+        KEYWORDS.put(Intent.FREE_PARKING, List.of("무료", "공짜", "요금없", "돈안드", "free"));
+        KEYWORDS.put(Intent.OPEN_24H, List.of("24시", "이십사시", "24h", "24hour", "24/7", "밤새", "심야", "allnight"));
+        KEYWORDS.put(Intent.CHEAPEST_PARKING, List.of("가장싼", "제일싼", "젤싼", "싸게",
+                "저렴", "최저가", "요금싼", "cheap"));
+        KEYWORDS.put(Intent.NEAREST_PARKING, List.of("주차", "주차장", "parking", "파킹", "파크"));
+    }
+
+    private final Automaton automaton = Automaton.compile(KEYWORDS);
+
+    // 발화 하나를 분류한다. 걸린 의도가 없으면 getIntent()가 null이다.
+    public Classification classify(CharSequence transcript) {
+        int matched = transcript == null ? 0 : automaton.scan(transcript);
+        return new Classification(matched, primary(matched));
+    }
+
+    private static Intent primary(int matched) {
+        boolean parkingWord = (matched & Intent.NEAREST_PARKING.bit()) != 0;
+        for (Intent intent : Intent.values()) {
+            if ((matched & intent.bit()) != 0 && (!intent.needsParkingWord || parkingWord)) {
+                return intent;
+            }
+        }
+        return null;
+    }
+
+    public static final class Classification {
+        private final int matched;
+        private final Intent intent;
+
+        private Classification(int matched, Intent intent) {
+            this.matched = matched;
+            this.intent = intent;
+        }
+
+        public Intent getIntent() {
+            return intent;
+        }
+
+        // 우선순위와 관계없이 발화에 키워드가 하나라도 걸린 의도인지
+        public boolean mentions(Intent other) {
+            return (matched & other.bit()) != 0;
+        }
+    }
+
+    // 키워드에 나오는 문자만 작은 번호(1..)로 바꾸고 나머지는 0으로 모은 뒤, 상태 x 문자번호 전이표를 채운 DFA.
+    private static final class Automaton {
+        private final char[] alphabet;
+        private final int alphabetSize;
+        private final int[] next;
+        private final int[] outputs;
+
+        private Automaton(char[] alphabet, int alphabetSize, int[] next, int[] outputs) {
+            this.alphabet = alphabet;
+            this.alphabetSize = alphabetSize;
+            this.next = next;
+            this.outputs = outputs;
+        }
+
+        private static Automaton compile(Map<Intent, List<String>> keywords) {
+            char[] alphabet = new char[Character.MAX_VALUE + 1];
+            int alphabetSize = 1;
+            // 1단계: 키워드 트라이(자식은 문자번호 -> 상태)
+            List<Map<Integer, Integer>> children = new ArrayList<>();
+            List<Integer> outputs = new ArrayList<>();
+            children.add(new HashMap<>());
+            outputs.add(0);
+            for (Map.Entry<Intent, List<String>> entry : keywords.entrySet()) {
+                for (String keyword : entry.getValue()) {
+                    int state = 0;
+                    for (int i = 0; i < keyword.length(); i++) {
+                        char ch = Character.toLowerCase(keyword.charAt(i));
+                        if (Character.isWhitespace(ch)) {
+                            continue;
+                        }
+                        if (alphabet[ch] == 0) {
+                            alphabet[ch] = (char) alphabetSize++;
+                        }
+                        Integer child = children.get(state).get((int) alphabet[ch]);
+                        if (child == null) {
+                            child = children.size();
+                            children.add(new HashMap<>());
+                            outputs.add(0);
+                            children.get(state).put((int) alphabet[ch], child);
+                        }
+                        state = child;
+                    }
+                    outputs.set(state, outputs.get(state) | entry.getKey().bit());
+                }
+            }
+
+            // 2단계: 너비 우선으로 실패 링크를 따라가며 전이표를 채우고 출력을 실패 상태의 출력과 합친다.
+            int states = children.size();
+            int[] next = new int[states * alphabetSize];
+            int[] fail = new int[states];
+            int[] out = new int[states];
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int code = 0; code < alphabetSize; code++) {
+                Integer child = children.get(0).get(code);
+                if (child != null) {
+                    next[code] = child;
+                    queue.add(child);
+                }
+            }
+            out[0] = outputs.get(0);
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                out[state] = outputs.get(state) | out[fail[state]];
+                for (int code = 0; code < alphabetSize; code++) {
+                    Integer child = children.get(state).get(code);
+                    if (child != null) {
+                        fail[child] = next[fail[state] * alphabetSize + code];
+                        next[state * alphabetSize + code] = child;
+                        queue.add(child);
+                    } else {
+                        next[state * alphabetSize + code] = next[fail[state] * alphabetSize + code];
+                    }
+                }
+            }
+            return new Automaton(alphabet, alphabetSize, next, out);
+        }
+
+        private int scan(CharSequence text) {
+            int state = 0;
+            int matched = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char ch = text.charAt(i);
+                if (Character.isWhitespace(ch)) {
+                    continue;
+                }
+                state = next[state * alphabetSize + alphabet[Character.toLowerCase(ch)]];
+                matched |= outputs[state];
+            }
+            return matched;
+        }
+    }
+}
@@ -4,5 +4,6 @@ import com.backend.backend.useless.dto.VoiceGuideRequestDto;
 import com.backend.backend.useless.dto.VoiceGuideResponseDto;
 
 public interface VoiceParkingGuideService {
-    VoiceGuideResponseDto guideToNearestParking(VoiceGuideRequestDto requestDto);
+    // username은 로그인하지 않았으면 null(즐겨찾기 안내에만 쓴다)
+    VoiceGuideResponseDto guide(VoiceGuideRequestDto requestDto, String username);
 }
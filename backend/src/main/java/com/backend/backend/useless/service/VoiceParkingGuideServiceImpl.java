@@ -1,7 +1,14 @@
 package com.backend.backend.useless.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
 
+import com.backend.backend.common.geo.GeoDistance;
+import com.backend.backend.favorite.entity.Favorite;
+import com.backend.backend.favorite.service.FavoriteService;
+import com.backend.backend.pas.dto.ParkingStopCheckResponse;
+import com.backend.backend.pas.service.ParkingStopCheckService;
 import com.backend.backend.useless.dto.ParkingCandidateDto;
 import com.backend.backend.useless.dto.VoiceGuideRequestDto;
 import com.backend.backend.useless.dto.VoiceGuideResponseDto;
@@ -10,16 +17,26 @@ import com.backend.backend.useless.dto.VoiceGuideResponseDto;
 public class VoiceParkingGuideServiceImpl implements VoiceParkingGuideService {
 
     private final PublicParkingApiService publicParkingApiService;
+    private final ParkingStopCheckService parkingStopCheckService;
+    private final FavoriteService favoriteService;
+    private final VoiceIntentEngine voiceIntentEngine;
 
-    public VoiceParkingGuideServiceImpl(PublicParkingApiService publicParkingApiService) {
+    public VoiceParkingGuideServiceImpl(PublicParkingApiService publicParkingApiService,
+                                        ParkingStopCheckService parkingStopCheckService,
+                                        FavoriteService favoriteService,
+                                        VoiceIntentEngine voiceIntentEngine) {
         this.publicParkingApiService = publicParkingApiService;
+        this.parkingStopCheckService = parkingStopCheckService;
+        this.favoriteService = favoriteService;
+        this.voiceIntentEngine = voiceIntentEngine;
     }
 
+    // 발화를 의도 하나로 분류해 그 의도에 맞는 조회로 보낸다.
     @Override
-    public VoiceGuideResponseDto guideToNearestParking(VoiceGuideRequestDto requestDto) {
-        String transcript = requestDto.getTranscript() == null ? "" : requestDto.getTranscript();
+    public VoiceGuideResponseDto guide(VoiceGuideRequestDto requestDto, String username) {
+        VoiceIntentEngine.Intent intent = voiceIntentEngine.classify(requestDto.getTranscript()).getIntent();
 
-        if (!containsParkingIntent(transcript)) {
+        if (intent == null) {
             return new VoiceGuideResponseDto(
                     "UNKNOWN",
                     "주차 관련 요청으로 인식되지 않았습니다.",
@@ -27,6 +44,16 @@ public class VoiceParkingGuideServiceImpl implements VoiceParkingGuideService {
             );
         }
 
+        if (intent == VoiceIntentEngine.Intent.NAVIGATE_FAVORITE) {
+            return guideToFavorite(requestDto, username);
+        }
+
+        // 주차장 데이터셋에 요금·운영시간 항목이 없어 조건 검색은 할 수 없다. 가까운 주차장으로 바꿔치기하지 않고 그대로 알린다.
+        String unsupported = unsupportedFilterMessage(intent);
+        if (unsupported != null) {
+            return new VoiceGuideResponseDto("UNSUPPORTED_FILTER", unsupported, null);
+        }
+
         if (requestDto.getUserLatitude() == null || requestDto.getUserLongitude() == null) {
             return new VoiceGuideResponseDto(
                     "INVALID_REQUEST",
@@ -36,39 +63,111 @@ public class VoiceParkingGuideServiceImpl implements VoiceParkingGuideService {
         }
 
         try {
-            ParkingCandidateDto nearestParking = publicParkingApiService.findNearestParking(
-                    requestDto.getUserLatitude(),
-                    requestDto.getUserLongitude()
+            switch (intent) {
+                case STOP_ALLOWED:
+                    return checkStopAllowed(requestDto);
+                default:
+                    return guideToNearest(requestDto);
+            }
+        } catch (IllegalStateException | RestClientException e) {
+            // 원격 조회(금지구역 API·역지오코딩)의 타임아웃·연결 실패도 조회 실패로 답한다.
+            return new VoiceGuideResponseDto(
+                    "PARKING_LOOKUP_FAILED",
+                    "주차장 조회에 실패했습니다. 잠시 후 다시 시도하세요.",
+                    null
             );
+        }
+    }
 
-            if (nearestParking == null) {
-                return new VoiceGuideResponseDto(
-                        "NO_PARKING_FOUND",
-                        "주변에 주차장을 찾지 못했습니다.",
-                        null
-                );
-            }
+    private static String unsupportedFilterMessage(VoiceIntentEngine.Intent intent) {
+        switch (intent) {
+            case FREE_PARKING:
+                return "무료 주차장 검색은 아직 지원하지 않습니다. 주차장 요금 정보가 없습니다.";
+            case OPEN_24H:
+                return "24시간 운영 주차장 검색은 아직 지원하지 않습니다. 주차장 운영 시간 정보가 없습니다.";
+            case CHEAPEST_PARKING:
+                return "가장 저렴한 주차장 검색은 아직 지원하지 않습니다. 주차장 요금 정보가 없습니다.";
+            default:
+                return null;
+        }
+    }
+
+    private VoiceGuideResponseDto guideToNearest(VoiceGuideRequestDto requestDto) {
+        ParkingCandidateDto nearestParking = publicParkingApiService.findNearestParking(
+                requestDto.getUserLatitude(),
+                requestDto.getUserLongitude()
+        );
 
+        if (nearestParking == null) {
             return new VoiceGuideResponseDto(
-                    "PARKING_NAVIGATION",
-                    "가장 가까운 주차장을 안내합니다.",
-                    nearestParking
+                    "NO_PARKING_FOUND",
+                    "주변에 주차장을 찾지 못했습니다.",
+                    null
             );
-        } catch (IllegalStateException e) {
+        }
+
+        return new VoiceGuideResponseDto("PARKING_NAVIGATION", "가장 가까운 주차장을 안내합니다.", nearestParking);
+    }
+
+    private VoiceGuideResponseDto checkStopAllowed(VoiceGuideRequestDto requestDto) {
+        ParkingStopCheckResponse response = parkingStopCheckService.checkProhibited(
+                requestDto.getUserLongitude(),
+                requestDto.getUserLatitude()
+        );
+        if (response.getError() != null) {
+            throw new IllegalStateException("parking stop lookup failed: " + response.getError());
+        }
+        String message = response.isProhibited()
+                ? "이곳은 주정차 금지 구역입니다. 가까운 주차장을 이용하세요."
+                : "이곳은 주정차 금지 구역으로 등록되어 있지 않습니다.";
+        // 원격 조회가 실패해 마지막으로 받은 답을 돌려준 경우, 최신 정보가 아닐 수 있다고 알린다.
+        if (response.isStale()) {
+            message += " 다만 지금은 최신 정보를 확인하지 못해 이전에 확인한 결과로 안내합니다.";
+        }
+        return new VoiceGuideResponseDto("STOP_CHECK", message, null);
+    }
+
+    // 로그인한 사용자의 즐겨찾기 중 현재 위치에서 가장 가까운 곳(위치가 없으면 가장 최근에 저장한 곳)으로 안내한다.
+    private VoiceGuideResponseDto guideToFavorite(VoiceGuideRequestDto requestDto, String username) {
+        if (!StringUtils.hasText(username)) {
             return new VoiceGuideResponseDto(
-                    "PARKING_LOOKUP_FAILED",
-                    "주차장 조회에 실패했습니다. 잠시 후 다시 시도하세요.",
+                    "LOGIN_REQUIRED",
+                    "즐겨찾기 안내는 로그인 후 이용할 수 있습니다.",
+                    null
+            );
+        }
+
+        Double userLatitude = requestDto.getUserLatitude();
+        Double userLongitude = requestDto.getUserLongitude();
+        Favorite target = null;
+        double targetDistance = Double.POSITIVE_INFINITY;
+        for (Favorite favorite : favoriteService.listFavorites(username)) {
+            if (favorite.getLatitude() == null || favorite.getLongitude() == null) {
+                continue;
+            }
+            if (userLatitude == null || userLongitude == null) {
+                target = favorite;
+                break;
+            }
+            double distance = GeoDistance.haversineMeters(userLatitude, userLongitude,
+                    favorite.getLatitude(), favorite.getLongitude());
+            if (distance < targetDistance) {
+                target = favorite;
+                targetDistance = distance;
+            }
+        }
+
+        if (target == null) {
+            return new VoiceGuideResponseDto(
+                    "NO_FAVORITE",
+                    "저장된 즐겨찾기 주차장이 없습니다.",
                     null
             );
         }
-    }
 
-    private boolean containsParkingIntent(String transcript) {
-        String t = transcript.toLowerCase();
-        return t.contains("주차")
-                || t.contains("주차장")
-                || t.contains("parking")
-                || t.contains("파킹")
-                || t.contains("파크");
+        ParkingCandidateDto candidate = new ParkingCandidateDto(target.getParkingName(), target.getLatitude(),
+                target.getLongitude(), Double.isInfinite(targetDistance) ? null : targetDistance);
+        candidate.setAddress(target.getAddress());
+        return new VoiceGuideResponseDto("FAVORITE_NAVIGATION", "즐겨찾기한 주차장을 안내합니다.", candidate);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.backend.backend.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.backend.board.entity.Board;
+import com.backend.backend.board.entity.Category;
+import com.backend.backend.board.repository.BoardRepository;
+import com.backend.backend.board.repository.CategoryRepository;
+import com.backend.backend.board.search.BoardSearchIndex;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.server.ResponseStatusException;
+
+// 커서(키셋) 목록을 내장 DB 위에서 끝까지 넘겨 본다: 최신순 전체를 빠짐없이 한 번씩 주고,
+// 넘기는 도중 새 글이 올라오거나 글이 지워져도 이미 본 글이 다시 나오거나 건너뛰는 글이 없다.
+@DataJpaTest
+@Import({BoardController.class, CategoryController.class, BoardSearchIndex.class})
+class BoardCursorListTest {
+
+    @Autowired
+    private BoardController boardController;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category notice;
+    private final List<Long> all = new ArrayList<>();
+    private final List<Long> notices = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        notice = category("공지");
+        Category free = category("자유");
+        for (int i = 0; i < 25; i++) {
+            Board saved = board("글 " + i, i % 3 == 0 ? notice : free);
+            all.add(saved.getId());
+            if (i % 3 == 0) {
+                notices.add(saved.getId());
+            }
+        }
+        all.sort(Comparator.reverseOrder());
+        notices.sort(Comparator.reverseOrder());
+    }
+
+    @Test
+    void walksEveryPostNewestFirst() {
+        List<Long> seen = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        Long before = null;
+        Slice<Board> page;
+        do {
+            page = boardController.getBoardListByCursor(null, before, 10);
+            sizes.add(page.getNumberOfElements());
+            page.forEach(board -> seen.add(board.getId()));
+            before = seen.get(seen.size() - 1);
+        } while (page.hasNext());
+
+        assertThat(seen).isEqualTo(all);
+        assertThat(sizes).containsExactly(10, 10, 5);
+    }
+
+    @Test
+    void categoryWalkStaysInTheCategory() {
+        String category = String.valueOf(notice.getId());
+        // 공지는 9개: 6개를 본 뒤 남은 3개를 limit 3으로 읽으면 확인용으로 더 읽은 행이 없으니 다음 페이지도 없다.
+        Slice<Board> first = boardController.getBoardListByCursor(category, null, 6);
+        Slice<Board> second = boardController.getBoardListByCursor(category, ids(first).get(5), 3);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getNumberOfElements()).isEqualTo(3);
+        assertThat(second.hasNext()).isFalse();
+        List<Long> seen = new ArrayList<>(ids(first));
+        seen.addAll(ids(second));
+        assertThat(seen).isEqualTo(notices);
+        assertThat(boardController.getBoardListByCursor("all", null, 3).getContent()).extracting(Board::getId)
+                .isEqualTo(all.subList(0, 3));
+    }
+
+    @Test
+    void insertsAndDeletesBetweenPagesDoNotShiftTheCursor() {
+        Slice<Board> first = boardController.getBoardListByCursor(null, null, 10);
+        Long before = ids(first).get(9);
+
+        board("새 글", notice);
+        boardRepository.deleteById(all.get(10));
+        Slice<Board> second = boardController.getBoardListByCursor(null, before, 10);
+
+        assertThat(ids(second)).isEqualTo(all.subList(11, 21));
+    }
+
+    @Test
+    void limitOutsideTheAllowedRangeIsABadRequest() {
+        assertThatThrownBy(() -> boardController.getBoardListByCursor(null, null, 0))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> boardController.getBoardListByCursor(null, null, 51))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(boardController.getBoardListByCursor(null, null, 50).getNumberOfElements()).isEqualTo(25);
+    }
+
+    private static List<Long> ids(Slice<Board> slice) {
+        return slice.map(Board::getId).getContent();
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return categoryRepository.save(category);
+    }
+
+    private Board board(String title, Category category) {
+        Board board = new Board();
+        board.setTitle(title);
+        board.setContent("");
+        board.setCategory(category);
+        return boardRepository.save(board);
+    }
+}
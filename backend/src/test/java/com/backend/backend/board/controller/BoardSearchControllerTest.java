@@ -0,0 +1,77 @@
+package com.backend.backend.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.backend.board.entity.Board;
+import com.backend.backend.board.entity.Category;
+import com.backend.backend.board.repository.BoardRepository;
+import com.backend.backend.board.repository.CategoryRepository;
+import com.backend.backend.board.search.BoardSearchIndex;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+// 색인이 아직 올라오지 않았을 때(isReady false)의 제목 LIKE 대체 검색이 내장 DB 위에서 카테고리를 거르는지 확인한다.
+@DataJpaTest
+@Import(BoardController.class)
+class BoardSearchControllerTest {
+
+    @Autowired
+    private BoardController boardController;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @MockitoBean
+    private BoardSearchIndex boardSearchIndex;
+
+    private Category notice;
+    private Category free;
+
+    @BeforeEach
+    void setUp() {
+        notice = category("공지");
+        free = category("자유");
+        board("주차장 공지", notice);
+        board("주차장 잡담", free);
+        board("카페 잡담", free);
+    }
+
+    @Test
+    void likeFallbackAppliesTheCategoryFilter() {
+        assertThat(boardSearchIndex.isReady()).isFalse();
+
+        assertThat(titles(boardController.searchBoards("주차장", String.valueOf(notice.getId()), 0)))
+                .containsExactly("주차장 공지");
+        assertThat(titles(boardController.searchBoards("주차장", "all", 0)))
+                .containsExactly("주차장 잡담", "주차장 공지");
+        assertThat(titles(boardController.searchBoards("잡담", String.valueOf(free.getId()), 0)))
+                .containsExactly("카페 잡담", "주차장 잡담");
+    }
+
+    private static List<String> titles(Page<Board> page) {
+        return page.map(Board::getTitle).getContent();
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return categoryRepository.save(category);
+    }
+
+    private void board(String title, Category category) {
+        Board board = new Board();
+        board.setTitle(title);
+        board.setContent("");
+        board.setCategory(category);
+        boardRepository.save(board);
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.backend.board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.backend.board.entity.Board;
+import com.backend.backend.board.entity.Category;
+import com.backend.backend.board.repository.BoardRepository;
+import com.backend.backend.board.repository.CategoryRepository;
+import com.backend.backend.board.search.BoardSearchIndex;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.mock.web.MockHttpSession;
+
+// 카테고리를 지우면 그 카테고리의 글들이 검색 색인에서도 카테고리 없음으로 바뀌는지 내장 DB 위에서 확인한다.
+@DataJpaTest
+@Import({BoardController.class, CategoryController.class, BoardSearchIndex.class})
+class CategoryControllerTest {
+
+    @Autowired
+    private BoardController boardController;
+
+    @Autowired
+    private CategoryController categoryController;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+
+    private Category notice;
+    private Category free;
+
+    @BeforeEach
+    void setUp() {
+        notice = category("공지");
+        free = category("자유");
+        board("주차장 공지", notice);
+        board("주차장 잡담", free);
+        board("카페 잡담", free);
+    }
+
+    @Test
+    void deletingACategoryUpdatesTheIndexedCategory() {
+        // 기동 때 적재는 빈 DB였으므로 위에서 저장한 글까지 다시 올린다.
+        boardSearchIndex.load();
+        Long freeId = free.getId();
+        assertThat(titles(boardController.searchBoards("잡담", String.valueOf(freeId), 0))).hasSize(2);
+
+        MockHttpSession admin = new MockHttpSession();
+        admin.setAttribute("ROLE", "ADMIN");
+        categoryController.delete(freeId, admin);
+
+        assertThat(boardController.searchBoards("잡담", String.valueOf(freeId), 0).getTotalElements()).isZero();
+        assertThat(titles(boardController.searchBoards("잡담", null, 0))).hasSize(2);
+        assertThat(titles(boardController.searchBoards("주차장", String.valueOf(notice.getId()), 0)))
+                .containsExactly("주차장 공지");
+    }
+
+    private static List<String> titles(Page<Board> page) {
+        return page.map(Board::getTitle).getContent();
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return categoryRepository.save(category);
+    }
+
+    private void board(String title, Category category) {
+        Board board = new Board();
+        board.setTitle(title);
+        board.setContent("");
+        board.setCategory(category);
+        boardRepository.save(board);
+    }
+}
@@ -0,0 +1,138 @@
+package com.backend.backend.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.backend.board.entity.Board;
+import com.backend.backend.board.entity.Category;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// 바이그램 토큰화, BM25 순위(동점은 최신 글 먼저), 카테고리 필터, 수정·삭제 반영과 죽은 슬롯 압축을 확인한다.
+class BoardSearchIndexTest {
+
+    @Test
+    void bigramsMatchInsideWordsAndUnigramsMatchSingleCharacters() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.put(board(1, "주말 후기", "공영주차장이 넓다", null));
+        index.put(board(2, "Parking LOT", "주.차 금지", null));
+
+        assertThat(search(index, "주차장")).containsExactly(1L);
+        assertThat(search(index, "차")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search(index, "parking lot")).containsExactly(2L);
+        // 구두점은 토큰을 끊으므로 "주.차"에는 바이그램 "주차"가 없다.
+        assertThat(search(index, "주차")).containsExactly(1L);
+        // 모든 색인어가 있어야 한다(AND).
+        assertThat(search(index, "주차장 금지")).isEmpty();
+        assertThat(index.search("!!!", null, 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void titleMatchesAndShorterPostsRankFirst() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.put(board(1, "안내", "주차장 정보", null));
+        index.put(board(2, "주차장", "안내", null));
+        index.put(board(3, "주차장 요금 안내 정리", "주차장 요금은 시간당 얼마", null));
+
+        assertThat(search(index, "주차장")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void equalScoresPutNewerPostsFirstEvenAfterAnOlderPostIsEdited() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        for (long id = 5; id <= 7; id++) {
+            index.put(board(id, "같은 제목", "같은 본문", null));
+        }
+        // 수정된 글은 새(가장 큰) 슬롯을 받지만 순서는 게시글 id를 따른다.
+        index.put(board(5, "같은 제목", "같은 본문", null));
+
+        assertThat(search(index, "제목")).containsExactly(7L, 6L, 5L);
+    }
+
+    @Test
+    void pagesAreCutFromTheRankedOrderWithTheFullTotal() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        for (long id = 1; id <= 25; id++) {
+            index.put(board(id, "공지", "본문", null));
+        }
+
+        BoardSearchIndex.Result second = index.search("공지", null, 10, 10);
+        assertThat(second.getBoardIds()).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+        assertThat(second.getTotal()).isEqualTo(25);
+        assertThat(index.search("공지", null, 20, 10).getBoardIds()).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(index.search("공지", null, 30, 10).getBoardIds()).isEmpty();
+    }
+
+    @Test
+    void categoryFilterKeepsOnlyThatCategory() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.put(board(1, "주차 질문", "", 10L));
+        index.put(board(2, "주차 건의", "", 20L));
+        index.put(board(3, "주차 잡담", "", null));
+
+        assertThat(search(index, "주차", 10L)).containsExactly(1L);
+        assertThat(search(index, "주차", 20L)).containsExactly(2L);
+        assertThat(search(index, "주차", 30L)).isEmpty();
+        assertThat(search(index, "주차", null)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void updatesReplaceOldTermsAndRemovesDropThePost() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.put(board(1, "주차장 후기", "", 10L));
+        index.put(board(1, "카페 후기", "", 10L));
+
+        assertThat(search(index, "주차장")).isEmpty();
+        assertThat(search(index, "카페")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+
+        // 카테고리를 지우면 글은 카테고리 없음으로 다시 색인된다.
+        index.put(board(1, "카페 후기", "", null));
+        assertThat(search(index, "카페", 10L)).isEmpty();
+        assertThat(search(index, "카페", null)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(search(index, "후기")).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.termCount()).isZero();
+    }
+
+    @Test
+    void repeatedEditsReuseSlotsAfterCompaction() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        int posts = 300;
+        for (int round = 0; round < 20; round++) {
+            for (long id = 1; id <= posts; id++) {
+                index.put(board(id, String.format("글%03d", id), round % 2 == 0 ? "짝수 회차" : "홀수 회차", null));
+            }
+        }
+
+        assertThat(index.slotCount()).isLessThan(posts + 1024 + 1);
+        assertThat(index.size()).isEqualTo(posts);
+        assertThat(index.search("짝수", null, 0, 10).getTotal()).isZero();
+        BoardSearchIndex.Result odd = index.search("홀수", null, 0, 3);
+        assertThat(odd.getTotal()).isEqualTo(posts);
+        assertThat(odd.getBoardIds()).containsExactly(300L, 299L, 298L);
+        assertThat(search(index, "글017")).containsExactly(17L);
+    }
+
+    private static List<Long> search(BoardSearchIndex index, String query) {
+        return search(index, query, null);
+    }
+
+    private static List<Long> search(BoardSearchIndex index, String query, Long categoryId) {
+        return index.search(query, categoryId, 0, 100).getBoardIds();
+    }
+
+    private static Board board(long id, String title, String content, Long categoryId) {
+        Board board = new Board();
+        board.setId(id);
+        board.setTitle(title);
+        board.setContent(content);
+        if (categoryId != null) {
+            Category category = new Category();
+            category.setId(categoryId);
+            board.setCategory(category);
+        }
+        return board;
+    }
+}
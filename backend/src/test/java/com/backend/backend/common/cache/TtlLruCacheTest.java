@@ -0,0 +1,103 @@
+package com.backend.backend.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+// LRU order, TTL expiry, negative (null) caching and what is not cached (loader failures).
+class TtlLruCacheTest {
+
+    @Test
+    void hitsServeTheCachedValueWithoutLoading() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 60_000, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("a", key -> key + loads.incrementAndGet())).isEqualTo("a1");
+        assertThat(cache.get("a", key -> key + loads.incrementAndGet())).isEqualTo("a1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.stats()).containsEntry("hitRatio", 0.5).containsEntry("size", 1);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedFirst() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(2, 60_000, 60_000);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a", key -> "reloaded");
+
+        cache.put("c", "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.peek("a")).isEqualTo("A");
+        assertThat(cache.peek("b")).isNull();
+        assertThat(cache.peek("c")).isEqualTo("C");
+        assertThat(cache.getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void entriesExpireAfterTheirTtl() throws InterruptedException {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 300, 300);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> "v" + loads.incrementAndGet());
+
+        Thread.sleep(500);
+
+        assertThat(cache.peek("a")).isNull();
+        assertThat(cache.get("a", key -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(cache.getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void nullsAreCachedWithTheNegativeTtl() throws InterruptedException {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 60_000, 300);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("missing", key -> { loads.incrementAndGet(); return null; })).isNull();
+        assertThat(cache.get("missing", key -> { loads.incrementAndGet(); return null; })).isNull();
+        assertThat(loads.get()).isEqualTo(1);
+
+        Thread.sleep(500);
+        cache.get("missing", key -> { loads.incrementAndGet(); return null; });
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void zeroNegativeTtlDoesNotCacheNulls() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 60_000, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("missing", key -> { loads.incrementAndGet(); return null; });
+        cache.get("missing", key -> { loads.incrementAndGet(); return null; });
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void loaderFailuresAreNotCached() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, 60_000, 60_000);
+
+        assertThatThrownBy(() -> cache.get("a", key -> { throw new IllegalStateException("down"); }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("a", key -> "up")).isEqualTo("up");
+
+        CompletableFuture<String> failed = cache.getAsync("b",
+                key -> CompletableFuture.failedFuture(new IllegalStateException("down")));
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getAsync("b", key -> CompletableFuture.completedFuture("B")).join()).isEqualTo("B");
+        assertThat(cache.getAsync("b", key -> CompletableFuture.completedFuture("other")).join()).isEqualTo("B");
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new TtlLruCache<String, String>(0, 1000, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
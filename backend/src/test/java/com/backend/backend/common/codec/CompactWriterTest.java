@@ -0,0 +1,105 @@
+package com.backend.backend.common.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+// Exact bytes of the wire format: varints, zigzag, coordinate deltas, and the string table with per-column prefixes.
+class CompactWriterTest {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final CompactWriter writer = new CompactWriter(out);
+
+    @Test
+    void varintsAreLittleEndianBase128() throws IOException {
+        writer.writeVarint(0).writeVarint(127).writeVarint(128).writeVarint(300).writeVarint(-1L);
+
+        assertThat(written()).isEqualTo(bytes(0x00, 0x7f, 0x80, 0x01, 0xac, 0x02,
+                0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0x01));
+    }
+
+    @Test
+    void signedVarintsAreZigzagEncoded() throws IOException {
+        writer.writeSignedVarint(0).writeSignedVarint(-1).writeSignedVarint(1).writeSignedVarint(-64).writeSignedVarint(64);
+
+        assertThat(written()).isEqualTo(bytes(0x00, 0x01, 0x02, 0x7f, 0x80, 0x01));
+    }
+
+    @Test
+    void coordinatesAreDeltasInTenMillionthsOfADegree() throws IOException {
+        writer.writeCoordinate(37.5, 127.0).writeCoordinate(37.5000001, 126.9999999).writeCoordinate(37.5000001, 126.9999999);
+
+        assertThat(written()).isEqualTo(bytes(
+                0x80, 0xaf, 0xd0, 0xe5, 0x02, 0x80, 0xa6, 0x95, 0xbb, 0x09,
+                0x02, 0x01,
+                0x00, 0x00));
+    }
+
+    @Test
+    void repeatedStringsAreSentAsTableIndexes() throws IOException {
+        writer.writeString(null).writeString("abc").writeString("xy").writeString("abc").writeString("xy");
+
+        assertThat(written()).isEqualTo(bytes(
+                0x00,
+                0x01, 0x00, 0x03, 'a', 'b', 'c',
+                0x01, 0x00, 0x02, 'x', 'y',
+                0x02,
+                0x03));
+    }
+
+    @Test
+    void newStringsShareThePrefixOfTheirOwnColumnOnly() throws IOException {
+        writer.writeString(0, "L000123").writeString(1, "L000124").writeString(0, "L000124x").writeString(0, "L000129");
+
+        assertThat(written()).isEqualTo(bytes(
+                0x01, 0x00, 0x07, 'L', '0', '0', '0', '1', '2', '3',
+                // column 1 has no previous string
+                0x01, 0x00, 0x07, 'L', '0', '0', '0', '1', '2', '4',
+                // column 0: shares "L00012" with "L000123"
+                0x01, 0x06, 0x02, '4', 'x',
+                0x01, 0x06, 0x01, '9'));
+    }
+
+    @Test
+    void stringsAreUtf8WithoutSplittingSurrogatePairs() throws IOException {
+        writer.writeString("주").writeString(1, "🚗").writeString(2, "a\uD800b")
+                .writeString(3, "a😀").writeString(3, "a😁");
+
+        assertThat(written()).isEqualTo(bytes(
+                0x01, 0x00, 0x03, 0xec, 0xa3, 0xbc,
+                0x01, 0x00, 0x04, 0xf0, 0x9f, 0x9a, 0x97,
+                // a lone surrogate becomes U+FFFD
+                0x01, 0x00, 0x05, 'a', 0xef, 0xbf, 0xbd, 'b',
+                0x01, 0x00, 0x05, 'a', 0xf0, 0x9f, 0x98, 0x80,
+                // the shared high surrogate is not split off: only "a" is shared
+                0x01, 0x01, 0x04, 0xf0, 0x9f, 0x98, 0x81));
+    }
+
+    @Test
+    void outputLargerThanTheBufferIsWrittenInOrder() throws IOException {
+        for (int i = 0; i < 20_000; i++) {
+            writer.writeByte(i);
+        }
+        writer.flush();
+
+        byte[] bytes = out.toByteArray();
+        assertThat(bytes).hasSize(20_000);
+        for (int i = 0; i < bytes.length; i++) {
+            assertThat(bytes[i]).isEqualTo((byte) i);
+        }
+    }
+
+    private byte[] written() throws IOException {
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,133 @@
+package com.backend.backend.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+// A caller arriving while the same key is in flight shares that call (value or exception); nothing is kept after it.
+class SingleFlightTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> first = executor.submit(() -> flight.execute("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        waitUntil(() -> flight.isInFlight("k"));
+        Future<String> second = executor.submit(() -> flight.execute("k", () -> "other"));
+        waitUntil(() -> (long) flight.stats().get("collapsed") == 1);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flight.stats()).containsEntry("calls", 2L).containsEntry("executions", 1L).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void waitersReceiveTheLoadersException() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("upstream down");
+
+        Future<String> first = executor.submit(() -> flight.execute("k", () -> {
+            await(release);
+            throw failure;
+        }));
+        waitUntil(() -> flight.isInFlight("k"));
+        Future<String> second = executor.submit(() -> flight.execute("k", () -> "other"));
+        waitUntil(() -> (long) flight.stats().get("collapsed") == 1);
+        release.countDown();
+
+        for (Future<String> future : List.of(first, second)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseReference(failure);
+        }
+        assertThat(flight.isInFlight("k")).isFalse();
+    }
+
+    @Test
+    void completedCallsAreNotReused() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(flight.execute("k", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.execute("k", loads::incrementAndGet)).isEqualTo(2);
+        assertThat(flight.execute("other", loads::incrementAndGet)).isEqualTo(3);
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void asyncCallersGetTheSameFutureUntilItCompletes() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = flight.executeAsync("k", () -> { loads.incrementAndGet(); return upstream; });
+        CompletableFuture<String> second = flight.executeAsync("k", () -> { loads.incrementAndGet(); return upstream; });
+
+        assertThat(second).isSameAs(first).isNotDone();
+        upstream.complete("value");
+        assertThat(first).isCompletedWithValue("value");
+        assertThat(flight.isInFlight("k")).isFalse();
+        assertThat(flight.executeAsync("k", () -> CompletableFuture.completedFuture("next")).join()).isEqualTo("next");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void asyncFailuresAreUnwrappedAndClearTheKey() {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        IllegalStateException failure = new IllegalStateException("down");
+
+        CompletableFuture<String> thrown = flight.executeAsync("k", () -> { throw failure; });
+        CompletableFuture<String> wrapped = flight.executeAsync("j",
+                () -> CompletableFuture.<String>failedFuture(failure).thenApply(value -> value));
+
+        for (CompletableFuture<String> future : List.of(thrown, wrapped)) {
+            assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCauseReference(failure);
+        }
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("condition not reached");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.backend.backend.common.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// Synthetic regions: a square with a hole and a triangle sharing its east edge. Checks interior cells (one array
+// read), boundary cells (ray cast on the candidates) and points outside every region.
+class AdminBoundaryIndexTest {
+    private static final double CELL = 0.01;
+
+    // lon 127.0-127.1, lat 37.0-37.1, with a hole at lon 127.04-127.06, lat 37.04-37.06
+    private static final AdminBoundaryIndex.Region SQUARE = new AdminBoundaryIndex.Region("서울특별시", "네모구", List.of(
+            new double[]{127.0, 37.0, 127.1, 37.0, 127.1, 37.1, 127.0, 37.1},
+            new double[]{127.04, 37.04, 127.06, 37.04, 127.06, 37.06, 127.04, 37.06}));
+    // right triangle east of the square; hypotenuse from (127.2, 37.0) to (127.1, 37.1)
+    private static final AdminBoundaryIndex.Region TRIANGLE = new AdminBoundaryIndex.Region("경기도", "세모시", List.of(
+            new double[]{127.1, 37.0, 127.2, 37.0, 127.1, 37.1}));
+
+    private final AdminBoundaryIndex index = AdminBoundaryIndex.build(List.of(SQUARE, TRIANGLE), CELL);
+
+    @Test
+    void interiorCellsAnswerWithoutTouchingTheBoundary() {
+        assertThat(index.regionCount()).isEqualTo(2);
+        assertThat(index.boundaryCellCount()).isPositive().isLessThan(index.cellCount());
+
+        assertThat(index.find(37.025, 127.025)).isSameAs(SQUARE);
+        assertThat(index.find(37.085, 127.075)).isSameAs(SQUARE);
+        assertThat(index.find(37.015, 127.125)).isSameAs(TRIANGLE);
+        // inside the hole
+        assertThat(index.find(37.05, 127.05)).isNull();
+    }
+
+    @Test
+    void boundaryCellsRayCastTheCandidates() {
+        // either side of the shared edge at lon 127.1
+        assertThat(index.find(37.055, 127.0999)).isSameAs(SQUARE);
+        assertThat(index.find(37.055, 127.1001)).isSameAs(TRIANGLE);
+        // either side of the hole's edge
+        assertThat(index.find(37.05, 127.0399)).isSameAs(SQUARE);
+        assertThat(index.find(37.05, 127.0401)).isNull();
+        // either side of the triangle's hypotenuse (lat = 37.05 at lon 127.15)
+        assertThat(index.find(37.0499, 127.15)).isSameAs(TRIANGLE);
+        assertThat(index.find(37.0501, 127.15)).isNull();
+    }
+
+    @Test
+    void pointsOutsideEveryRegionFindNothing() {
+        // inside the grid but north-east of the hypotenuse
+        assertThat(index.find(37.095, 127.195)).isNull();
+        // off the grid
+        assertThat(index.find(36.9, 127.05)).isNull();
+        assertThat(index.find(37.05, 127.3)).isNull();
+        assertThat(index.find(0, 0)).isNull();
+        assertThat(index.find(Double.NaN, Double.NaN)).isNull();
+    }
+
+    @Test
+    void everyCellAgreesWithTheRegionsThemselves() {
+        // a few points per cell, off the exact edges, compared with a scan over Region.contains
+        for (double lat = 36.99537; lat < 37.11; lat += CELL / 3) {
+            for (double lon = 126.99537; lon < 127.21; lon += CELL / 3) {
+                AdminBoundaryIndex.Region expected = SQUARE.contains(lat, lon) ? SQUARE
+                        : TRIANGLE.contains(lat, lon) ? TRIANGLE : null;
+                assertThat(index.find(lat, lon)).as("%s, %s", lat, lon).isSameAs(expected);
+            }
+        }
+    }
+
+    @Test
+    void emptyAndInvalidInput() {
+        AdminBoundaryIndex empty = AdminBoundaryIndex.build(List.of(), CELL);
+        assertThat(empty.cellCount()).isZero();
+        assertThat(empty.find(37.05, 127.05)).isNull();
+        assertThatThrownBy(() -> AdminBoundaryIndex.build(List.of(SQUARE), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
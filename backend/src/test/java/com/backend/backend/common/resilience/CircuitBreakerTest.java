@@ -0,0 +1,94 @@
+package com.backend.backend.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+// CLOSED -> OPEN after the threshold, OPEN rejects without calling, and a single HALF_OPEN trial decides the next state.
+class CircuitBreakerTest {
+    private static final long OPEN_MILLIS = 100;
+
+    @Test
+    void opensAfterConsecutiveFailuresOnly() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_MILLIS);
+
+        fail(breaker);
+        fail(breaker);
+        breaker.execute(() -> "ok");
+        fail(breaker);
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.stats()).containsEntry("failures", 5L).containsEntry("successes", 1L);
+    }
+
+    @Test
+    void openCircuitRejectsWithoutCallingUpstream() {
+        CircuitBreaker breaker = opened();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> breaker.execute(calls::incrementAndGet)).isInstanceOf(CircuitOpenException.class);
+        assertThat(breaker.executeAsync(() -> CompletableFuture.completedFuture(calls.incrementAndGet())))
+                .isCompletedExceptionally();
+
+        assertThat(calls.get()).isZero();
+        assertThat(breaker.stats()).containsEntry("rejected", 2L);
+    }
+
+    @Test
+    void successfulTrialClosesTheCircuit() throws InterruptedException {
+        CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN_MILLIS * 3);
+
+        CompletableFuture<String> trial = new CompletableFuture<>();
+        CompletableFuture<String> result = breaker.executeAsync(() -> trial);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        // only one trial at a time
+        assertThatThrownBy(() -> breaker.execute(() -> "second")).isInstanceOf(CircuitOpenException.class);
+
+        trial.complete("ok");
+        assertThat(result).isCompletedWithValue("ok");
+        assertThat(breaker.isClosed()).isTrue();
+        assertThat(breaker.execute(() -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void failedTrialReopensImmediately() throws InterruptedException {
+        CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN_MILLIS * 3);
+
+        fail(breaker);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.execute(() -> "too soon")).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    void asyncFailuresCountTowardsOpening() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, OPEN_MILLIS);
+
+        breaker.executeAsync(() -> CompletableFuture.failedFuture(new IllegalStateException("down")));
+        breaker.executeAsync((Supplier<CompletableFuture<String>>) () -> { throw new IllegalStateException("down"); });
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private static CircuitBreaker opened() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, OPEN_MILLIS);
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        assertThatThrownBy(() -> breaker.execute(() -> { throw new IllegalStateException("down"); }))
+                .isInstanceOf(IllegalStateException.class)
+                .isNotInstanceOf(CircuitOpenException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.backend.backend.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+// Fresh answers are remembered; a failed live call or a degraded upstream serves the last good answer (marked stale),
+// and a degraded read refreshes it in the background. Revalidation runs on the calling thread here.
+class StaleWhileRevalidateTest {
+    private final AtomicBoolean degraded = new AtomicBoolean();
+    private final StaleWhileRevalidate<String, String> swr =
+            new StaleWhileRevalidate<>(10, 60_000, degraded::get, Runnable::run);
+
+    @Test
+    void liveAnswersAreFresh() {
+        StaleWhileRevalidate.Result<String> result = swr.get("k", () -> "v1");
+
+        assertThat(result.getValue()).isEqualTo("v1");
+        assertThat(result.isStale()).isFalse();
+        assertThat(swr.stats()).containsEntry("entries", 1).containsEntry("freshServed", 1L);
+    }
+
+    @Test
+    void failedLiveCallServesTheLastGoodAnswer() {
+        swr.get("k", () -> "v1");
+
+        StaleWhileRevalidate.Result<String> result = swr.get("k", () -> { throw new IllegalStateException("down"); });
+
+        assertThat(result.getValue()).isEqualTo("v1");
+        assertThat(result.isStale()).isTrue();
+        assertThatThrownBy(() -> swr.get("unknown", () -> { throw new IllegalStateException("down"); }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void degradedUpstreamServesLastGoodAndRefreshesInTheBackground() {
+        swr.get("k", () -> "v1");
+        degraded.set(true);
+        AtomicInteger loads = new AtomicInteger();
+
+        StaleWhileRevalidate.Result<String> first = swr.get("k", () -> "v" + (1 + loads.incrementAndGet()));
+        StaleWhileRevalidate.Result<String> second = swr.get("k", () -> { throw new IllegalStateException("down"); });
+
+        assertThat(first.getValue()).isEqualTo("v1");
+        assertThat(first.isStale()).isTrue();
+        // the background refresh replaced the last good answer; the failed refresh after it kept it
+        assertThat(second.getValue()).isEqualTo("v2");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(swr.get("k", () -> "v3").getValue()).isEqualTo("v2");
+    }
+
+    @Test
+    void nullAnswersAreNotRemembered() {
+        swr.get("k", () -> null);
+
+        assertThatThrownBy(() -> swr.get("k", () -> { throw new IllegalStateException("down"); }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(swr.stats()).containsEntry("entries", 0);
+    }
+
+    @Test
+    void asyncFailuresFallBackToTheLastGoodAnswer() throws Exception {
+        assertThat(swr.getAsync("k", () -> CompletableFuture.completedFuture("v1")).get().isStale()).isFalse();
+
+        StaleWhileRevalidate.Result<String> stale =
+                swr.getAsync("k", () -> CompletableFuture.failedFuture(new IllegalStateException("down"))).get();
+        assertThat(stale.getValue()).isEqualTo("v1");
+        assertThat(stale.isStale()).isTrue();
+
+        IllegalStateException failure = new IllegalStateException("down");
+        assertThatThrownBy(() -> swr.getAsync("unknown", () -> CompletableFuture.<String>failedFuture(failure)).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseReference(failure);
+    }
+}
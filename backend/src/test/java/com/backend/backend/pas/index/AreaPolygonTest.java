@@ -0,0 +1,95 @@
+package com.backend.backend.pas.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.backend.backend.common.geo.GeoDistance;
+import org.junit.jupiter.api.Test;
+
+// Containment of the buffered segment ("stadium") and the circle, checked 30 m (inside the 35 m buffer) and
+// 40 m (outside) from the axis, around both ends and along the sides.
+class AreaPolygonTest {
+    private static final double BUFFER = 35;
+    private static final double START_LAT = 37.5;
+    private static final double START_LON = 127.0;
+    private static final double METERS_PER_DEG_LAT = Math.toRadians(1) * GeoDistance.EARTH_RADIUS_METERS;
+    private static final double METERS_PER_DEG_LON = METERS_PER_DEG_LAT * Math.cos(Math.toRadians(START_LAT));
+
+    // 200 m east of the start
+    private static final double END_LAT = START_LAT;
+    private static final double END_LON = START_LON + 200 / METERS_PER_DEG_LON;
+
+    private final AreaPolygon segment = AreaPolygon.buffer(null, START_LAT, START_LON, END_LAT, END_LON, BUFFER);
+
+    @Test
+    void sidesOfTheSegment() {
+        double midLon = (START_LON + END_LON) / 2;
+        assertThat(contains(segment, START_LAT, midLon, 30, 0)).isTrue();
+        assertThat(contains(segment, START_LAT, midLon, -30, 0)).isTrue();
+        assertThat(contains(segment, START_LAT, midLon, 40, 0)).isFalse();
+        assertThat(contains(segment, START_LAT, midLon, -40, 0)).isFalse();
+    }
+
+    @Test
+    void roundCapsPastBothEnds() {
+        // straight past each end
+        assertThat(contains(segment, START_LAT, START_LON, 0, -30)).isTrue();
+        assertThat(contains(segment, START_LAT, START_LON, 0, -40)).isFalse();
+        assertThat(contains(segment, END_LAT, END_LON, 0, 30)).isTrue();
+        assertThat(contains(segment, END_LAT, END_LON, 0, 40)).isFalse();
+        // diagonally off each end: inside the cap, but outside a square-ended box would differ
+        double d30 = 30 / Math.sqrt(2);
+        double d40 = 40 / Math.sqrt(2);
+        assertThat(contains(segment, END_LAT, END_LON, d30, d30)).isTrue();
+        assertThat(contains(segment, END_LAT, END_LON, d40, d40)).isFalse();
+        assertThat(contains(segment, START_LAT, START_LON, -d30, -d30)).isTrue();
+        assertThat(contains(segment, START_LAT, START_LON, -d40, -d40)).isFalse();
+        // a corner of the bounding box is not in the polygon
+        assertThat(segment.boundsContain(segment.getMaxLat() - 1e-7, segment.getMaxLon() - 1e-7)).isTrue();
+        assertThat(segment.contains(segment.getMaxLat() - 1e-7, segment.getMaxLon() - 1e-7)).isFalse();
+    }
+
+    @Test
+    void diagonalSegmentEnds() {
+        // 150 m north-east
+        double endLat = START_LAT + 150 / Math.sqrt(2) / METERS_PER_DEG_LAT;
+        double endLon = START_LON + 150 / Math.sqrt(2) / METERS_PER_DEG_LON;
+        AreaPolygon diagonal = AreaPolygon.buffer(null, START_LAT, START_LON, endLat, endLon, BUFFER);
+        double along = 1 / Math.sqrt(2);
+
+        assertThat(contains(diagonal, endLat, endLon, 30 * along, 30 * along)).isTrue();
+        assertThat(contains(diagonal, endLat, endLon, 40 * along, 40 * along)).isFalse();
+        assertThat(contains(diagonal, START_LAT, START_LON, -30 * along, -30 * along)).isTrue();
+        assertThat(contains(diagonal, START_LAT, START_LON, -40 * along, -40 * along)).isFalse();
+        // perpendicular at the end point
+        assertThat(contains(diagonal, endLat, endLon, 30 * along, -30 * along)).isTrue();
+        assertThat(contains(diagonal, endLat, endLon, 40 * along, -40 * along)).isFalse();
+    }
+
+    @Test
+    void circleAroundASinglePoint() {
+        AreaPolygon circle = AreaPolygon.around(null, START_LAT, START_LON, BUFFER);
+        AreaPolygon zeroLength = AreaPolygon.buffer(null, START_LAT, START_LON, START_LAT, START_LON, BUFFER);
+        for (int degrees = 0; degrees < 360; degrees += 15) {
+            double north = Math.cos(Math.toRadians(degrees));
+            double east = Math.sin(Math.toRadians(degrees));
+            for (AreaPolygon polygon : new AreaPolygon[]{circle, zeroLength}) {
+                assertThat(contains(polygon, START_LAT, START_LON, 30 * north, 30 * east)).isTrue();
+                assertThat(contains(polygon, START_LAT, START_LON, 40 * north, 40 * east)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    void distanceIsMeasuredToTheNearestPointOfTheAxis() {
+        double midLon = (START_LON + END_LON) / 2;
+        assertThat(segment.distanceToAxisMeters(START_LAT + 20 / METERS_PER_DEG_LAT, midLon)).isCloseTo(20, within(0.01));
+        assertThat(segment.distanceToAxisMeters(START_LAT, END_LON + 25 / METERS_PER_DEG_LON)).isCloseTo(25, within(0.01));
+        assertThat(segment.distanceToAxisMeters(START_LAT, START_LON - 25 / METERS_PER_DEG_LON)).isCloseTo(25, within(0.01));
+    }
+
+    private static boolean contains(AreaPolygon polygon, double latitude, double longitude,
+                                    double northMeters, double eastMeters) {
+        return polygon.contains(latitude + northMeters / METERS_PER_DEG_LAT, longitude + eastMeters / METERS_PER_DEG_LON);
+    }
+}
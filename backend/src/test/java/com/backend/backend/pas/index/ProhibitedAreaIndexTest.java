@@ -0,0 +1,95 @@
+package com.backend.backend.pas.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.backend.common.geo.GeoDistance;
+import com.backend.backend.common.geo.GeoHash;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// Lookups across geohash cell borders (a polygon is registered in every cell its bounding box overlaps),
+// overlap resolution, and the two-circle fallback for segments spanning more than MAX_CELLS_PER_POLYGON cells.
+class ProhibitedAreaIndexTest {
+    private static final int PRECISION = 7;
+    private static final double BUFFER = 35;
+    private static final double METERS_PER_DEG_LAT = Math.toRadians(1) * GeoDistance.EARTH_RADIUS_METERS;
+    private static final double METERS_PER_DEG_LON = METERS_PER_DEG_LAT * Math.cos(Math.toRadians(37.5));
+
+    // geohash cell borders near (37.5, 127.0)
+    private static final double BORDER_LON = border(127.0, -180, GeoHash.cellWidthDegrees(PRECISION));
+    private static final double BORDER_LAT = border(37.5, -90, GeoHash.cellHeightDegrees(PRECISION));
+
+    @Test
+    void segmentAcrossACellBorderIsFoundOnBothSides() {
+        // 100 m each side of a column border, along the row centre
+        double lat = BORDER_LAT + GeoHash.cellHeightDegrees(PRECISION) / 2;
+        ProhibitedArea area = segment("가", lat, BORDER_LON - 100 / METERS_PER_DEG_LON, lat, BORDER_LON + 100 / METERS_PER_DEG_LON);
+        ProhibitedAreaIndex index = ProhibitedAreaIndex.build(List.of(area), PRECISION, BUFFER);
+
+        assertThat(GeoHash.encode(lat, BORDER_LON - 1e-7, PRECISION))
+                .isNotEqualTo(GeoHash.encode(lat, BORDER_LON + 1e-7, PRECISION));
+        assertThat(index.findContaining(lat, BORDER_LON - 1e-7)).isSameAs(area);
+        assertThat(index.findContaining(lat, BORDER_LON + 1e-7)).isSameAs(area);
+        assertThat(index.findContaining(lat + 30 / METERS_PER_DEG_LAT, BORDER_LON)).isSameAs(area);
+        assertThat(index.findContaining(lat + 40 / METERS_PER_DEG_LAT, BORDER_LON)).isNull();
+        assertThat(index.polygonCount()).isEqualTo(1);
+    }
+
+    @Test
+    void circleNearACellCornerReachesTheNeighbouringCells() {
+        // 10 m south-west of a cell corner; the circle spills into the three cells across it
+        double lat = BORDER_LAT - 10 / METERS_PER_DEG_LAT;
+        double lon = BORDER_LON - 10 / METERS_PER_DEG_LON;
+        ProhibitedArea area = point("나", lat, lon);
+        ProhibitedAreaIndex index = ProhibitedAreaIndex.build(List.of(area), PRECISION, BUFFER);
+
+        assertThat(index.cellCount()).isEqualTo(4);
+        assertThat(index.findContaining(lat + 30 / METERS_PER_DEG_LAT, lon)).isSameAs(area);
+        assertThat(index.findContaining(lat, lon + 30 / METERS_PER_DEG_LON)).isSameAs(area);
+        assertThat(index.findContaining(lat + 20 / METERS_PER_DEG_LAT, lon + 20 / METERS_PER_DEG_LON)).isSameAs(area);
+        assertThat(index.findContaining(lat + 40 / METERS_PER_DEG_LAT, lon)).isNull();
+        assertThat(index.findContaining(lat, lon + 40 / METERS_PER_DEG_LON)).isNull();
+    }
+
+    @Test
+    void overlappingAreasPreferTheClosestAxis() {
+        double lat = 37.5;
+        double lon = 127.0;
+        ProhibitedArea south = segment("남", lat, lon, lat, lon + 100 / METERS_PER_DEG_LON);
+        double northLat = lat + 40 / METERS_PER_DEG_LAT;
+        ProhibitedArea north = segment("북", northLat, lon, northLat, lon + 100 / METERS_PER_DEG_LON);
+        ProhibitedAreaIndex index = ProhibitedAreaIndex.build(List.of(south, north), PRECISION, BUFFER);
+        double midLon = lon + 50 / METERS_PER_DEG_LON;
+
+        assertThat(index.findContaining(lat + 15 / METERS_PER_DEG_LAT, midLon)).isSameAs(south);
+        assertThat(index.findContaining(lat + 25 / METERS_PER_DEG_LAT, midLon)).isSameAs(north);
+        assertThat(index.findContaining(lat + 100 / METERS_PER_DEG_LAT, midLon)).isNull();
+        assertThat(index.findContaining(33.0, 126.5)).isNull();
+    }
+
+    @Test
+    void overlongSegmentFallsBackToCirclesAtBothEnds() {
+        // about 14 km: far more than MAX_CELLS_PER_POLYGON cells under its bounding box
+        ProhibitedArea area = segment("다", 37.5, 127.0, 37.6, 127.1);
+        ProhibitedAreaIndex index = ProhibitedAreaIndex.build(List.of(area), PRECISION, BUFFER);
+
+        assertThat(index.polygonCount()).isEqualTo(2);
+        assertThat(index.cellCount()).isLessThanOrEqualTo(8);
+        assertThat(index.findContaining(37.5 + 20 / METERS_PER_DEG_LAT, 127.0)).isSameAs(area);
+        assertThat(index.findContaining(37.6 - 20 / METERS_PER_DEG_LAT, 127.1)).isSameAs(area);
+        // the middle of the segment is no longer covered
+        assertThat(index.findContaining(37.55, 127.05)).isNull();
+    }
+
+    private static double border(double value, double origin, double size) {
+        return origin + Math.ceil((value - origin) / size) * size;
+    }
+
+    private static ProhibitedArea segment(String name, double startLat, double startLon, double endLat, double endLon) {
+        return new ProhibitedArea("서울특별시", name, null, startLat, startLon, endLat, endLon);
+    }
+
+    private static ProhibitedArea point(String name, double latitude, double longitude) {
+        return new ProhibitedArea("서울특별시", name, null, latitude, longitude, Double.NaN, Double.NaN);
+    }
+}
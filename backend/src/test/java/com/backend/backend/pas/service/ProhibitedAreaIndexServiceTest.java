@@ -0,0 +1,60 @@
+package com.backend.backend.pas.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.backend.backend.config.ParkingStopIndexProperties;
+import com.backend.backend.pas.entity.ProhibitedAreaRow;
+import com.backend.backend.pas.index.ProhibitedAreaIndex;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+// Rows with unusable coordinates are kept out of the index (and counted) the same way as for the lot index.
+class ProhibitedAreaIndexServiceTest {
+
+    @Test
+    void rowsOutsideTheServiceAreaAreSkippedAndCounted() {
+        ProhibitedAreaIngestionJob ingestionJob = mock(ProhibitedAreaIngestionJob.class);
+        ProhibitedAreaStore store = mock(ProhibitedAreaStore.class);
+        when(store.findAll()).thenReturn(List.of());
+        when(ingestionJob.ingest()).thenReturn(List.of(
+                row("정상", 37.5, 127.0, 37.5005, 127.0005),
+                row("좌표 없음", null, null, null, null),
+                row("0/0", 0.0, 0.0, null, null),
+                row("위경도 뒤바뀜", 127.0, 37.5, null, null),
+                row("NaN", Double.NaN, 127.0, null, null),
+                row("끝점만 이상", 37.6, 127.1, 0.0, 0.0),
+                row("끝점 무한대", 37.7, 127.2, Double.POSITIVE_INFINITY, 127.2)));
+        ProhibitedAreaIndexService service =
+                new ProhibitedAreaIndexService(new ParkingStopIndexProperties(), ingestionJob, store);
+
+        service.refresh();
+
+        ProhibitedAreaIndex index = service.currentIndex();
+        assertThat(index).isNotNull();
+        assertThat(index.size()).isEqualTo(3);
+        // the two rows with a bad end point are indexed as circles around their start
+        assertThat(index.polygonCount()).isEqualTo(3);
+        assertThat(index.findContaining(37.6, 127.1).getSignguNm()).isEqualTo("끝점만 이상");
+        assertThat(index.findContaining(37.7, 127.2).getSignguNm()).isEqualTo("끝점 무한대");
+        assertThat(index.findContaining(0.0, 0.0)).isNull();
+        Map<String, Object> stats = service.getStats();
+        assertThat(stats).containsEntry("rowsWithoutCoordinates", 1)
+                .containsEntry("outOfAreaRows", 3)
+                .containsEntry("outOfAreaEndPoints", 2);
+    }
+
+    private static ProhibitedAreaRow row(String name, Double latitude, Double longitude,
+                                         Double endLatitude, Double endLongitude) {
+        ProhibitedAreaRow row = new ProhibitedAreaRow();
+        row.setCtprvnNm("서울특별시");
+        row.setSignguNm(name);
+        row.setLatitude(latitude);
+        row.setLongitude(longitude);
+        row.setEndLatitude(endLatitude);
+        row.setEndLongitude(endLongitude);
+        return row;
+    }
+}
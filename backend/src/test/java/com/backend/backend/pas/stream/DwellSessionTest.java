@@ -0,0 +1,91 @@
+package com.backend.backend.pas.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+// OUTSIDE -> INSIDE -> WARNED with explicit clock values, plus the guards against stale (out-of-order) zone checks.
+class DwellSessionTest {
+    private static final long DWELL = 60_000;
+
+    @Test
+    void sameCellNeedsNoCheck() {
+        DwellSession session = new DwellSession(0);
+
+        assertThat(session.moveTo("wydm9q1", 1_000)).isEqualTo(1);
+        assertThat(session.moveTo("wydm9q1", 2_000)).isEqualTo(-1);
+        assertThat(session.moveTo("wydm9q2", 3_000)).isEqualTo(2);
+        assertThat(session.getLastSeenMillis()).isEqualTo(3_000);
+    }
+
+    @Test
+    void warningIsDueOnceAfterTheDwellTime() {
+        DwellSession session = new DwellSession(0);
+        long seq = session.moveTo("a", 0);
+
+        assertThat(session.applyCheck(seq, true, "zone-1", 0)).isEqualTo(DwellSession.Event.ENTER);
+        assertThat(session.getState()).isEqualTo(DwellSession.State.INSIDE);
+        assertThat(session.dueForWarning(DWELL - 1, DWELL)).isFalse();
+        assertThat(session.dueForWarning(DWELL, DWELL)).isTrue();
+        assertThat(session.getState()).isEqualTo(DwellSession.State.WARNED);
+        assertThat(session.dueForWarning(DWELL * 2, DWELL)).isFalse();
+        assertThat(session.staySeconds(90_000)).isEqualTo(90);
+    }
+
+    @Test
+    void stayingInTheSameZoneKeepsTheTimer() {
+        DwellSession session = new DwellSession(0);
+        session.applyCheck(session.moveTo("a", 0), true, "zone-1", 0);
+
+        // a neighbouring cell of the same zone is not a new entry
+        assertThat(session.applyCheck(session.moveTo("b", 30_000), true, "zone-1", 30_000)).isNull();
+        assertThat(session.dueForWarning(DWELL, DWELL)).isTrue();
+    }
+
+    @Test
+    void leavingResetsAndAnotherZoneRestartsTheCycle() {
+        DwellSession session = new DwellSession(0);
+        session.applyCheck(session.moveTo("a", 0), true, "zone-1", 0);
+        session.dueForWarning(DWELL, DWELL);
+
+        assertThat(session.applyCheck(session.moveTo("b", 70_000), false, null, 70_000)).isEqualTo(DwellSession.Event.EXIT);
+        assertThat(session.getState()).isEqualTo(DwellSession.State.OUTSIDE);
+        assertThat(session.getZoneKey()).isNull();
+        assertThat(session.staySeconds(80_000)).isZero();
+        // already outside: no second EXIT
+        assertThat(session.applyCheck(session.moveTo("c", 75_000), false, null, 75_000)).isNull();
+
+        // straight from one zone into another (no OUTSIDE in between) is a fresh entry with a fresh timer
+        session.applyCheck(session.moveTo("d", 100_000), true, "zone-1", 100_000);
+        assertThat(session.applyCheck(session.moveTo("e", 110_000), true, "zone-2", 110_000))
+                .isEqualTo(DwellSession.Event.ENTER);
+        assertThat(session.getZoneKey()).isEqualTo("zone-2");
+        assertThat(session.dueForWarning(100_000 + DWELL, DWELL)).isFalse();
+        assertThat(session.dueForWarning(110_000 + DWELL, DWELL)).isTrue();
+    }
+
+    @Test
+    void checksForACellAlreadyLeftAreIgnored() {
+        DwellSession session = new DwellSession(0);
+        long inZone = session.moveTo("a", 0);
+        long outside = session.moveTo("b", 1_000);
+
+        // the newer cell's answer arrives first, then the older one
+        assertThat(session.applyCheck(outside, false, null, 1_100)).isNull();
+        assertThat(session.applyCheck(inZone, true, "zone-1", 1_200)).isNull();
+        assertThat(session.getState()).isEqualTo(DwellSession.State.OUTSIDE);
+    }
+
+    @Test
+    void forgetOnlyClearsTheCurrentCell() {
+        DwellSession session = new DwellSession(0);
+        long first = session.moveTo("a", 0);
+        long second = session.moveTo("b", 1_000);
+
+        session.forget(first);
+        assertThat(session.moveTo("b", 2_000)).isEqualTo(-1);
+
+        session.forget(second);
+        assertThat(session.moveTo("b", 3_000)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,128 @@
+package com.backend.backend.useless.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// 격자로 찾은 "가장 가까운 주차장 하나"가 트리 탐색(findNearest(.., 1, ..))·전수 비교와 같은지 확인한다.
+class NearestLotGridTest {
+    private static final double MIN_LAT = 33.0;
+    private static final double MAX_LAT = 39.0;
+    private static final double MIN_LON = 124.0;
+    private static final double MAX_LON = 132.0;
+
+    @Test
+    void gridAnswerMatchesTreeAndBruteForce() {
+        ParkingLotColumns lots = ParkingLotFixtures.randomLots(20, 3000);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(lots);
+        NearestLotGrid grid = NearestLotGrid.build(tree, 0.02, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON);
+        assertThat(grid).isNotNull();
+
+        assertSameNearest(ParkingLotIndex.of(tree, grid), tree, lots, new Random(20), 2000);
+    }
+
+    @Test
+    void outOfAreaLotDoesNotStretchTheGrid() {
+        ParkingLotColumns regular = ParkingLotFixtures.randomLots(21, 1000);
+        ParkingLotColumns lots = withExtraLot(regular, "X000000", 0.0, 0.0);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(lots);
+
+        NearestLotGrid grid = NearestLotGrid.build(tree, 0.05, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON);
+
+        assertThat(grid).isNotNull();
+        assertThat(grid.cellCount()).isEqualTo(gridOf(regular).cellCount());
+        ParkingLotIndex index = ParkingLotIndex.of(tree, grid);
+        assertSameNearest(index, tree, lots, new Random(21), 1000);
+        // 격자 밖(상자 밖 주차장 근처) 질의는 트리로 찾는다.
+        assertThat(index.findNearestOne(0.001, 0.001, 0).getLot().getId()).isEqualTo("X000000");
+    }
+
+    @Test
+    void nonFiniteLotDoesNotCollapseTheGrid() {
+        ParkingLotColumns regular = ParkingLotFixtures.randomLots(23, 1000);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(withExtraLot(regular, "X000001", Double.NaN, Double.NaN));
+
+        NearestLotGrid grid = NearestLotGrid.build(tree, 0.05, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON);
+
+        assertThat(grid).isNotNull();
+        assertThat(grid.cellCount()).isEqualTo(gridOf(regular).cellCount()).isGreaterThan(1);
+    }
+
+    @Test
+    void nonFiniteQueryFallsBackToTheTree() {
+        ParkingLotKdTree tree = ParkingLotKdTree.build(ParkingLotFixtures.randomLots(22, 500));
+        NearestLotGrid grid = NearestLotGrid.build(tree, 0.02, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON);
+        NearestSearch search = new NearestSearch(Double.NaN, Double.NaN, 1, 0, Double.NEGATIVE_INFINITY, null);
+
+        assertThat(grid.offerCandidates(search, null)).isFalse();
+        assertThat(grid.offerCandidates(
+                new NearestSearch(1.0e12, -1.0e12, 1, 0, Double.NEGATIVE_INFINITY, null), null)).isFalse();
+    }
+
+    @Test
+    void tooManyCellsDisablesTheGrid() {
+        ParkingLotColumns.Builder builder = ParkingLotColumns.builder();
+        builder.add("A", "남서", null, null, null, MIN_LAT, MIN_LON);
+        builder.add("B", "북동", null, null, null, MAX_LAT, MAX_LON);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(builder.build());
+
+        assertThat(NearestLotGrid.build(tree, 0.0001, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON)).isNull();
+        assertThat(NearestLotGrid.build(tree, 0.05, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON)).isNotNull();
+    }
+
+    @Test
+    void noLotsInsideTheAreaDisablesTheGrid() {
+        ParkingLotColumns.Builder builder = ParkingLotColumns.builder();
+        builder.add("A", "원점", null, null, null, 0.0, 0.0);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(builder.build());
+
+        assertThat(NearestLotGrid.build(tree, 0.05, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON)).isNull();
+    }
+
+    private static ParkingLotColumns withExtraLot(ParkingLotColumns lots, String id, double latitude, double longitude) {
+        ParkingLotColumns.Builder builder = ParkingLotColumns.builder();
+        for (int row = 0; row < lots.size(); row++) {
+            builder.addRow(lots, row);
+        }
+        builder.add(id, "상자 밖", null, null, null, latitude, longitude);
+        return builder.build();
+    }
+
+    private static NearestLotGrid gridOf(ParkingLotColumns lots) {
+        return NearestLotGrid.build(ParkingLotKdTree.build(lots), 0.05, MIN_LAT, MAX_LAT, MIN_LON, MAX_LON);
+    }
+
+    private static void assertSameNearest(ParkingLotIndex index, ParkingLotKdTree tree, ParkingLotColumns lots,
+                                          Random random, double radius) {
+        for (int q = 0; q < 500; q++) {
+            // 절반은 주차장 바로 옆(셀 경계·동점 근처), 나머지는 넓은 범위(격자 밖 포함)
+            double latitude;
+            double longitude;
+            if (q % 2 == 0) {
+                int row = random.nextInt(lots.size());
+                latitude = lots.latitude(row) + random.nextGaussian() * 0.005;
+                longitude = lots.longitude(row) + random.nextGaussian() * 0.005;
+            } else {
+                latitude = 32.5 + random.nextDouble() * 7.0;
+                longitude = 125.5 + random.nextDouble() * 5.0;
+            }
+            double maxRadius = q % 3 == 0 ? radius : 0;
+
+            List<ParkingLotFixtures.Expected> expected = ParkingLotFixtures.bruteForce(lots, latitude, longitude, 1,
+                    maxRadius, Double.NEGATIVE_INFINITY, null);
+            List<ParkingLotFixtures.Expected> fromTree =
+                    ParkingLotFixtures.actual(tree.findNearest(latitude, longitude, 1, maxRadius));
+            ParkingLotKdTree.Neighbor one = index.findNearestOne(latitude, longitude, maxRadius);
+
+            assertThat(fromTree).isEqualTo(expected);
+            if (expected.isEmpty()) {
+                assertThat(one).isNull();
+            } else {
+                assertThat(new ParkingLotFixtures.Expected(one.getLot().getId(), one.getDistanceMeters()))
+                        .isEqualTo(expected.get(0));
+            }
+        }
+    }
+}
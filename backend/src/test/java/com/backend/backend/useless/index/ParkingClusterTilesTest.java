@@ -0,0 +1,51 @@
+package com.backend.backend.useless.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// 증분 갱신(apply)한 피라미드가 같은 데이터로 전체 재빌드한 피라미드와 같은 타일(ETag)을 내는지 확인한다.
+class ParkingClusterTilesTest {
+
+    @Test
+    void applyMatchesRebuild() {
+        ParkingLotColumns before = ParkingLotFixtures.randomLots(22, 2000);
+        ParkingClusterTiles tiles = new ParkingClusterTiles(12, 8);
+        tiles.rebuild(before);
+
+        // 앞쪽 100행을 지우고 다음 100행은 옮긴다.
+        ParkingLotColumns.Builder builder = ParkingLotColumns.builder();
+        List<String> deleted = new ArrayList<>();
+        List<Integer> upserts = new ArrayList<>();
+        for (int row = 0; row < before.size(); row++) {
+            if (row < 100) {
+                deleted.add(before.id(row));
+                continue;
+            }
+            if (row < 200) {
+                upserts.add(builder.size());
+                builder.add(before.id(row), before.name(row), before.address(row), before.region1(row),
+                        before.region2(row), before.latitude(row) + 0.05, before.longitude(row) - 0.05);
+            } else {
+                builder.addRow(before, row);
+            }
+        }
+        ParkingLotColumns after = builder.build();
+        tiles.apply(after, upserts.stream().mapToInt(Integer::intValue).toArray(), deleted);
+
+        ParkingClusterTiles rebuilt = new ParkingClusterTiles(12, 8);
+        rebuilt.rebuild(after);
+
+        assertThat(tiles.lotCount()).isEqualTo(after.size());
+        assertThat(tiles.cellCount()).isEqualTo(rebuilt.cellCount());
+        // 서울 부근 타일을 줌마다 비교한다.
+        for (int z = 0; z <= 14; z++) {
+            int x = (int) Math.floor((126.98 + 180) / 360 * (1 << z));
+            double lat = Math.toRadians(37.55);
+            int y = (int) Math.floor((1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2 * (1 << z));
+            assertThat(tiles.tile(z, x, y).getEtag()).isEqualTo(rebuilt.tile(z, x, y).getEtag());
+        }
+    }
+}
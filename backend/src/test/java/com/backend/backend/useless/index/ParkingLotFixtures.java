@@ -0,0 +1,100 @@
+package com.backend.backend.useless.index;
+
+import com.backend.backend.common.geo.DistanceEngine;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+// 테스트용 주차장 데이터와 전수 비교(brute force) 기준 답.
+final class ParkingLotFixtures {
+    // 시도별로 떨어진 중심 주변에 모아서 샤드가 공간적으로 나뉘게 한다. null은 시도가 없는 행.
+    private static final String[] REGIONS = {"서울특별시", "경기도", "부산광역시", "제주특별자치도", null};
+    private static final double[][] CENTERS = {{37.55, 126.98}, {37.35, 127.25}, {35.15, 129.05}, {33.40, 126.55}, {36.30, 127.80}};
+
+    private ParkingLotFixtures() {
+    }
+
+    static ParkingLotColumns randomLots(long seed, int n) {
+        Random random = new Random(seed);
+        ParkingLotColumns.Builder lots = ParkingLotColumns.builder();
+        double previousLat = 0;
+        double previousLon = 0;
+        for (int i = 0; i < n; i++) {
+            int region = random.nextInt(REGIONS.length);
+            double spread = region == 4 ? 1.0 : 0.15;
+            double latitude = CENTERS[region][0] + random.nextGaussian() * spread;
+            double longitude = CENTERS[region][1] + random.nextGaussian() * spread;
+            // 같은 좌표의 행을 섞어 (거리, id) 동점 처리도 확인한다.
+            if (i > 0 && i % 50 == 0) {
+                latitude = previousLat;
+                longitude = previousLon;
+            }
+            previousLat = latitude;
+            previousLon = longitude;
+            lots.add(id(i), "주차장" + (i % 300), i % 7 == 0 ? null : "주소 " + i, REGIONS[region],
+                    region == 4 ? null : "구" + (i % 5), latitude, longitude);
+        }
+        return lots.build();
+    }
+
+    static String id(int i) {
+        return String.format("L%06d", i);
+    }
+
+    // (거리, id) 순으로 정렬한 전체 후보 중 after 뒤에서 k개. 트리와 같은 거리 함수를 쓴다.
+    static List<Expected> bruteForce(ParkingLotColumns lots, double latitude, double longitude, int k,
+                                     double maxRadiusMeters, double afterDistance, String afterId) {
+        DistanceEngine distances = DistanceEngine.from(latitude, longitude);
+        List<Expected> all = new ArrayList<>();
+        for (int row = 0; row < lots.size(); row++) {
+            double distance = distances.exactMeters(lots.latitude(row), lots.longitude(row));
+            if (maxRadiusMeters > 0 && distance > maxRadiusMeters) {
+                continue;
+            }
+            if (afterId != null) {
+                int order = Double.compare(distance, afterDistance);
+                if (order < 0 || (order == 0 && lots.id(row).compareTo(afterId) <= 0)) {
+                    continue;
+                }
+            }
+            all.add(new Expected(lots.id(row), distance));
+        }
+        all.sort(Comparator.comparingDouble((Expected expected) -> expected.distance).thenComparing(expected -> expected.id));
+        return all.subList(0, Math.min(k, all.size()));
+    }
+
+    static List<Expected> actual(List<ParkingLotKdTree.Neighbor> neighbors) {
+        List<Expected> result = new ArrayList<>(neighbors.size());
+        for (ParkingLotKdTree.Neighbor neighbor : neighbors) {
+            result.add(new Expected(neighbor.getLot().getId(), neighbor.getDistanceMeters()));
+        }
+        return result;
+    }
+
+    // 비교용 (id, 거리) 쌍
+    static final class Expected {
+        final String id;
+        final double distance;
+
+        Expected(String id, double distance) {
+            this.id = id;
+            this.distance = distance;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Expected expected && id.equals(expected.id) && distance == expected.distance;
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return id + "@" + distance;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.backend.backend.useless.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// 변경분(delta + tombstone)을 얹은 인덱스가 같은 데이터로 전체 재빌드한 인덱스와 같은 답을 내는지 확인한다.
+class ParkingLotIndexTest {
+
+    @Test
+    void withChangesMatchesFullRebuild() {
+        Random random = new Random(15);
+        ParkingLotColumns current = ParkingLotFixtures.randomLots(15, 4000);
+        ParkingLotIndex index = ParkingLotIndex.of(ParkingLotKdTree.build(current), null);
+        int nextId = current.size();
+
+        // 두 번 연속 반영해서 이전 delta 위에 다시 얹는 경우(delta 행의 갱신·삭제)도 거친다.
+        for (int round = 0; round < 2; round++) {
+            ParkingLotColumns.Builder fresh = ParkingLotColumns.builder();
+            for (int row = 0; row < current.size(); row++) {
+                int roll = random.nextInt(100);
+                if (roll < 5) {
+                    continue;
+                }
+                if (roll < 10) {
+                    fresh.add(current.id(row), current.name(row) + "*", current.address(row), current.region1(row),
+                            current.region2(row), current.latitude(row) + random.nextGaussian() * 0.01,
+                            current.longitude(row) + random.nextGaussian() * 0.01);
+                } else {
+                    fresh.addRow(current, row);
+                }
+            }
+            ParkingLotColumns inserted = ParkingLotFixtures.randomLots(100 + round, 150);
+            for (int row = 0; row < inserted.size(); row++) {
+                fresh.add(ParkingLotFixtures.id(nextId++), inserted.name(row), inserted.address(row),
+                        inserted.region1(row), inserted.region2(row), inserted.latitude(row), inserted.longitude(row));
+            }
+            ParkingLotColumns next = fresh.build();
+
+            index = applyDiff(index, next);
+            current = next;
+
+            assertThat(index.size()).isEqualTo(current.size());
+            assertThat(index.rowHashes()).isEqualTo(hashes(current));
+            assertThat(index.deltaSize()).isPositive();
+            assertThat(index.tombstoneCount()).isPositive();
+            assertSameAnswers(index, ParkingLotIndex.of(ParkingLotKdTree.build(current), null), current, random);
+        }
+    }
+
+    @Test
+    void deletingEveryRowLeavesAnEmptyIndex() {
+        ParkingLotColumns lots = ParkingLotFixtures.randomLots(3, 200);
+        ParkingLotIndex index = ParkingLotIndex.of(ParkingLotKdTree.build(lots), null);
+        List<String> ids = new ArrayList<>();
+        for (int row = 0; row < lots.size(); row++) {
+            ids.add(lots.id(row));
+        }
+
+        ParkingLotIndex emptied = index.withChanges(lots, new int[0], ids);
+
+        assertThat(emptied.size()).isZero();
+        assertThat(emptied.findNearest(37.5, 127.0, 10, 0)).isEmpty();
+        assertThat(emptied.findNearestOne(37.5, 127.0, 0)).isNull();
+        assertThat(index.size()).isEqualTo(200);
+    }
+
+    // 서비스의 갱신과 같은 방식: 행 해시가 달라졌거나 새로 생긴 행은 upsert, 사라진 id는 삭제.
+    private static ParkingLotIndex applyDiff(ParkingLotIndex index, ParkingLotColumns fresh) {
+        Map<String, Long> previous = index.rowHashes();
+        List<Integer> upserts = new ArrayList<>();
+        Map<String, Long> freshHashes = hashes(fresh);
+        for (int row = 0; row < fresh.size(); row++) {
+            Long before = previous.get(fresh.id(row));
+            if (before == null || before != fresh.rowHash(row)) {
+                upserts.add(row);
+            }
+        }
+        List<String> deleted = new ArrayList<>();
+        for (String id : previous.keySet()) {
+            if (!freshHashes.containsKey(id)) {
+                deleted.add(id);
+            }
+        }
+        return index.withChanges(fresh, upserts.stream().mapToInt(Integer::intValue).toArray(), deleted);
+    }
+
+    private static Map<String, Long> hashes(ParkingLotColumns lots) {
+        Map<String, Long> hashes = new HashMap<>();
+        for (int row = 0; row < lots.size(); row++) {
+            hashes.put(lots.id(row), lots.rowHash(row));
+        }
+        return hashes;
+    }
+
+    private static void assertSameAnswers(ParkingLotIndex changed, ParkingLotIndex rebuilt, ParkingLotColumns lots,
+                                          Random random) {
+        for (int q = 0; q < 60; q++) {
+            double latitude = 33.2 + random.nextDouble() * 4.6;
+            double longitude = 126.2 + random.nextDouble() * 3.2;
+            double radius = q % 3 == 0 ? 0 : (q % 3 == 1 ? 3000 : 60000);
+            int k = 1 + random.nextInt(40);
+
+            List<ParkingLotFixtures.Expected> expected =
+                    ParkingLotFixtures.bruteForce(lots, latitude, longitude, k, radius, Double.NEGATIVE_INFINITY, null);
+            assertThat(ParkingLotFixtures.actual(changed.findNearest(latitude, longitude, k, radius))).isEqualTo(expected);
+            assertThat(ParkingLotFixtures.actual(rebuilt.findNearest(latitude, longitude, k, radius))).isEqualTo(expected);
+
+            ParkingLotKdTree.Neighbor one = changed.findNearestOne(latitude, longitude, radius);
+            if (expected.isEmpty()) {
+                assertThat(one).isNull();
+            } else {
+                assertThat(one.getLot().getId()).isEqualTo(expected.get(0).id);
+            }
+
+            if (expected.size() == k) {
+                ParkingLotFixtures.Expected last = expected.get(k - 1);
+                assertThat(ParkingLotFixtures.actual(
+                        changed.findNearestAfter(latitude, longitude, k, radius, last.distance, last.id)))
+                        .isEqualTo(ParkingLotFixtures.bruteForce(lots, latitude, longitude, k, radius, last.distance, last.id));
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.backend.backend.useless.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+// 샤드로 나뉜 KD-트리의 최근접 탐색과 (거리, id) 커서 페이지네이션이 전수 비교와 같은 답을 내는지 확인한다.
+class ParkingLotKdTreeTest {
+
+    @Test
+    void findNearestMatchesBruteForce() {
+        ParkingLotColumns lots = ParkingLotFixtures.randomLots(19, 5000);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(lots);
+        assertThat(tree.shardCount()).isGreaterThan(1);
+        Random random = new Random(19);
+
+        for (int q = 0; q < 200; q++) {
+            double latitude = 33.0 + random.nextDouble() * 5.0;
+            double longitude = 126.0 + random.nextDouble() * 3.5;
+            double radius = q % 4 == 0 ? 0 : (q % 4 == 1 ? 2000 : (q % 4 == 2 ? 20000 : 150000));
+            int k = q % 5 == 0 ? 1 : 1 + random.nextInt(120);
+
+            assertThat(ParkingLotFixtures.actual(tree.findNearest(latitude, longitude, k, radius)))
+                    .isEqualTo(ParkingLotFixtures.bruteForce(lots, latitude, longitude, k, radius,
+                            Double.NEGATIVE_INFINITY, null));
+        }
+    }
+
+    @Test
+    void pagingWithCursorWalksTheWholeOrder() {
+        ParkingLotColumns lots = ParkingLotFixtures.randomLots(20, 3000);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(lots);
+        Random random = new Random(20);
+
+        for (int q = 0; q < 20; q++) {
+            double latitude = 33.0 + random.nextDouble() * 5.0;
+            double longitude = 126.0 + random.nextDouble() * 3.5;
+            double radius = q % 2 == 0 ? 0 : 30000;
+            int pageSize = 1 + random.nextInt(60);
+            int total = 300;
+
+            List<ParkingLotFixtures.Expected> expected = ParkingLotFixtures.bruteForce(lots, latitude, longitude, total,
+                    radius, Double.NEGATIVE_INFINITY, null);
+            List<ParkingLotFixtures.Expected> paged = new ArrayList<>();
+            double afterDistance = Double.NEGATIVE_INFINITY;
+            String afterId = null;
+            while (paged.size() < total) {
+                List<ParkingLotFixtures.Expected> page = ParkingLotFixtures.actual(
+                        tree.findNearestAfter(latitude, longitude, pageSize, radius, afterDistance, afterId));
+                if (page.isEmpty()) {
+                    break;
+                }
+                paged.addAll(page);
+                ParkingLotFixtures.Expected last = page.get(page.size() - 1);
+                afterDistance = last.distance;
+                afterId = last.id;
+            }
+
+            assertThat(paged.subList(0, Math.min(total, paged.size()))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void fanOutAcrossShardsMatchesSequentialSearch() {
+        ParkingLotColumns lots = ParkingLotFixtures.randomLots(21, 40000);
+        ParkingLotKdTree tree = ParkingLotKdTree.build(lots);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParkingLotIndex parallel = ParkingLotIndex.of(tree, null, pool);
+            ParkingLotIndex sequential = ParkingLotIndex.of(tree, null);
+            Random random = new Random(21);
+
+            // 깊은 페이지로 갈수록 k번째 거리가 커져 여러 시도 샤드에 걸치므로 병렬 경로를 탄다.
+            for (int q = 0; q < 12; q++) {
+                double latitude = 34.5 + random.nextDouble() * 3.0;
+                double longitude = 126.5 + random.nextDouble() * 2.5;
+                double radius = q % 2 == 0 ? 0 : 150000;
+                int k = 100 + random.nextInt(400);
+                double afterDistance = Double.NEGATIVE_INFINITY;
+                String afterId = null;
+                for (int page = 0; page < 20; page++) {
+                    List<ParkingLotFixtures.Expected> expected = ParkingLotFixtures.actual(
+                            sequential.findNearestAfter(latitude, longitude, k, radius, afterDistance, afterId));
+                    assertThat(ParkingLotFixtures.actual(
+                            parallel.findNearestAfter(latitude, longitude, k, radius, afterDistance, afterId)))
+                            .isEqualTo(expected);
+                    if (expected.isEmpty()) {
+                        break;
+                    }
+                    ParkingLotFixtures.Expected last = expected.get(expected.size() - 1);
+                    afterDistance = last.distance;
+                    afterId = last.id;
+                }
+            }
+            assertThat(pool.getPoolSize()).isPositive();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void narrowSearchStaysOnTheCallingThread() {
+        ParkingLotKdTree tree = ParkingLotKdTree.build(ParkingLotFixtures.randomLots(22, 40000));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParkingLotIndex parallel = ParkingLotIndex.of(tree, null, pool);
+            for (int q = 0; q < 50; q++) {
+                parallel.findNearest(37.55 + q * 0.001, 126.98, 5, 0);
+            }
+            assertThat(pool.getPoolSize()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void tiesOnTheSameCoordinateAreOrderedById() {
+        ParkingLotColumns.Builder builder = ParkingLotColumns.builder();
+        for (int i = 9; i >= 0; i--) {
+            builder.add(ParkingLotFixtures.id(i), "주차장", null, i % 2 == 0 ? "서울특별시" : "경기도", null, 37.5, 127.0);
+        }
+        ParkingLotColumns lots = builder.build();
+        ParkingLotKdTree tree = ParkingLotKdTree.build(lots);
+
+        List<ParkingLotFixtures.Expected> first = ParkingLotFixtures.actual(tree.findNearest(37.5001, 127.0, 4, 0));
+        ParkingLotFixtures.Expected last = first.get(first.size() - 1);
+        List<ParkingLotFixtures.Expected> second = ParkingLotFixtures.actual(
+                tree.findNearestAfter(37.5001, 127.0, 4, 0, last.distance, last.id));
+
+        assertThat(first).extracting(expected -> expected.id)
+                .containsExactly("L000000", "L000001", "L000002", "L000003");
+        assertThat(second).extracting(expected -> expected.id)
+                .containsExactly("L000004", "L000005", "L000006", "L000007");
+    }
+
+    @Test
+    void emptyTreeAndNonPositiveKReturnNothing() {
+        assertThat(ParkingLotKdTree.build(ParkingLotColumns.builder().build()).findNearest(37.5, 127.0, 5, 0)).isEmpty();
+        assertThat(ParkingLotKdTree.build(ParkingLotFixtures.randomLots(1, 100)).findNearest(37.5, 127.0, 0, 0)).isEmpty();
+    }
+}
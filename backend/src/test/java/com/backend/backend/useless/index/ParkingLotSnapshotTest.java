@@ -0,0 +1,174 @@
+package com.backend.backend.useless.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParkingLotSnapshotTest {
+    // header: magic(4) version(4) builtAt(8) rowCount(4) payloadLength(8) crc32(8)
+    private static final int VERSION_OFFSET = 4;
+    private static final int BUILT_AT_OFFSET = 8;
+    private static final int ROW_COUNT_OFFSET = 16;
+    private static final int HEADER_BYTES = 36;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripRestoresRowsShardsAndSearchResults() throws IOException {
+        ParkingLotKdTree tree = ParkingLotKdTree.build(ParkingLotFixtures.randomLots(14, 3000));
+        Path path = dir.resolve("lots.snapshot");
+
+        ParkingLotSnapshot.write(tree, path);
+        ParkingLotKdTree restored = ParkingLotSnapshot.read(path);
+
+        assertThat(restored.getBuiltAtMillis()).isEqualTo(tree.getBuiltAtMillis());
+        assertThat(restored.getShardStarts()).containsExactly(tree.getShardStarts());
+        ParkingLotColumns expected = tree.getColumns();
+        ParkingLotColumns actual = restored.getColumns();
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int row = 0; row < expected.size(); row++) {
+            assertThat(actual.id(row)).isEqualTo(expected.id(row));
+            assertThat(actual.name(row)).isEqualTo(expected.name(row));
+            assertThat(actual.address(row)).isEqualTo(expected.address(row));
+            assertThat(actual.region1(row)).isEqualTo(expected.region1(row));
+            assertThat(actual.region2(row)).isEqualTo(expected.region2(row));
+            assertThat(actual.latitude(row)).isEqualTo(expected.latitude(row));
+            assertThat(actual.longitude(row)).isEqualTo(expected.longitude(row));
+        }
+        assertThat(ParkingLotFixtures.actual(restored.findNearest(37.5, 127.0, 25, 0)))
+                .isEqualTo(ParkingLotFixtures.actual(tree.findNearest(37.5, 127.0, 25, 0)));
+    }
+
+    @Test
+    void roundTripOfEmptyTree() throws IOException {
+        ParkingLotKdTree tree = ParkingLotKdTree.build(ParkingLotColumns.builder().build());
+        Path path = dir.resolve("empty.snapshot");
+
+        ParkingLotSnapshot.write(tree, path);
+
+        assertThat(ParkingLotSnapshot.read(path).size()).isZero();
+    }
+
+    @Test
+    void rejectsCorruptedPayload() throws IOException {
+        Path path = writeSnapshot();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[HEADER_BYTES + 100] ^= 0x5A;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void rejectsWrongMagic() throws IOException {
+        Path path = writeSnapshot();
+        overwriteInt(path, 0, 0x12345678);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("not a parking lot snapshot");
+    }
+
+    @Test
+    void rejectsOtherFormatVersion() throws IOException {
+        Path path = writeSnapshot();
+        overwriteInt(path, VERSION_OFFSET, ParkingLotSnapshot.FORMAT_VERSION + 1);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("unsupported snapshot version");
+    }
+
+    @Test
+    void rejectsOlderFormatVersion() throws IOException {
+        Path path = writeSnapshot();
+        overwriteInt(path, VERSION_OFFSET, 1);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("unsupported snapshot version 1");
+    }
+
+    @Test
+    void rejectsRowCountThatDoesNotFitThePayload() throws IOException {
+        Path path = writeSnapshot();
+        overwriteInt(path, ROW_COUNT_OFFSET, Integer.MAX_VALUE);
+
+        // 배열을 잡기 전에 거부하므로 OutOfMemoryError가 아니라 IOException이다.
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("does not fit the payload");
+    }
+
+    @Test
+    void rejectsNegativeRowCount() throws IOException {
+        Path path = writeSnapshot();
+        overwriteInt(path, ROW_COUNT_OFFSET, -1);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("does not fit the payload");
+    }
+
+    @Test
+    void checksumCoversHeaderFields() throws IOException {
+        Path path = writeSnapshot();
+        overwriteInt(path, ROW_COUNT_OFFSET, 499);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+
+        Path other = writeSnapshot();
+        overwriteInt(other, BUILT_AT_OFFSET, 0x7F000000);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(other))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path path = writeSnapshot();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+        }
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("length mismatch");
+    }
+
+    @Test
+    void rejectsFileShorterThanHeader() throws IOException {
+        Path path = dir.resolve("short.snapshot");
+        Files.write(path, new byte[HEADER_BYTES - 1]);
+
+        assertThatThrownBy(() -> ParkingLotSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("too short");
+    }
+
+    private Path writeSnapshot() throws IOException {
+        Path path = dir.resolve("lots.snapshot");
+        ParkingLotSnapshot.write(ParkingLotKdTree.build(ParkingLotFixtures.randomLots(7, 500)), path);
+        return path;
+    }
+
+    private static void overwriteInt(Path path, int offset, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, value), offset);
+        }
+    }
+}
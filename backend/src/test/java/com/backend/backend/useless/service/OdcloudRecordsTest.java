@@ -0,0 +1,109 @@
+package com.backend.backend.useless.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// Field mapping of odcloud rows: candidate keys by priority (whatever their order in the row), values that count as
+// missing, rows whose key layout changes mid-response, and the page envelope.
+class OdcloudRecordsTest {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    @Test
+    void koreanAndEnglishKeysMapToTheSameFields() throws IOException {
+        List<String> rows = new ArrayList<>();
+        OdcloudRecords.Page page = read("""
+                {"currentCount": 2, "data": [
+                  {"주차장관리번호": "123-1", "주차장명": "시청 공영", "주차장도로명주소": "서울 중구 세종대로 110",
+                   "지역구분": "서울특별시", "지역구분_sub": "중구", "위도": "37.5663", "경도": "126.9779"},
+                  {"prkplceNo": "456-2", "prkplceNm": "역전", "rdnmadr": "부산 동구 중앙대로 206",
+                   "ctprvnNm": "부산광역시", "signguNm": "동구", "latitude": 35.1151, "longitude": 129.0422}
+                ], "totalCount": 2}
+                """, rows);
+
+        assertThat(rows).containsExactly(
+                "123-1|시청 공영|서울 중구 세종대로 110|서울특별시|중구|37.5663,126.9779",
+                "456-2|역전|부산 동구 중앙대로 206|부산광역시|동구|35.1151,129.0422");
+        assertThat(page.getTotalCount()).isEqualTo(2);
+        assertThat(page.getRecords()).isEqualTo(2);
+        assertThat(page.hasData()).isTrue();
+    }
+
+    @Test
+    void higherPriorityKeyWinsWhereverItAppears() throws IOException {
+        List<String> rows = new ArrayList<>();
+        read("""
+                {"data": [
+                  {"lnmadr": "지번 주소", "주차장도로명주소": "도로명 주소", "y": 1.0, "위도": 37.5, "경도": 127.0},
+                  {"주차장도로명주소": "도로명 주소", "lnmadr": "지번 주소", "위도": 37.5, "y": 1.0, "경도": 127.0}
+                ]}
+                """, rows);
+
+        assertThat(rows).containsExactly("null|null|도로명 주소|null|null|37.5,127.0",
+                "null|null|도로명 주소|null|null|37.5,127.0");
+    }
+
+    @Test
+    void blankNullAndUnparsableValuesFallThroughToTheNextKey() throws IOException {
+        List<String> rows = new ArrayList<>();
+        read("""
+                {"data": [
+                  {"주차장도로명주소": "  ", "주차장지번주소": " 지번 12 ", "주차장명": null, "pkltNm": "대체 이름",
+                   "위도": "abc", "lat": "", "latitude": "37.25", "경도": null, "x": 127.5}
+                ]}
+                """, rows);
+
+        assertThat(rows).containsExactly("null|대체 이름|지번 12|null|null|37.25,127.5");
+    }
+
+    @Test
+    void eachRowStartsEmptyAndChangingLayoutsAreReadCorrectly() throws IOException {
+        List<String> rows = new ArrayList<>();
+        read("""
+                {"data": [
+                  {"주차장명": "첫째", "위도": 37.0, "경도": 127.0, "extra": {"nested": [1, 2]}},
+                  {"위도": 36.0, "주차장명": "둘째"},
+                  {"tags": ["a", "b"], "주차장명": "셋째", "주차장관리번호": "3", "위도": 35.0, "경도": 128.0},
+                  "not an object",
+                  {"주차장명": "넷째", "위도": 34.0, "경도": 129.0}
+                ]}
+                """, rows);
+
+        assertThat(rows).containsExactly(
+                "null|첫째|null|null|null|37.0,127.0",
+                "null|둘째|null|null|null|no coordinates",
+                "3|셋째|null|null|null|35.0,128.0",
+                "null|넷째|null|null|null|34.0,129.0");
+    }
+
+    @Test
+    void envelopeVariants() throws IOException {
+        List<String> rows = new ArrayList<>();
+
+        OdcloudRecords.Page items = read("{\"page\": 1, \"items\": [{\"주차장명\": \"가\"}], \"records\": [{\"주차장명\": \"나\"}]}", rows);
+        assertThat(rows).containsExactly("null|가|null|null|null|no coordinates");
+        assertThat(items.getTotalCount()).isEqualTo(-1);
+
+        OdcloudRecords.Page noData = read("{\"totalCount\": 0, \"message\": \"no data\"}", rows);
+        assertThat(noData.hasData()).isFalse();
+        assertThat(noData.getTotalCount()).isZero();
+
+        OdcloudRecords.Page notAnObject = read("[1, 2, 3]", rows);
+        assertThat(notAnObject.hasData()).isFalse();
+        assertThat(notAnObject.getRecords()).isZero();
+    }
+
+    private static OdcloudRecords.Page read(String body, List<String> rows) throws IOException {
+        return OdcloudRecords.read(FACTORY, body, record -> rows.add(String.join("|",
+                String.valueOf(record.text(OdcloudRecords.ID)),
+                String.valueOf(record.text(OdcloudRecords.NAME)),
+                String.valueOf(record.text(OdcloudRecords.ADDRESS)),
+                String.valueOf(record.text(OdcloudRecords.REGION1)),
+                String.valueOf(record.text(OdcloudRecords.REGION2)),
+                record.hasCoordinates() ? record.latitude() + "," + record.longitude() : "no coordinates")));
+    }
+}
@@ -0,0 +1,61 @@
+package com.backend.backend.useless.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.backend.useless.service.VoiceIntentEngine.Intent;
+import org.junit.jupiter.api.Test;
+
+// 키워드 오토마톤의 매칭(공백·대소문자 무시, 실패 링크)과 의도 우선순위·주차 단어 조건을 확인한다.
+class VoiceIntentEngineTest {
+    private final VoiceIntentEngine engine = new VoiceIntentEngine();
+
+    @Test
+    void plainParkingRequestsAskForTheNearestLot() {
+        assertThat(intent("근처 주차장 알려줘")).isEqualTo(Intent.NEAREST_PARKING);
+        assertThat(intent("주 차 장 어디")).isEqualTo(Intent.NEAREST_PARKING);
+        assertThat(intent("PARKING near me")).isEqualTo(Intent.NEAREST_PARKING);
+    }
+
+    @Test
+    void higherPriorityIntentsWinWhenSeveralMatch() {
+        VoiceIntentEngine.Classification stop = engine.classify("여기 주차해도 돼?");
+        assertThat(stop.getIntent()).isEqualTo(Intent.STOP_ALLOWED);
+        assertThat(stop.mentions(Intent.NEAREST_PARKING)).isTrue();
+
+        assertThat(intent("즐겨찾기 주차장으로 가자")).isEqualTo(Intent.NAVIGATE_FAVORITE);
+        assertThat(intent("무료 주차장")).isEqualTo(Intent.FREE_PARKING);
+        assertThat(intent("24시 주차장")).isEqualTo(Intent.OPEN_24H);
+        assertThat(intent("제일 싼 주차장")).isEqualTo(Intent.CHEAPEST_PARKING);
+    }
+
+    @Test
+    void filterWordsNeedAParkingWord() {
+        VoiceIntentEngine.Classification store = engine.classify("24시 편의점 어디야");
+        assertThat(store.getIntent()).isNull();
+        assertThat(store.mentions(Intent.OPEN_24H)).isTrue();
+        assertThat(intent("무료 와이파이")).isNull();
+    }
+
+    @Test
+    void keywordsAreFoundAfterAPartialMatchFails() {
+        // "주주차장": 두 번째 "주"에서 실패 링크로 돌아가 "주차장"을 다시 잡아야 한다.
+        assertThat(intent("주주차장")).isEqualTo(Intent.NEAREST_PARKING);
+        assertThat(intent("파파킹")).isEqualTo(Intent.NEAREST_PARKING);
+        // 키워드 안에 다른 키워드가 끝나는 경우(주차금지 ⊃ 주차)
+        VoiceIntentEngine.Classification banned = engine.classify("주차금지 구역이야?");
+        assertThat(banned.getIntent()).isEqualTo(Intent.STOP_ALLOWED);
+        assertThat(banned.mentions(Intent.NEAREST_PARKING)).isTrue();
+    }
+
+    @Test
+    void otherCharactersBreakAKeyword() {
+        assertThat(intent("주!차")).isNull();
+        assertThat(intent("날씨 알려줘")).isNull();
+        assertThat(intent("")).isNull();
+        assertThat(engine.classify(null).getIntent()).isNull();
+    }
+
+    private Intent intent(String transcript) {
+        return engine.classify(transcript).getIntent();
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.backend.useless.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backend.backend.favorite.service.FavoriteService;
+import com.backend.backend.pas.service.ParkingStopCheckService;
+import com.backend.backend.useless.dto.ParkingCandidateDto;
+import com.backend.backend.useless.dto.VoiceGuideRequestDto;
+import com.backend.backend.useless.dto.VoiceGuideResponseDto;
+import org.junit.jupiter.api.Test;
+
+// 요금·운영시간 조건 요청은 가까운 주차장으로 바꿔 답하지 않고 지원하지 않는다고 답한다.
+class VoiceParkingGuideServiceImplTest {
+    private final PublicParkingApiService publicParkingApiService = mock(PublicParkingApiService.class);
+    private final VoiceParkingGuideServiceImpl service = new VoiceParkingGuideServiceImpl(publicParkingApiService,
+            mock(ParkingStopCheckService.class), mock(FavoriteService.class), new VoiceIntentEngine());
+
+    @Test
+    void filterRequestsAreAnsweredAsUnsupported() {
+        for (String transcript : new String[]{"무료 주차장 찾아줘", "24시간 하는 주차장", "제일 싼 주차장"}) {
+            VoiceGuideResponseDto response = service.guide(new VoiceGuideRequestDto(transcript, 37.5, 127.0), null);
+
+            assertThat(response.getMatchedIntent()).as(transcript).isEqualTo("UNSUPPORTED_FILTER");
+            assertThat(response.getNavigationMessage()).contains("지원하지 않습니다");
+            assertThat(response.getTargetParking()).isNull();
+        }
+        verifyNoInteractions(publicParkingApiService);
+    }
+
+    @Test
+    void plainRequestsGoToTheNearestLot() {
+        ParkingCandidateDto nearest = new ParkingCandidateDto("시청 공영주차장", 37.5, 127.0, 120.0);
+        when(publicParkingApiService.findNearestParking(37.5, 127.0)).thenReturn(nearest);
+
+        VoiceGuideResponseDto response = service.guide(new VoiceGuideRequestDto("가까운 주차장", 37.5, 127.0), null);
+
+        assertThat(response.getMatchedIntent()).isEqualTo("PARKING_NAVIGATION");
+        assertThat(response.getTargetParking()).isSameAs(nearest);
+    }
+}